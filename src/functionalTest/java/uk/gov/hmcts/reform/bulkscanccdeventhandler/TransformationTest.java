@@ -6,7 +6,6 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.test.context.TestPropertySource;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
-import uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.services.ExceptionRecordToCaseTransformer;
 
 import java.util.Map;
 
@@ -36,15 +35,15 @@ public class TransformationTest {
         assertSoftly(softly -> {
             softly.assertThat(transformationResponse.getList("warnings")).isEmpty();
             softly.assertThat(transformationResponse.getMap("case_creation_details").get("case_type_id"))
-                .isEqualTo(ExceptionRecordToCaseTransformer.CASE_TYPE_ID);
+                .isEqualTo("Bulk_Scanned");
             softly.assertThat(transformationResponse.getMap("case_creation_details").get("event_id"))
-                .isEqualTo(ExceptionRecordToCaseTransformer.EVENT_ID);
+                .isEqualTo("createCase");
 
             Map<String, Object> caseData = (Map<String, Object>) transformationResponse
                 .getMap("case_creation_details")
                 .get("case_data");
 
-            softly.assertThat(caseData.get("email")).isEqualTo("non-empty-email");
+            softly.assertThat(caseData.get("email")).isEqualTo("non-empty-email@example.com");
 
             softly.assertAll();
         });
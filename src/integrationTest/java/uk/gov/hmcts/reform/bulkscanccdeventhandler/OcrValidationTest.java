@@ -100,7 +100,8 @@ class OcrValidationTest {
                     "contact_number is missing",
                     "post_code is missing",
                     "email is missing",
-                    "date_of_birth is missing"
+                    "date_of_birth is missing",
+                    "at least one of email or contact_number should be provided"
                 )
             ));
     }
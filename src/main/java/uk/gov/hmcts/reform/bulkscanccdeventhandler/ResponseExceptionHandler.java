@@ -2,26 +2,38 @@ package uk.gov.hmcts.reform.bulkscanccdeventhandler;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.servlet.mvc.method.annotation.ResponseEntityExceptionHandler;
 import uk.gov.hmcts.reform.authorisation.exceptions.InvalidTokenException;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.common.RequestQueueFullException;
 import uk.gov.hmcts.reform.bulkscanccdeventhandler.common.auth.ForbiddenException;
 import uk.gov.hmcts.reform.bulkscanccdeventhandler.common.auth.UnauthenticatedException;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.common.validation.InvalidRequestException;
 import uk.gov.hmcts.reform.bulkscanccdeventhandler.ocrvalidation.services.exceptions.FormNotFoundException;
 import uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.model.out.ErrorResponse;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.services.CaseSubmissionException;
 import uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.services.InvalidExceptionRecordException;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.services.TooManyCaseSubmissionsException;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.services.TransformationJobNotFoundException;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.services.TransformationQueueFullException;
 
 import static java.util.Collections.emptyList;
+import static org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type.SERVLET;
+import static org.springframework.http.HttpStatus.BAD_GATEWAY;
+import static org.springframework.http.HttpStatus.BAD_REQUEST;
 import static org.springframework.http.HttpStatus.FORBIDDEN;
 import static org.springframework.http.HttpStatus.INTERNAL_SERVER_ERROR;
 import static org.springframework.http.HttpStatus.NOT_FOUND;
+import static org.springframework.http.HttpStatus.SERVICE_UNAVAILABLE;
 import static org.springframework.http.HttpStatus.UNAUTHORIZED;
 import static org.springframework.http.HttpStatus.UNPROCESSABLE_ENTITY;
 import static org.springframework.http.ResponseEntity.status;
 
 @ControllerAdvice
+@ConditionalOnWebApplication(type = SERVLET)
 public class ResponseExceptionHandler extends ResponseEntityExceptionHandler {
 
     private static final Logger log = LoggerFactory.getLogger(ResponseExceptionHandler.class);
@@ -50,11 +62,47 @@ public class ResponseExceptionHandler extends ResponseEntityExceptionHandler {
         return status(FORBIDDEN).body("S2S token is not authorized to use the service");
     }
 
+    @ExceptionHandler(InvalidRequestException.class)
+    protected ResponseEntity<Void> handleInvalidRequestException(InvalidRequestException exc) {
+        log.warn(exc.getMessage());
+        return status(BAD_REQUEST).build();
+    }
+
     @ExceptionHandler(InvalidExceptionRecordException.class)
     protected ResponseEntity<ErrorResponse> handleInvalidExceptionRecord(InvalidExceptionRecordException exc) {
         return status(UNPROCESSABLE_ENTITY).body(new ErrorResponse(exc.getErrors(), emptyList()));
     }
 
+    @ExceptionHandler(TransformationJobNotFoundException.class)
+    protected ResponseEntity<String> handleTransformationJobNotFound(TransformationJobNotFoundException exc) {
+        log.warn(exc.getMessage());
+        return status(NOT_FOUND).body(exc.getMessage());
+    }
+
+    @ExceptionHandler(TransformationQueueFullException.class)
+    protected ResponseEntity<String> handleTransformationQueueFull(TransformationQueueFullException exc) {
+        log.warn(exc.getMessage());
+        return status(SERVICE_UNAVAILABLE).body(exc.getMessage());
+    }
+
+    @ExceptionHandler(RequestQueueFullException.class)
+    protected ResponseEntity<String> handleRequestQueueFull(RequestQueueFullException exc) {
+        log.warn(exc.getMessage());
+        return status(SERVICE_UNAVAILABLE).body(exc.getMessage());
+    }
+
+    @ExceptionHandler(TooManyCaseSubmissionsException.class)
+    protected ResponseEntity<String> handleTooManyCaseSubmissions(TooManyCaseSubmissionsException exc) {
+        log.warn(exc.getMessage());
+        return status(SERVICE_UNAVAILABLE).body(exc.getMessage());
+    }
+
+    @ExceptionHandler(CaseSubmissionException.class)
+    protected ResponseEntity<String> handleCaseSubmissionException(CaseSubmissionException exc) {
+        log.error(exc.getMessage(), exc);
+        return status(BAD_GATEWAY).body(exc.getMessage());
+    }
+
     @ExceptionHandler(Exception.class)
     protected ResponseEntity<Void> handleInternalException(Exception exc) {
         log.error(exc.getMessage(), exc);
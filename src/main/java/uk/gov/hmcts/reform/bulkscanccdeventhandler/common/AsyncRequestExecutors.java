@@ -0,0 +1,90 @@
+package uk.gov.hmcts.reform.bulkscanccdeventhandler.common;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.PreDestroy;
+
+/**
+ * Thread pools of the asynchronous controllers, sized independently of each other and of Tomcat.
+ *
+ * <p>Calls to the S2S API spend most of their time waiting for a response, so they run on a pool
+ * which can be large. Validation and transformation keep a thread busy, so they run on a pool which
+ * should not be larger than the number of processors.
+ *
+ * <p>Both pools have bounded queues. When a queue is full the request is rejected
+ * with {@link RequestQueueFullException} instead of waiting for a thread.
+ */
+@Component
+@ConditionalOnProperty(name = "async-request-handling.enabled", havingValue = "true")
+public class AsyncRequestExecutors {
+
+    private final ThreadPoolExecutor s2sExecutor;
+    private final ThreadPoolExecutor computeExecutor;
+
+    // region constructor
+    public AsyncRequestExecutors(
+        @Value("${async-request-handling.s2s-threads}") int s2sThreads,
+        @Value("${async-request-handling.s2s-queue-capacity}") int s2sQueueCapacity,
+        @Value("${async-request-handling.compute-threads}") int computeThreads,
+        @Value("${async-request-handling.compute-queue-capacity}") int computeQueueCapacity
+    ) {
+        this.s2sExecutor = boundedThreadPool(s2sThreads, s2sQueueCapacity, "async-s2s-%d");
+        this.computeExecutor = boundedThreadPool(computeThreads, computeQueueCapacity, "async-compute-%d");
+    }
+    // endregion
+
+    /**
+     * Returns executor for calls which wait on remote services.
+     *
+     * @throws RequestQueueFullException from {@code execute} when there is no more room in the queue
+     */
+    public Executor s2s() {
+        return task -> execute(s2sExecutor, task, "S2S");
+    }
+
+    /**
+     * Returns executor for work which keeps a thread busy.
+     *
+     * @throws RequestQueueFullException from {@code execute} when there is no more room in the queue
+     */
+    public Executor compute() {
+        return task -> execute(computeExecutor, task, "Compute");
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        s2sExecutor.shutdownNow();
+        computeExecutor.shutdownNow();
+    }
+
+    private static void execute(ThreadPoolExecutor executor, Runnable task, String poolName) {
+        try {
+            executor.execute(task);
+        } catch (RejectedExecutionException exc) {
+            throw new RequestQueueFullException(
+                poolName + " request queue is full (" + executor.getQueue().size() + " tasks waiting)"
+            );
+        }
+    }
+
+    private static ThreadPoolExecutor boundedThreadPool(int threads, int queueCapacity, String nameFormat) {
+        return new ThreadPoolExecutor(
+            threads,
+            threads,
+            0L,
+            TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queueCapacity),
+            new ThreadFactoryBuilder().setNameFormat(nameFormat).setDaemon(true).build(),
+            new ThreadPoolExecutor.AbortPolicy()
+        );
+    }
+}
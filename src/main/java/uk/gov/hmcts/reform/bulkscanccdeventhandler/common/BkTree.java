@@ -0,0 +1,125 @@
+package uk.gov.hmcts.reform.bulkscanccdeventhandler.common;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Burkhard-Keller tree of words, for finding the word nearest to a misspelled one.
+ *
+ * <p>Every child is keyed by its Levenshtein distance from the parent. As the distance is a metric,
+ * a search within distance {@code d} of a word at distance {@code k} from a node only needs
+ * to visit children keyed {@code k - d} to {@code k + d}, which leaves out most of the tree.
+ * The tree is built once and is read-only afterwards, so it can be shared between threads.
+ */
+public final class BkTree {
+
+    private final Node root;
+
+    private BkTree(Node root) {
+        this.root = root;
+    }
+
+    public static BkTree of(Collection<String> words) {
+        Node root = null;
+        for (String word : words) {
+            if (root == null) {
+                root = new Node(word);
+            } else {
+                root.add(word);
+            }
+        }
+        return new BkTree(root);
+    }
+
+    /**
+     * Returns the word nearest to given one, if it is within the maximum distance.
+     * Nothing is returned when two or more words are equally near, as there is no telling which was meant.
+     */
+    public Optional<String> findNearest(String word, int maxDistance) {
+        if (root == null) {
+            return Optional.empty();
+        }
+
+        String nearest = null;
+        int nearestDistance = maxDistance + 1;
+        boolean ambiguous = false;
+
+        Deque<Node> pending = new ArrayDeque<>();
+        pending.push(root);
+        while (!pending.isEmpty()) {
+            Node node = pending.pop();
+            int distance = distance(word, node.word);
+
+            if (distance < nearestDistance) {
+                nearest = node.word;
+                nearestDistance = distance;
+                ambiguous = false;
+            } else if (distance == nearestDistance) {
+                ambiguous = true;
+            }
+
+            for (int key = Math.max(1, distance - maxDistance); key <= distance + maxDistance; key++) {
+                Node child = node.children.get(key);
+                if (child != null) {
+                    pending.push(child);
+                }
+            }
+        }
+
+        return nearest == null || ambiguous ? Optional.empty() : Optional.of(nearest);
+    }
+
+    /**
+     * Returns Levenshtein distance between two words: the least number of characters
+     * inserted, removed or replaced to turn one into the other.
+     */
+    static int distance(String a, String b) {
+        int[] previous = new int[b.length() + 1];
+        int[] current = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) {
+            previous[j] = j;
+        }
+
+        for (int i = 1; i <= a.length(); i++) {
+            current[0] = i;
+            for (int j = 1; j <= b.length(); j++) {
+                int cost = a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1;
+                current[j] = Math.min(Math.min(current[j - 1] + 1, previous[j] + 1), previous[j - 1] + cost);
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return previous[b.length()];
+    }
+
+    private static final class Node {
+
+        final String word;
+        final Map<Integer, Node> children = new HashMap<>();
+
+        Node(String word) {
+            this.word = word;
+        }
+
+        void add(String word) {
+            Node node = this;
+            while (true) {
+                int distance = distance(word, node.word);
+                if (distance == 0) {
+                    return;
+                }
+                Node child = node.children.get(distance);
+                if (child == null) {
+                    node.children.put(distance, new Node(word));
+                    return;
+                }
+                node = child;
+            }
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package uk.gov.hmcts.reform.bulkscanccdeventhandler.common;
+
+import java.util.List;
+import java.util.Map;
+
+import static java.util.Collections.emptyList;
+
+/**
+ * Outcome of {@link OcrFieldGroups#parse}: field values of each group, in order of group numbers.
+ */
+public class GroupedOcrData {
+
+    /**
+     * Number of fields left out because their group number was above the limit.
+     */
+    public final int ignoredFieldCount;
+
+    private final Map<String, List<Map<String, String>>> groups;
+
+    GroupedOcrData(Map<String, List<Map<String, String>>> groups, int ignoredFieldCount) {
+        this.groups = groups;
+        this.ignoredFieldCount = ignoredFieldCount;
+    }
+
+    /**
+     * Returns groups with given prefix found in OCR data, each as a map from field name to value.
+     * Numbers missing from the OCR data are skipped, so the groups of {@code applicant_1}
+     * and {@code applicant_3} are returned as a list of two.
+     */
+    public List<Map<String, String>> getGroups(String prefix) {
+        return groups.getOrDefault(prefix, emptyList());
+    }
+}
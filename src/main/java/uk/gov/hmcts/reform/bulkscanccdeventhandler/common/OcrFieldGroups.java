@@ -0,0 +1,243 @@
+package uk.gov.hmcts.reform.bulkscanccdeventhandler.common;
+
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.ocrvalidation.model.in.OcrDataField;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Definition of repeating groups of OCR fields, such as {@code applicant_1_first_name}
+ * and {@code child_3_date_of_birth}, and parser splitting OCR data into those groups.
+ *
+ * <p>A field belongs to a group when its name is the group prefix, an underscore, a group number
+ * starting from 1, another underscore and one of the field names of the group. Names are resolved
+ * through a character trie built from the definition: the prefix is matched first, the number is
+ * read digit by digit and the rest is matched against the field names of that group. Grouping is
+ * therefore a single pass over the OCR data, without splitting names or building substrings.
+ *
+ * <p>The number of groups kept for each prefix is capped. Fields of groups above the cap are
+ * ignored and counted, so that a form cannot make the service allocate an unbounded number of groups.
+ */
+public final class OcrFieldGroups {
+
+    private final String[] prefixes;
+    private final String[][] fieldNames;
+    private final CharTrie trie;
+    private final int prefixRoot;
+    private final int[] fieldRoots;
+    private final int maxGroups;
+
+    private OcrFieldGroups(Builder builder) {
+        int groupCount = builder.groups.size();
+        this.prefixes = builder.groups.keySet().toArray(new String[groupCount]);
+        this.fieldNames = new String[groupCount][];
+        this.fieldRoots = new int[groupCount];
+        this.maxGroups = builder.maxGroups;
+
+        this.trie = new CharTrie();
+        this.prefixRoot = trie.newRoot();
+        for (int group = 0; group < groupCount; group++) {
+            trie.add(prefixRoot, prefixes[group] + '_', group);
+
+            List<String> names = builder.groups.get(prefixes[group]);
+            fieldNames[group] = names.toArray(new String[names.size()]);
+            fieldRoots[group] = trie.newRoot();
+            for (int field = 0; field < fieldNames[group].length; field++) {
+                trie.add(fieldRoots[group], fieldNames[group][field], field);
+            }
+        }
+    }
+
+    /**
+     * Creates builder of groups.
+     *
+     * @param maxGroups highest group number kept for each prefix
+     */
+    public static Builder builder(int maxGroups) {
+        return new Builder(maxGroups);
+    }
+
+    /**
+     * Splits OCR data into groups. Fields which do not belong to any group are skipped.
+     * When a field occurs more than once in a group, its first value is used.
+     */
+    public GroupedOcrData parse(List<OcrDataField> ocrFields) {
+        String[][][] values = new String[prefixes.length][][];
+        int ignoredFieldCount = 0;
+
+        for (OcrDataField field : ocrFields) {
+            if (field == null || field.name == null) {
+                continue;
+            }
+
+            String name = field.name;
+            int node = prefixRoot;
+            int pos = 0;
+            while (node != CharTrie.NONE && trie.value(node) == CharTrie.NONE && pos < name.length()) {
+                node = trie.child(node, name.charAt(pos++));
+            }
+            if (node == CharTrie.NONE || trie.value(node) == CharTrie.NONE) {
+                continue;
+            }
+            int group = trie.value(node);
+
+            int number = 0;
+            int digitsStart = pos;
+            while (pos < name.length() && isDigit(name.charAt(pos)) && pos - digitsStart < 9) {
+                number = number * 10 + name.charAt(pos++) - '0';
+            }
+            if (pos == digitsStart || pos == name.length() || name.charAt(pos++) != '_') {
+                continue;
+            }
+
+            node = fieldRoots[group];
+            while (node != CharTrie.NONE && pos < name.length()) {
+                node = trie.child(node, name.charAt(pos++));
+            }
+            if (node == CharTrie.NONE || trie.value(node) == CharTrie.NONE) {
+                continue;
+            }
+
+            if (number < 1 || number > maxGroups) {
+                ignoredFieldCount++;
+                continue;
+            }
+
+            if (values[group] == null) {
+                values[group] = new String[maxGroups][];
+            }
+            String[] groupValues = values[group][number - 1];
+            if (groupValues == null) {
+                groupValues = new String[fieldNames[group].length];
+                values[group][number - 1] = groupValues;
+            }
+            int slot = trie.value(node);
+            if (groupValues[slot] == null) {
+                groupValues[slot] = field.value;
+            }
+        }
+
+        return new GroupedOcrData(toMaps(values), ignoredFieldCount);
+    }
+
+    private Map<String, List<Map<String, String>>> toMaps(String[][][] values) {
+        Map<String, List<Map<String, String>>> groups = new LinkedHashMap<>();
+
+        for (int group = 0; group < prefixes.length; group++) {
+            List<Map<String, String>> instances = new ArrayList<>();
+            if (values[group] != null) {
+                for (String[] groupValues : values[group]) {
+                    if (groupValues != null) {
+                        Map<String, String> instance = new LinkedHashMap<>();
+                        for (int field = 0; field < groupValues.length; field++) {
+                            instance.put(fieldNames[group][field], groupValues[field]);
+                        }
+                        instances.add(instance);
+                    }
+                }
+            }
+            groups.put(prefixes[group], instances);
+        }
+
+        return groups;
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    public static final class Builder {
+
+        private final int maxGroups;
+        private final Map<String, List<String>> groups = new LinkedHashMap<>();
+
+        private Builder(int maxGroups) {
+            if (maxGroups < 1) {
+                throw new IllegalArgumentException("At least one group must be allowed");
+            }
+            this.maxGroups = maxGroups;
+        }
+
+        /**
+         * Adds group of fields named {@code <prefix>_<number>_<field name>}.
+         */
+        public Builder group(String prefix, String... fieldNames) {
+            if (groups.containsKey(prefix)) {
+                throw new IllegalArgumentException("Group '" + prefix + "' is already defined");
+            }
+            groups.put(prefix, Arrays.asList(fieldNames));
+            return this;
+        }
+
+        public OcrFieldGroups build() {
+            return new OcrFieldGroups(this);
+        }
+    }
+
+    /**
+     * Character trie with a separate root for each set of keys, held in flat arrays.
+     */
+    private static final class CharTrie {
+
+        static final int NONE = -1;
+
+        private char[] labels = new char[64];
+        private int[] firstChild = new int[64];
+        private int[] nextSibling = new int[64];
+        private int[] values = new int[64];
+        private int nodeCount;
+
+        int newRoot() {
+            return newNode((char) 0);
+        }
+
+        void add(int root, String key, int value) {
+            int node = root;
+            for (int i = 0; i < key.length(); i++) {
+                int existing = child(node, key.charAt(i));
+                if (existing == NONE) {
+                    existing = newNode(key.charAt(i));
+                    nextSibling[existing] = firstChild[node];
+                    firstChild[node] = existing;
+                }
+                node = existing;
+            }
+            if (values[node] != NONE) {
+                throw new IllegalArgumentException("Duplicate name '" + key + "'");
+            }
+            values[node] = value;
+        }
+
+        int child(int parent, char label) {
+            int node = firstChild[parent];
+            while (node != NONE && labels[node] != label) {
+                node = nextSibling[node];
+            }
+            return node;
+        }
+
+        int value(int node) {
+            return values[node];
+        }
+
+        private int newNode(char label) {
+            if (nodeCount == labels.length) {
+                int capacity = labels.length * 2;
+                labels = Arrays.copyOf(labels, capacity);
+                firstChild = Arrays.copyOf(firstChild, capacity);
+                nextSibling = Arrays.copyOf(nextSibling, capacity);
+                values = Arrays.copyOf(values, capacity);
+            }
+
+            int node = nodeCount++;
+            labels[node] = label;
+            firstChild[node] = NONE;
+            nextSibling[node] = NONE;
+            values[node] = NONE;
+            return node;
+        }
+    }
+}
@@ -20,6 +20,10 @@ public final class OcrFieldNames {
     public static final String COUNTY = "county";
     public static final String COUNTRY = "country";
 
+    // prefixes of repeating groups, e.g. applicant_1_first_name
+    public static final String APPLICANT_GROUP = "applicant";
+    public static final String CHILD_GROUP = "child";
+
     private OcrFieldNames() {
         // utility class, not to be instantiated
     }
@@ -27,4 +31,25 @@ public final class OcrFieldNames {
     public static Set<String> getRequiredFields() {
         return ImmutableSet.of(FIRST_NAME, LAST_NAME);
     }
+
+    /**
+     * Returns names of all fields read from OCR data, apart from repeating groups.
+     */
+    public static Set<String> getKnownFields() {
+        return ImmutableSet.of(
+            LEGACY_ID,
+            FIRST_NAME,
+            LAST_NAME,
+            DATE_OF_BIRTH,
+            CONTACT_NUMBER,
+            EMAIL,
+            ADDRESS_LINE_1,
+            ADDRESS_LINE_2,
+            ADDRESS_LINE_3,
+            POST_CODE,
+            POST_TOWN,
+            COUNTY,
+            COUNTRY
+        );
+    }
 }
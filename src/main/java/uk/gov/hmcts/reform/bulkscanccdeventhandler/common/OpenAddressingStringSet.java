@@ -0,0 +1,100 @@
+package uk.gov.hmcts.reform.bulkscanccdeventhandler.common;
+
+/**
+ * Set of strings stored in a flat table with linear probing.
+ *
+ * <p>Unlike {@link java.util.HashSet} it does not allocate an entry object per element, and hash codes
+ * are kept next to the strings, so most mismatches are rejected without calling {@code equals}.
+ * The table is sized up front from the expected number of elements and kept at most half full,
+ * which keeps probe sequences short; it doubles when that load is exceeded. Elements cannot be removed.
+ * Not thread safe.
+ */
+public final class OpenAddressingStringSet {
+
+    private String[] values;
+    private int[] hashes;
+    private int mask;
+    private int size;
+
+    public OpenAddressingStringSet(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(2, expectedSize * 2 - 1)) << 1;
+        this.values = new String[capacity];
+        this.hashes = new int[capacity];
+        this.mask = capacity - 1;
+    }
+
+    /**
+     * Adds value to the set.
+     *
+     * @return true if the set did not contain the value yet
+     */
+    public boolean add(String value) {
+        if (value == null) {
+            throw new IllegalArgumentException("Null values are not supported");
+        }
+
+        int hash = spread(value.hashCode());
+        int index = hash & mask;
+
+        while (values[index] != null) {
+            if (hashes[index] == hash && values[index].equals(value)) {
+                return false;
+            }
+            index = (index + 1) & mask;
+        }
+
+        values[index] = value;
+        hashes[index] = hash;
+        size++;
+
+        if (size * 2 > values.length) {
+            resize();
+        }
+        return true;
+    }
+
+    public boolean contains(String value) {
+        if (value == null) {
+            return false;
+        }
+
+        int hash = spread(value.hashCode());
+        int index = hash & mask;
+
+        while (values[index] != null) {
+            if (hashes[index] == hash && values[index].equals(value)) {
+                return true;
+            }
+            index = (index + 1) & mask;
+        }
+        return false;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    private void resize() {
+        String[] oldValues = values;
+        int[] oldHashes = hashes;
+
+        values = new String[oldValues.length * 2];
+        hashes = new int[oldValues.length * 2];
+        mask = values.length - 1;
+
+        for (int i = 0; i < oldValues.length; i++) {
+            if (oldValues[i] != null) {
+                int index = oldHashes[i] & mask;
+                while (values[index] != null) {
+                    index = (index + 1) & mask;
+                }
+                values[index] = oldValues[i];
+                hashes[index] = oldHashes[i];
+            }
+        }
+    }
+
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+}
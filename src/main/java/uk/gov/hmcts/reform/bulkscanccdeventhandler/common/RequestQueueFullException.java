@@ -0,0 +1,8 @@
+package uk.gov.hmcts.reform.bulkscanccdeventhandler.common;
+
+public class RequestQueueFullException extends RuntimeException {
+
+    public RequestQueueFullException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,92 @@
+package uk.gov.hmcts.reform.bulkscanccdeventhandler.common;
+
+/**
+ * Bounded pool of canonical instances for short, frequently repeated strings
+ * (document types and subtypes, OCR field names, PO boxes, jurisdictions etc.).
+ *
+ * <p>The pool is a direct-mapped table: each slot holds the last string hashed into it,
+ * so its size never grows beyond the configured number of slots and a colliding value simply
+ * replaces the previous one. Lookups work on a character range, which means a hit does not
+ * allocate a {@code String} at all. The table is accessed without locking - strings are
+ * immutable, so the worst a race can do is to create an extra, equal instance.
+ *
+ * <p>On a 64-bit JVM with compressed oops a short string such as {@code "Form"} takes 48 bytes
+ * ({@code String} header and fields plus its {@code char[]}). Sharing {@code type} and {@code subtype}
+ * saves roughly 100 bytes per scanned document, i.e. about 1 MB of live heap for an envelope
+ * with 10,000 documents, for as long as the request and its response models are alive.
+ */
+public final class StringPool {
+
+    public static final StringPool SHARED = new StringPool(1024, 64);
+
+    private final String[] slots;
+    private final int mask;
+    private final int maxLength;
+
+    /**
+     * Creates pool.
+     *
+     * @param size number of slots, rounded up to the next power of two
+     * @param maxLength strings longer than this are never pooled
+     */
+    public StringPool(int size, int maxLength) {
+        int capacity = Integer.highestOneBit(Math.max(1, size - 1)) << 1;
+        this.slots = new String[capacity];
+        this.mask = capacity - 1;
+        this.maxLength = maxLength;
+    }
+
+    public String canonicalize(String value) {
+        if (value == null || value.length() > maxLength) {
+            return value;
+        }
+
+        int index = spread(value.hashCode()) & mask;
+        String pooled = slots[index];
+
+        if (value.equals(pooled)) {
+            return pooled;
+        }
+
+        slots[index] = value;
+        return value;
+    }
+
+    public String canonicalize(char[] buffer, int offset, int length) {
+        if (length > maxLength) {
+            return new String(buffer, offset, length);
+        }
+
+        int hash = 0;
+        for (int i = offset; i < offset + length; i++) {
+            hash = 31 * hash + buffer[i];
+        }
+
+        int index = spread(hash) & mask;
+        String pooled = slots[index];
+
+        if (pooled != null && matches(pooled, buffer, offset, length)) {
+            return pooled;
+        }
+
+        String value = new String(buffer, offset, length);
+        slots[index] = value;
+        return value;
+    }
+
+    private static boolean matches(String pooled, char[] buffer, int offset, int length) {
+        if (pooled.length() != length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (pooled.charAt(i) != buffer[offset + i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+}
@@ -0,0 +1,37 @@
+package uk.gov.hmcts.reform.bulkscanccdeventhandler.common.auth;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import static org.apache.commons.lang.StringUtils.isBlank;
+import static org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type.REACTIVE;
+
+/**
+ * Authenticates S2S tokens for the reactive endpoints. Allowed services are checked by {@link AuthService}.
+ */
+@Service
+@ConditionalOnWebApplication(type = REACTIVE)
+public class ReactiveAuthService {
+
+    private final ReactiveAuthTokenValidator authTokenValidator;
+    private final AuthService authService;
+
+    public ReactiveAuthService(ReactiveAuthTokenValidator authTokenValidator, AuthService authService) {
+        this.authTokenValidator = authTokenValidator;
+        this.authService = authService;
+    }
+
+    /**
+     * Returns name of the service which is allowed to use the endpoints.
+     */
+    public Mono<String> authenticateAllowedService(String authHeader) {
+        if (isBlank(authHeader)) {
+            return Mono.error(new UnauthenticatedException("Provided S2S token is missing or invalid"));
+        }
+
+        return authTokenValidator
+            .getServiceName(authHeader)
+            .doOnNext(authService::assertIsAllowedService);
+    }
+}
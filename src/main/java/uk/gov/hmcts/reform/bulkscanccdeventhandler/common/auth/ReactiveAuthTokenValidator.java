@@ -0,0 +1,15 @@
+package uk.gov.hmcts.reform.bulkscanccdeventhandler.common.auth;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking counterpart of {@link uk.gov.hmcts.reform.authorisation.validators.AuthTokenValidator}.
+ */
+public interface ReactiveAuthTokenValidator {
+
+    /**
+     * Returns name of the service the S2S token was issued to.
+     * Fails with {@link uk.gov.hmcts.reform.authorisation.exceptions.InvalidTokenException} when token is rejected.
+     */
+    Mono<String> getServiceName(String token);
+}
@@ -0,0 +1,41 @@
+package uk.gov.hmcts.reform.bulkscanccdeventhandler.common.auth;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import uk.gov.hmcts.reform.authorisation.exceptions.InvalidTokenException;
+
+/**
+ * Looks up service names in the S2S API without blocking a thread while waiting for the response.
+ */
+public class WebClientAuthTokenValidator implements ReactiveAuthTokenValidator {
+
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final WebClient webClient;
+
+    // region constructor
+    public WebClientAuthTokenValidator(WebClient webClient) {
+        this.webClient = webClient;
+    }
+    // endregion
+
+    @Override
+    public Mono<String> getServiceName(String token) {
+        String bearerToken = token.startsWith(BEARER_PREFIX) ? token : BEARER_PREFIX + token;
+
+        return webClient
+            .get()
+            .uri("/details")
+            .header(HttpHeaders.AUTHORIZATION, bearerToken)
+            .retrieve()
+            .onStatus(
+                HttpStatus::is4xxClientError,
+                response -> Mono.just(
+                    new InvalidTokenException("S2S token was rejected with status " + response.statusCode(), null)
+                )
+            )
+            .bodyToMono(String.class);
+    }
+}
@@ -0,0 +1,116 @@
+package uk.gov.hmcts.reform.bulkscanccdeventhandler.common.json;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.StdScalarDeserializer;
+import com.fasterxml.jackson.datatype.jsr310.deser.LocalDateTimeDeserializer;
+
+import java.io.IOException;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+
+/**
+ * Deserializes timestamps sent by bulk scan processor, i.e. {@code yyyy-MM-ddTHH:mm:ss[.fraction][Z]}.
+ *
+ * <p>Digits are read directly from the parser's character buffer. Any other representation
+ * (or an invalid date) is handed over to the standard JSR-310 deserializer, so behaviour and
+ * error messages stay the same as without this class. A trailing {@code Z} is ignored, which
+ * matches what the standard deserializer does for UTC timestamps.
+ */
+public class IsoLocalDateTimeDeserializer extends StdScalarDeserializer<LocalDateTime> {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final int[] NANO_MULTIPLIERS = {
+        1, 100_000_000, 10_000_000, 1_000_000, 100_000, 10_000, 1_000, 100, 10, 1
+    };
+
+    public IsoLocalDateTimeDeserializer() {
+        super(LocalDateTime.class);
+    }
+
+    @Override
+    public LocalDateTime deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.hasToken(JsonToken.VALUE_STRING)) {
+            LocalDateTime parsed = parse(
+                parser.getTextCharacters(),
+                parser.getTextOffset(),
+                parser.getTextLength()
+            );
+
+            if (parsed != null) {
+                return parsed;
+            }
+        }
+
+        return LocalDateTimeDeserializer.INSTANCE.deserialize(parser, context);
+    }
+
+    /**
+     * Parses timestamp from the given part of the buffer.
+     *
+     * @return parsed value or null if the text is not in the expected format
+     */
+    static LocalDateTime parse(char[] buffer, int offset, int length) {
+        int end = offset + length;
+        if (length > 0 && buffer[end - 1] == 'Z') {
+            end--;
+        }
+
+        if (end - offset < 19
+            || buffer[offset + 4] != '-'
+            || buffer[offset + 7] != '-'
+            || buffer[offset + 10] != 'T'
+            || buffer[offset + 13] != ':'
+            || buffer[offset + 16] != ':') {
+            return null;
+        }
+
+        int year = digits(buffer, offset, 4);
+        int month = digits(buffer, offset + 5, 2);
+        int day = digits(buffer, offset + 8, 2);
+        int hour = digits(buffer, offset + 11, 2);
+        int minute = digits(buffer, offset + 14, 2);
+        int second = digits(buffer, offset + 17, 2);
+
+        if ((year | month | day | hour | minute | second) < 0) {
+            return null;
+        }
+
+        int nano = 0;
+        int position = offset + 19;
+        if (position < end) {
+            int fractionLength = end - position - 1;
+            if (buffer[position] != '.' || fractionLength < 1 || fractionLength > 9) {
+                return null;
+            }
+            int fraction = digits(buffer, position + 1, fractionLength);
+            if (fraction < 0) {
+                return null;
+            }
+            nano = fraction * NANO_MULTIPLIERS[fractionLength];
+        }
+
+        try {
+            return LocalDateTime.of(year, month, day, hour, minute, second, nano);
+        } catch (DateTimeException exc) {
+            return null;
+        }
+    }
+
+    /**
+     * Reads a non-negative number, returns -1 if any of the characters is not a digit.
+     */
+    private static int digits(char[] buffer, int offset, int count) {
+        int value = 0;
+        for (int i = offset; i < offset + count; i++) {
+            int digit = buffer[i] - '0';
+            if (digit < 0 || digit > 9) {
+                return -1;
+            }
+            value = value * 10 + digit;
+        }
+        return value;
+    }
+}
@@ -0,0 +1,68 @@
+package uk.gov.hmcts.reform.bulkscanccdeventhandler.common.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+
+import static java.time.format.DateTimeFormatter.ISO_LOCAL_DATE_TIME;
+
+/**
+ * Writes {@link LocalDateTime} in {@code ISO_LOCAL_DATE_TIME} format, the same way the standard
+ * serializer does (trailing zeros of the fraction are dropped), without going through
+ * {@link java.time.format.DateTimeFormatter}.
+ */
+public class IsoLocalDateTimeSerializer extends StdSerializer<LocalDateTime> {
+
+    private static final long serialVersionUID = 1L;
+
+    public IsoLocalDateTimeSerializer() {
+        super(LocalDateTime.class);
+    }
+
+    @Override
+    public void serialize(LocalDateTime value, JsonGenerator generator, SerializerProvider provider)
+        throws IOException {
+        int year = value.getYear();
+        if (year < 0 || year > 9999) {
+            generator.writeString(ISO_LOCAL_DATE_TIME.format(value));
+            return;
+        }
+
+        char[] buffer = new char[29];
+        write(buffer, 0, year, 4);
+        buffer[4] = '-';
+        write(buffer, 5, value.getMonthValue(), 2);
+        buffer[7] = '-';
+        write(buffer, 8, value.getDayOfMonth(), 2);
+        buffer[10] = 'T';
+        write(buffer, 11, value.getHour(), 2);
+        buffer[13] = ':';
+        write(buffer, 14, value.getMinute(), 2);
+        buffer[16] = ':';
+        write(buffer, 17, value.getSecond(), 2);
+
+        int length = 19;
+        int nano = value.getNano();
+        if (nano > 0) {
+            buffer[19] = '.';
+            write(buffer, 20, nano, 9);
+            length = 29;
+            while (buffer[length - 1] == '0') {
+                length--;
+            }
+        }
+
+        generator.writeString(buffer, 0, length);
+    }
+
+    private static void write(char[] buffer, int offset, int value, int width) {
+        int remaining = value;
+        for (int i = offset + width - 1; i >= offset; i--) {
+            buffer[i] = (char) ('0' + remaining % 10);
+            remaining /= 10;
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package uk.gov.hmcts.reform.bulkscanccdeventhandler.common.json;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.StdScalarDeserializer;
+import com.fasterxml.jackson.databind.deser.std.StringDeserializer;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.common.StringPool;
+
+import java.io.IOException;
+
+/**
+ * Reads low-cardinality strings straight from the parser buffer into {@link StringPool#SHARED},
+ * so that repeated values share a single instance.
+ */
+public class PooledStringDeserializer extends StdScalarDeserializer<String> {
+
+    private static final long serialVersionUID = 1L;
+
+    public PooledStringDeserializer() {
+        super(String.class);
+    }
+
+    @Override
+    public String deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.hasToken(JsonToken.VALUE_STRING)) {
+            return StringPool.SHARED.canonicalize(
+                parser.getTextCharacters(),
+                parser.getTextOffset(),
+                parser.getTextLength()
+            );
+        } else {
+            return StringDeserializer.instance.deserialize(parser, context);
+        }
+    }
+}
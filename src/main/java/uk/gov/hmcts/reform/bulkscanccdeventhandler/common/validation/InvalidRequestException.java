@@ -0,0 +1,8 @@
+package uk.gov.hmcts.reform.bulkscanccdeventhandler.common.validation;
+
+public class InvalidRequestException extends RuntimeException {
+
+    public InvalidRequestException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,47 @@
+package uk.gov.hmcts.reform.bulkscanccdeventhandler.common.validation;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.common.BkTree;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.common.OcrFieldNames;
+
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Maps OCR field names which are not known, such as {@code frist_name} or {@code post code},
+ * to the nearest known field name, as long as it is within the configured edit distance.
+ *
+ * <p>Known names are looked up in a hash set first, so they are never remapped. Other names
+ * are looked up in a BK-tree of the known names, built at startup.
+ */
+@Component
+@ConditionalOnProperty(name = "ocr-validation.fuzzy-field-names.enabled", havingValue = "true")
+public class OcrFieldNameMatcher {
+
+    private final Set<String> knownNames;
+    private final BkTree tree;
+    private final int maxDistance;
+
+    public OcrFieldNameMatcher(@Value("${ocr-validation.fuzzy-field-names.max-distance}") int maxDistance) {
+        this(OcrFieldNames.getKnownFields(), maxDistance);
+    }
+
+    OcrFieldNameMatcher(Set<String> knownNames, int maxDistance) {
+        this.knownNames = knownNames;
+        this.tree = BkTree.of(knownNames);
+        this.maxDistance = maxDistance;
+    }
+
+    /**
+     * Returns known field name meant by given unknown one. Nothing is returned for known names,
+     * names too far from any known name and names equally near to two known ones.
+     */
+    public Optional<String> match(String fieldName) {
+        if (fieldName == null || knownNames.contains(fieldName)) {
+            return Optional.empty();
+        }
+        return tree.findNearest(fieldName, maxDistance);
+    }
+}
@@ -0,0 +1,148 @@
+package uk.gov.hmcts.reform.bulkscanccdeventhandler.common.validation;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.ocrvalidation.model.in.OcrDataField;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+
+/**
+ * Validates OCR data against {@link OcrValidationRules}, shared by OCR validation and transformation endpoints.
+ *
+ * <p>OCR fields are traversed once. During the traversal duplicates are detected and values of the fields
+ * known to the rules are stored in slots. Required field, format and warning rules are then evaluated
+ * against the slots, in the order they were declared.
+ *
+ * <p>When fuzzy field name matching is enabled, a field whose name is not known to the rules
+ * is stored in the slot of the known name it was matched to, and a warning is reported.
+ * Names known to the rules never reach the matcher, and a matched field is only used when no field
+ * carries the known name exactly.
+ *
+ * <p>Cross-field rules run last, in dependency order. A field fails when a rule reports an error on it
+ * and cross-field rules depending on a failed field are skipped, so one bad value causes one error.
+ */
+@Component
+public class OcrValidationPipeline {
+
+    private final Optional<OcrFieldNameMatcher> fieldNameMatcher;
+
+    public OcrValidationPipeline() {
+        this(Optional.empty());
+    }
+
+    @Autowired
+    public OcrValidationPipeline(Optional<OcrFieldNameMatcher> fieldNameMatcher) {
+        this.fieldNameMatcher = fieldNameMatcher;
+    }
+
+    public ValidatedOcrData validate(List<OcrDataField> ocrFields, OcrValidationRules rules) {
+        Set<String> seenNames = rules.rejectsDuplicateFields() ? new HashSet<>(ocrFields.size() * 2) : null;
+        Set<String> duplicateNames = null;
+        List<FuzzyMatch> fuzzyMatches = null;
+
+        String[] values = new String[rules.fieldCount()];
+        boolean[] present = new boolean[rules.fieldCount()];
+
+        for (OcrDataField field : ocrFields) {
+            if (seenNames != null && !seenNames.add(field.name)) {
+                if (duplicateNames == null) {
+                    duplicateNames = new LinkedHashSet<>();
+                }
+                duplicateNames.add(field.name);
+            }
+
+            Integer slot = rules.slots.get(field.name);
+            if (slot != null) {
+                if (!present[slot]) {
+                    present[slot] = true;
+                    values[slot] = field.value;
+                }
+            } else if (fieldNameMatcher.isPresent()) {
+                String matchedName = fieldNameMatcher.get().match(field.name).orElse(null);
+                if (matchedName != null && rules.slots.containsKey(matchedName)) {
+                    if (fuzzyMatches == null) {
+                        fuzzyMatches = new ArrayList<>();
+                    }
+                    fuzzyMatches.add(new FuzzyMatch(field, matchedName));
+                }
+            }
+        }
+
+        // exact names always win, so fuzzy matches only fill the slots which are still empty
+        List<String> warnings = new ArrayList<>();
+        if (fuzzyMatches != null) {
+            for (FuzzyMatch match : fuzzyMatches) {
+                int slot = rules.slots.get(match.matchedName);
+                if (!present[slot]) {
+                    present[slot] = true;
+                    values[slot] = match.field.value;
+                    warnings.add("OCR field '" + match.field.name + "' was read as '" + match.matchedName + "'");
+                }
+            }
+        }
+
+        if (duplicateNames != null) {
+            String error = String.format(rules.duplicateFieldsMessage, String.join(",", duplicateNames));
+            return new ValidatedOcrData(singletonList(error), emptyList(), rules.slots, values);
+        }
+
+        List<String> errors = new ArrayList<>();
+        boolean[] failed = new boolean[rules.fieldCount()];
+
+        for (OcrValidationRules.FieldRequirement requirement : rules.requirements) {
+            if (requirement.missingWhen.isMissing(present[requirement.slot], values[requirement.slot])) {
+                String message = String.format(requirement.message, requirement.fieldName);
+                if (requirement.isError) {
+                    errors.add(message);
+                    failed[requirement.slot] = true;
+                } else {
+                    warnings.add(message);
+                }
+            }
+        }
+
+        for (OcrValidationRules.FormatCheck check : rules.formatChecks) {
+            String value = values[check.slot];
+            if (value != null && !check.isValid.test(value)) {
+                errors.add(check.message);
+                failed[check.slot] = true;
+            }
+        }
+
+        for (OcrValidationRules.CrossFieldCheck check : rules.crossFieldChecks) {
+            if (check.dependsOnAny(failed)) {
+                continue;
+            }
+
+            if (!check.isValid.test(fieldName -> values[check.slotOf(fieldName)])) {
+                if (check.isError) {
+                    errors.add(check.message);
+                    failed[check.slot] = true;
+                } else {
+                    warnings.add(check.message);
+                }
+            }
+        }
+
+        return new ValidatedOcrData(errors, warnings, rules.slots, values);
+    }
+
+    private static class FuzzyMatch {
+
+        final OcrDataField field;
+        final String matchedName;
+
+        FuzzyMatch(OcrDataField field, String matchedName) {
+            this.field = field;
+            this.matchedName = matchedName;
+        }
+    }
+}
@@ -0,0 +1,323 @@
+package uk.gov.hmcts.reform.bulkscanccdeventhandler.common.validation;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+import static java.util.stream.Collectors.joining;
+import static org.apache.commons.lang.StringUtils.isBlank;
+import static org.apache.commons.lang.StringUtils.isEmpty;
+
+/**
+ * Immutable set of rules applied to OCR data by {@link OcrValidationPipeline}.
+ *
+ * <p>Every field mentioned by a rule gets a slot, so the pipeline can record field values
+ * in an array while walking the OCR data once and evaluate all rules afterwards.
+ *
+ * <p>Cross-field rules declare the fields they depend on. At build time they are sorted
+ * so that a rule reporting an error on a field runs before the rules depending on that field,
+ * which lets the pipeline skip rules whose fields have already failed.
+ */
+public final class OcrValidationRules {
+
+    /**
+     * Defines when a field is considered to be missing.
+     */
+    public enum MissingWhen {
+        /** Field name is not in the OCR data. */
+        ABSENT,
+        /** Field is absent or its value is null or empty. */
+        EMPTY,
+        /** Field is absent or its value is null, empty or whitespace only. */
+        BLANK;
+
+        boolean isMissing(boolean present, String value) {
+            switch (this) {
+                case EMPTY:
+                    return !present || isEmpty(value);
+                case BLANK:
+                    return !present || isBlank(value);
+                default:
+                    return !present;
+            }
+        }
+    }
+
+    final Map<String, Integer> slots;
+    final List<FieldRequirement> requirements;
+    final List<FormatCheck> formatChecks;
+    final List<CrossFieldCheck> crossFieldChecks;
+    final String duplicateFieldsMessage;
+
+    private OcrValidationRules(Builder builder) {
+        this.slots = ImmutableMap.copyOf(builder.slots);
+        this.requirements = ImmutableList.copyOf(builder.requirements);
+        this.formatChecks = ImmutableList.copyOf(builder.formatChecks);
+        this.crossFieldChecks = ImmutableList.copyOf(inDependencyOrder(builder.crossFieldChecks));
+        this.duplicateFieldsMessage = builder.duplicateFieldsMessage;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    int fieldCount() {
+        return slots.size();
+    }
+
+    boolean rejectsDuplicateFields() {
+        return duplicateFieldsMessage != null;
+    }
+
+    /**
+     * Sorts cross-field checks so that every check comes after the error checks on the fields it depends on.
+     * Checks which do not depend on each other keep their declaration order.
+     *
+     * @throws IllegalStateException when checks depend on each other in a cycle
+     */
+    private static List<CrossFieldCheck> inDependencyOrder(List<CrossFieldCheck> checks) {
+        int[] pendingPredecessors = new int[checks.size()];
+        for (int i = 0; i < checks.size(); i++) {
+            for (int j = 0; j < checks.size(); j++) {
+                if (i != j && checks.get(i).mustRunAfter(checks.get(j))) {
+                    pendingPredecessors[i]++;
+                }
+            }
+        }
+
+        List<CrossFieldCheck> ordered = new ArrayList<>(checks.size());
+        boolean[] done = new boolean[checks.size()];
+        while (ordered.size() < checks.size()) {
+            int next = -1;
+            for (int i = 0; i < checks.size() && next < 0; i++) {
+                if (!done[i] && pendingPredecessors[i] == 0) {
+                    next = i;
+                }
+            }
+
+            if (next < 0) {
+                String cycle = checks
+                    .stream()
+                    .filter(check -> !done[checks.indexOf(check)])
+                    .map(check -> check.message)
+                    .collect(joining("', '", "'", "'"));
+                throw new IllegalStateException("Cross-field rules depend on each other: " + cycle);
+            }
+
+            done[next] = true;
+            ordered.add(checks.get(next));
+            for (int i = 0; i < checks.size(); i++) {
+                if (i != next && checks.get(i).mustRunAfter(checks.get(next))) {
+                    pendingPredecessors[i]--;
+                }
+            }
+        }
+        return ordered;
+    }
+
+    /**
+     * Values of the fields a cross-field rule depends on.
+     */
+    @FunctionalInterface
+    public interface FieldValues {
+
+        /**
+         * Returns value of the first occurrence of the field or null if the field is not there.
+         *
+         * @throws IllegalArgumentException if the rule does not depend on the field
+         */
+        String get(String fieldName);
+    }
+
+    static final class FieldRequirement {
+        final int slot;
+        final String fieldName;
+        final MissingWhen missingWhen;
+        final boolean isError;
+        final String message;
+
+        FieldRequirement(int slot, String fieldName, MissingWhen missingWhen, boolean isError, String message) {
+            this.slot = slot;
+            this.fieldName = fieldName;
+            this.missingWhen = missingWhen;
+            this.isError = isError;
+            this.message = message;
+        }
+    }
+
+    static final class FormatCheck {
+        final int slot;
+        final Predicate<String> isValid;
+        final String message;
+
+        FormatCheck(int slot, Predicate<String> isValid, String message) {
+            this.slot = slot;
+            this.isValid = isValid;
+            this.message = message;
+        }
+    }
+
+    static final class CrossFieldCheck {
+        final int slot;
+        final Map<String, Integer> dependencies;
+        final Predicate<FieldValues> isValid;
+        final boolean isError;
+        final String message;
+
+        CrossFieldCheck(
+            int slot,
+            Map<String, Integer> dependencies,
+            Predicate<FieldValues> isValid,
+            boolean isError,
+            String message
+        ) {
+            this.slot = slot;
+            this.dependencies = ImmutableMap.copyOf(dependencies);
+            this.isValid = isValid;
+            this.isError = isError;
+            this.message = message;
+        }
+
+        boolean mustRunAfter(CrossFieldCheck other) {
+            return other.isError && other.slot != slot && dependencies.containsValue(other.slot);
+        }
+
+        boolean dependsOnAny(boolean[] failedSlots) {
+            for (int dependency : dependencies.values()) {
+                if (failedSlots[dependency]) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        int slotOf(String fieldName) {
+            Integer dependency = dependencies.get(fieldName);
+            if (dependency == null) {
+                throw new IllegalArgumentException(
+                    "Rule '" + message + "' does not depend on field '" + fieldName + "'"
+                );
+            }
+            return dependency;
+        }
+    }
+
+    public static final class Builder {
+
+        private final Map<String, Integer> slots = new LinkedHashMap<>();
+        private final List<FieldRequirement> requirements = new ArrayList<>();
+        private final List<FormatCheck> formatChecks = new ArrayList<>();
+        private final List<CrossFieldCheck> crossFieldChecks = new ArrayList<>();
+        private String duplicateFieldsMessage;
+
+        private Builder() {
+            // use OcrValidationRules.builder()
+        }
+
+        /**
+         * Fails validation with a single error when any field name occurs more than once.
+         *
+         * @param messageFormat message with a single {@code %s} placeholder for the comma separated names
+         */
+        public Builder rejectDuplicateFields(String messageFormat) {
+            this.duplicateFieldsMessage = messageFormat;
+            return this;
+        }
+
+        /**
+         * Adds an error when the field is missing.
+         *
+         * @param messageFormat message with a single {@code %s} placeholder for the field name
+         */
+        public Builder requireField(String fieldName, MissingWhen missingWhen, String messageFormat) {
+            requirements.add(new FieldRequirement(slot(fieldName), fieldName, missingWhen, true, messageFormat));
+            return this;
+        }
+
+        /**
+         * Adds a warning when the field is missing.
+         *
+         * @param messageFormat message with a single {@code %s} placeholder for the field name
+         */
+        public Builder expectField(String fieldName, MissingWhen missingWhen, String messageFormat) {
+            requirements.add(new FieldRequirement(slot(fieldName), fieldName, missingWhen, false, messageFormat));
+            return this;
+        }
+
+        /**
+         * Adds an error when the field is present with a non-null value that does not pass the check.
+         */
+        public Builder checkFormat(String fieldName, Predicate<String> isValid, String message) {
+            formatChecks.add(new FormatCheck(slot(fieldName), isValid, message));
+            return this;
+        }
+
+        /**
+         * Adds an error on the field when the check of values of the fields it depends on fails.
+         * The field itself is always a dependency. The check is skipped when any of its fields
+         * has already failed, either a requirement, a format check or another cross-field rule.
+         */
+        public Builder requireThat(
+            String fieldName,
+            List<String> dependsOn,
+            Predicate<FieldValues> isValid,
+            String message
+        ) {
+            crossFieldChecks.add(crossFieldCheck(fieldName, dependsOn, isValid, true, message));
+            return this;
+        }
+
+        /**
+         * Adds a warning when the check of values of the fields it depends on fails.
+         * Like {@link #requireThat}, the check is skipped when any of its fields has failed.
+         */
+        public Builder expectThat(
+            String fieldName,
+            List<String> dependsOn,
+            Predicate<FieldValues> isValid,
+            String message
+        ) {
+            crossFieldChecks.add(crossFieldCheck(fieldName, dependsOn, isValid, false, message));
+            return this;
+        }
+
+        /**
+         * Makes value of the field available in the validation result without validating it.
+         */
+        public Builder captureField(String fieldName) {
+            slot(fieldName);
+            return this;
+        }
+
+        public OcrValidationRules build() {
+            return new OcrValidationRules(this);
+        }
+
+        private CrossFieldCheck crossFieldCheck(
+            String fieldName,
+            List<String> dependsOn,
+            Predicate<FieldValues> isValid,
+            boolean isError,
+            String message
+        ) {
+            Map<String, Integer> dependencies = new LinkedHashMap<>();
+            dependencies.put(fieldName, slot(fieldName));
+            dependsOn.forEach(dependency -> dependencies.put(dependency, slot(dependency)));
+            return new CrossFieldCheck(slot(fieldName), dependencies, isValid, isError, message);
+        }
+
+        private int slot(String fieldName) {
+            Integer slot = slots.get(fieldName);
+            if (slot == null) {
+                slot = slots.size();
+                slots.put(fieldName, slot);
+            }
+            return slot;
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package uk.gov.hmcts.reform.bulkscanccdeventhandler.common.validation;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Outcome of {@link OcrValidationPipeline}: errors, warnings and values of the fields known to the rules.
+ */
+public class ValidatedOcrData {
+
+    public final List<String> errors;
+    public final List<String> warnings;
+
+    private final Map<String, Integer> slots;
+    private final String[] values;
+
+    ValidatedOcrData(
+        List<String> errors,
+        List<String> warnings,
+        Map<String, Integer> slots,
+        String[] values
+    ) {
+        this.errors = errors;
+        this.warnings = warnings;
+        this.slots = slots;
+        this.values = values;
+    }
+
+    /**
+     * Returns value of the first occurrence of the field in OCR data or null if the field is not there.
+     *
+     * @throws IllegalArgumentException if the field is not mentioned by validation rules
+     */
+    public String getValue(String fieldName) {
+        Integer slot = slots.get(fieldName);
+        if (slot == null) {
+            throw new IllegalArgumentException("Field '" + fieldName + "' is not covered by validation rules");
+        }
+        return values[slot];
+    }
+
+    public boolean hasErrors() {
+        return !errors.isEmpty();
+    }
+}
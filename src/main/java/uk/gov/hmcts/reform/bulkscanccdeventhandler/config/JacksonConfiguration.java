@@ -0,0 +1,21 @@
+package uk.gov.hmcts.reform.bulkscanccdeventhandler.config;
+
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.module.afterburner.AfterburnerModule;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class JacksonConfiguration {
+
+    /**
+     * Replaces reflective property access in request and response models with generated bytecode.
+     * Spring Boot registers every {@link Module} bean with the application's object mapper.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "json.afterburner.enabled", havingValue = "true")
+    public Module afterburnerModule() {
+        return new AfterburnerModule();
+    }
+}
@@ -0,0 +1,63 @@
+package uk.gov.hmcts.reform.bulkscanccdeventhandler.config;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.common.auth.ReactiveAuthTokenValidator;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.common.auth.WebClientAuthTokenValidator;
+
+import java.util.concurrent.Executors;
+
+import static org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type.REACTIVE;
+
+/**
+ * Beans of the reactive profile, which serves the transformation and OCR validation endpoints
+ * on WebFlux instead of Spring MVC.
+ */
+@Configuration
+@ConditionalOnWebApplication(type = REACTIVE)
+public class ReactiveConfiguration {
+
+    /**
+     * Runs the application on Netty. Tomcat is on the classpath too and would be picked otherwise.
+     */
+    @Bean
+    public NettyReactiveWebServerFactory nettyReactiveWebServerFactory() {
+        return new NettyReactiveWebServerFactory();
+    }
+
+    /**
+     * Threads transforming exception records, so that enrichment calls which block
+     * do not hold up the event loop.
+     */
+    @Bean(destroyMethod = "dispose")
+    public Scheduler transformationScheduler(@Value("${reactive.transformation-threads}") int threads) {
+        return Schedulers.fromExecutorService(Executors.newFixedThreadPool(
+            threads,
+            new ThreadFactoryBuilder().setNameFormat("reactive-transformation-%d").setDaemon(true).build()
+        ));
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "idam.s2s-auth.url")
+    public ReactiveAuthTokenValidator reactiveTokenValidator(
+        @Value("${idam.s2s-auth.url}") String s2sUrl,
+        WebClient.Builder webClientBuilder
+    ) {
+        return new WebClientAuthTokenValidator(webClientBuilder.baseUrl(s2sUrl).build());
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "idam.s2s-auth.url", havingValue = "false")
+    public ReactiveAuthTokenValidator reactiveTokenValidatorStub() {
+        return token -> Mono.just("some_service_name");
+    }
+}
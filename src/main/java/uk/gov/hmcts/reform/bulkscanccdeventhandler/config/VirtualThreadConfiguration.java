@@ -0,0 +1,51 @@
+package uk.gov.hmcts.reform.bulkscanccdeventhandler.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.embedded.tomcat.TomcatServletWebServerFactory;
+import org.springframework.boot.web.server.WebServerFactoryCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Runs each request on its own virtual thread instead of a thread from the Tomcat pool,
+ * so that requests waiting on S2S or CCD calls do not limit the number of requests served at a time.
+ *
+ * <p>Virtual threads need Java 21 or later, while the application is built for Java 8. The executor
+ * is therefore looked up reflectively, and the application fails to start when the mode is enabled
+ * on a JVM without virtual threads.
+ */
+@Configuration
+@ConditionalOnProperty(name = "virtual-threads.enabled", havingValue = "true")
+public class VirtualThreadConfiguration {
+
+    private static final Logger log = LoggerFactory.getLogger(VirtualThreadConfiguration.class);
+
+    @Bean
+    public WebServerFactoryCustomizer<TomcatServletWebServerFactory> virtualThreadExecutorCustomizer() {
+        ExecutorService executor = newVirtualThreadPerTaskExecutor();
+        log.info("Requests will run on virtual threads");
+
+        return factory -> factory.addConnectorCustomizers(
+            connector -> connector.getProtocolHandler().setExecutor(executor)
+        );
+    }
+
+    static ExecutorService newVirtualThreadPerTaskExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (NoSuchMethodException exc) {
+            throw new IllegalStateException(
+                "Virtual threads need Java 21 or later, running on " + System.getProperty("java.version"),
+                exc
+            );
+        } catch (IllegalAccessException | InvocationTargetException exc) {
+            throw new IllegalStateException("Failed to create virtual thread executor", exc);
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package uk.gov.hmcts.reform.bulkscanccdeventhandler.ocrvalidation.controllers;
+
+import org.apache.commons.lang3.EnumUtils;
+import org.slf4j.Logger;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RestController;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.common.AsyncRequestExecutors;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.common.auth.AuthService;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.ocrvalidation.model.FormType;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.ocrvalidation.model.in.OcrDataValidationRequest;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.ocrvalidation.model.in.OcrDataValidationRequestValidator;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.ocrvalidation.model.out.OcrValidationResponse;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.ocrvalidation.services.OcrDataValidator;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.ocrvalidation.services.OcrValidationResult;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.ocrvalidation.services.exceptions.FormNotFoundException;
+
+import java.util.concurrent.CompletableFuture;
+
+import static org.slf4j.LoggerFactory.getLogger;
+import static org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type.SERVLET;
+import static org.springframework.http.ResponseEntity.ok;
+
+/**
+ * Asynchronous variant of {@link OcrValidationController}. The Tomcat thread is released as soon as
+ * the request is read; the S2S token is checked on the S2S pool and the OCR data is validated on the compute pool.
+ */
+@RestController
+@ConditionalOnWebApplication(type = SERVLET)
+@ConditionalOnProperty(name = "async-request-handling.enabled", havingValue = "true")
+public class AsyncOcrValidationController {
+    private static final Logger logger = getLogger(AsyncOcrValidationController.class);
+
+    private final OcrDataValidator ocrDataValidator;
+    private final AuthService authService;
+    private final AsyncRequestExecutors executors;
+
+    public AsyncOcrValidationController(
+        OcrDataValidator ocrDataValidator,
+        AuthService authService,
+        AsyncRequestExecutors executors
+    ) {
+        this.ocrDataValidator = ocrDataValidator;
+        this.authService = authService;
+        this.executors = executors;
+    }
+
+    @PostMapping(
+        path = "/forms/{form-type}/validate-ocr",
+        consumes = MediaType.APPLICATION_JSON_VALUE,
+        produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    public CompletableFuture<ResponseEntity<OcrValidationResponse>> validateOcrData(
+        @RequestHeader(name = "ServiceAuthorization", required = false) String serviceAuthHeader,
+        @PathVariable(name = "form-type", required = false) String formType,
+        @RequestBody OcrDataValidationRequest request
+    ) {
+        OcrDataValidationRequestValidator.validate(request);
+
+        if (!EnumUtils.isValidEnum(FormType.class, formType)) {
+            throw new FormNotFoundException("Form type '" + formType + "' not found");
+        }
+
+        return CompletableFuture
+            .supplyAsync(() -> authService.authenticate(serviceAuthHeader), executors.s2s())
+            .thenApplyAsync(
+                serviceName -> {
+                    logger.info("Request received to validate ocr data from service {}", serviceName);
+
+                    authService.assertIsAllowedService(serviceName);
+
+                    OcrValidationResult result =
+                        ocrDataValidator.validate(FormType.valueOf(formType), request.getOcrDataFields());
+
+                    return ok().body(new OcrValidationResponse(result.warnings, result.errors, result.status));
+                },
+                executors.compute()
+            );
+    }
+}
@@ -5,6 +5,8 @@ import io.swagger.annotations.ApiResponse;
 import io.swagger.annotations.ApiResponses;
 import org.apache.commons.lang3.EnumUtils;
 import org.slf4j.Logger;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -15,17 +17,19 @@ import org.springframework.web.bind.annotation.RestController;
 import uk.gov.hmcts.reform.bulkscanccdeventhandler.common.auth.AuthService;
 import uk.gov.hmcts.reform.bulkscanccdeventhandler.ocrvalidation.model.FormType;
 import uk.gov.hmcts.reform.bulkscanccdeventhandler.ocrvalidation.model.in.OcrDataValidationRequest;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.ocrvalidation.model.in.OcrDataValidationRequestValidator;
 import uk.gov.hmcts.reform.bulkscanccdeventhandler.ocrvalidation.model.out.OcrValidationResponse;
 import uk.gov.hmcts.reform.bulkscanccdeventhandler.ocrvalidation.services.OcrDataValidator;
 import uk.gov.hmcts.reform.bulkscanccdeventhandler.ocrvalidation.services.OcrValidationResult;
 import uk.gov.hmcts.reform.bulkscanccdeventhandler.ocrvalidation.services.exceptions.FormNotFoundException;
 
-import javax.validation.Valid;
-
 import static org.slf4j.LoggerFactory.getLogger;
+import static org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type.SERVLET;
 import static org.springframework.http.ResponseEntity.ok;
 
 @RestController
+@ConditionalOnWebApplication(type = SERVLET)
+@ConditionalOnProperty(name = "async-request-handling.enabled", havingValue = "false", matchIfMissing = true)
 public class OcrValidationController {
     private static final Logger logger = getLogger(OcrValidationController.class);
 
@@ -50,6 +54,7 @@ public class OcrValidationController {
         @ApiResponse(
             code = 200, response = OcrValidationResponse.class, message = "Validation executed successfully"
         ),
+        @ApiResponse(code = 400, message = "Request failed validation"),
         @ApiResponse(code = 401, message = "Provided S2S token is missing or invalid"),
         @ApiResponse(code = 403, message = "S2S token is not authorized to use the service"),
         @ApiResponse(code = 404, message = "Form type not found")
@@ -57,8 +62,10 @@ public class OcrValidationController {
     public ResponseEntity<OcrValidationResponse> validateOcrData(
         @RequestHeader(name = "ServiceAuthorization", required = false) String serviceAuthHeader,
         @PathVariable(name = "form-type", required = false) String formType,
-        @Valid @RequestBody OcrDataValidationRequest request
+        @RequestBody OcrDataValidationRequest request
     ) {
+        OcrDataValidationRequestValidator.validate(request);
+
         if (!EnumUtils.isValidEnum(FormType.class, formType)) {
             throw new FormNotFoundException("Form type '" + formType + "' not found");
         }
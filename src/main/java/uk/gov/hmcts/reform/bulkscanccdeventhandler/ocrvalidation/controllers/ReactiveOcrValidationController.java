@@ -0,0 +1,73 @@
+package uk.gov.hmcts.reform.bulkscanccdeventhandler.ocrvalidation.controllers;
+
+import org.apache.commons.lang3.EnumUtils;
+import org.slf4j.Logger;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.common.auth.ReactiveAuthService;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.ocrvalidation.model.FormType;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.ocrvalidation.model.in.OcrDataValidationRequest;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.ocrvalidation.model.in.OcrDataValidationRequestValidator;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.ocrvalidation.model.out.OcrValidationResponse;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.ocrvalidation.services.OcrDataValidator;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.ocrvalidation.services.OcrValidationResult;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.ocrvalidation.services.exceptions.FormNotFoundException;
+
+import static org.slf4j.LoggerFactory.getLogger;
+import static org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type.REACTIVE;
+import static org.springframework.http.ResponseEntity.ok;
+
+/**
+ * Reactive variant of {@link OcrValidationController}. The S2S token is checked without blocking;
+ * validation does no I/O, so it runs on the event loop.
+ */
+@RestController
+@ConditionalOnWebApplication(type = REACTIVE)
+public class ReactiveOcrValidationController {
+    private static final Logger logger = getLogger(ReactiveOcrValidationController.class);
+
+    private final OcrDataValidator ocrDataValidator;
+    private final ReactiveAuthService authService;
+
+    public ReactiveOcrValidationController(
+        OcrDataValidator ocrDataValidator,
+        ReactiveAuthService authService
+    ) {
+        this.ocrDataValidator = ocrDataValidator;
+        this.authService = authService;
+    }
+
+    @PostMapping(
+        path = "/forms/{form-type}/validate-ocr",
+        consumes = MediaType.APPLICATION_JSON_VALUE,
+        produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    public Mono<ResponseEntity<OcrValidationResponse>> validateOcrData(
+        @RequestHeader(name = "ServiceAuthorization", required = false) String serviceAuthHeader,
+        @PathVariable(name = "form-type", required = false) String formType,
+        @RequestBody OcrDataValidationRequest request
+    ) {
+        OcrDataValidationRequestValidator.validate(request);
+
+        if (!EnumUtils.isValidEnum(FormType.class, formType)) {
+            throw new FormNotFoundException("Form type '" + formType + "' not found");
+        }
+
+        return authService
+            .authenticateAllowedService(serviceAuthHeader)
+            .doOnNext(serviceName -> logger.info("Request received to validate ocr data from service {}", serviceName))
+            .map(serviceName -> {
+                OcrValidationResult result =
+                    ocrDataValidator.validate(FormType.valueOf(formType), request.getOcrDataFields());
+
+                return ok().body(new OcrValidationResponse(result.warnings, result.errors, result.status));
+            });
+    }
+}
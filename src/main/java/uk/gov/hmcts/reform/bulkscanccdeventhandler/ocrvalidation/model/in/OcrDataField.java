@@ -2,6 +2,8 @@ package uk.gov.hmcts.reform.bulkscanccdeventhandler.ocrvalidation.model.in;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.common.json.PooledStringDeserializer;
 
 public class OcrDataField {
 
@@ -13,6 +15,7 @@ public class OcrDataField {
 
     @JsonCreator
     public OcrDataField(
+        @JsonDeserialize(using = PooledStringDeserializer.class)
         @JsonProperty("name") String name,
         @JsonProperty("value") String value
     ) {
@@ -5,12 +5,9 @@ import io.swagger.annotations.ApiModelProperty;
 
 import java.util.List;
 
-import javax.validation.constraints.NotEmpty;
-
 public class OcrDataValidationRequest {
 
     @ApiModelProperty(value = "List of ocr data fields to be validated.", required = true)
-    @NotEmpty
     public final List<OcrDataField> ocrDataFields;
 
     public OcrDataValidationRequest(
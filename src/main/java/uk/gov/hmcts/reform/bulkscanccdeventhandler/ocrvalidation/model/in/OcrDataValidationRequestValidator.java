@@ -0,0 +1,27 @@
+package uk.gov.hmcts.reform.bulkscanccdeventhandler.ocrvalidation.model.in;
+
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.common.validation.InvalidRequestException;
+
+/**
+ * Checks constraints of {@link OcrDataValidationRequest}.
+ *
+ * <p>Written out by hand instead of annotating the model for bean validation, which inspects
+ * the model reflectively on every request.
+ */
+public final class OcrDataValidationRequestValidator {
+
+    /**
+     * Checks that the request has OCR data fields.
+     *
+     * @throws InvalidRequestException when the list of OCR data fields is missing or empty
+     */
+    public static void validate(OcrDataValidationRequest request) {
+        if (request.ocrDataFields == null || request.ocrDataFields.isEmpty()) {
+            throw new InvalidRequestException("ocr_data_fields must not be empty");
+        }
+    }
+
+    private OcrDataValidationRequestValidator() {
+        // util class
+    }
+}
@@ -1,17 +1,27 @@
 package uk.gov.hmcts.reform.bulkscanccdeventhandler.ocrvalidation.services;
 
+import com.google.common.collect.ImmutableSet;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.common.validation.OcrValidationPipeline;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.common.validation.OcrValidationRules;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.common.validation.ValidatedOcrData;
 import uk.gov.hmcts.reform.bulkscanccdeventhandler.ocrvalidation.model.FormType;
 import uk.gov.hmcts.reform.bulkscanccdeventhandler.ocrvalidation.model.in.OcrDataField;
 import uk.gov.hmcts.reform.bulkscanccdeventhandler.ocrvalidation.model.out.ValidationStatus;
 
+import java.time.LocalDate;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
 
 import static java.util.Arrays.asList;
 import static java.util.Collections.emptyList;
 import static java.util.Collections.singletonList;
+import static org.apache.commons.lang.StringUtils.isBlank;
 import static uk.gov.hmcts.reform.bulkscanccdeventhandler.common.OcrFieldNames.ADDRESS_LINE_1;
 import static uk.gov.hmcts.reform.bulkscanccdeventhandler.common.OcrFieldNames.ADDRESS_LINE_2;
 import static uk.gov.hmcts.reform.bulkscanccdeventhandler.common.OcrFieldNames.ADDRESS_LINE_3;
@@ -24,19 +34,32 @@ import static uk.gov.hmcts.reform.bulkscanccdeventhandler.common.OcrFieldNames.F
 import static uk.gov.hmcts.reform.bulkscanccdeventhandler.common.OcrFieldNames.LAST_NAME;
 import static uk.gov.hmcts.reform.bulkscanccdeventhandler.common.OcrFieldNames.POST_CODE;
 import static uk.gov.hmcts.reform.bulkscanccdeventhandler.common.OcrFieldNames.POST_TOWN;
+import static uk.gov.hmcts.reform.bulkscanccdeventhandler.common.validation.OcrValidationRules.MissingWhen.ABSENT;
+import static uk.gov.hmcts.reform.bulkscanccdeventhandler.common.validation.OcrValidationRules.MissingWhen.BLANK;
 import static uk.gov.hmcts.reform.bulkscanccdeventhandler.ocrvalidation.model.FormType.PERSONAL;
 import static uk.gov.hmcts.reform.bulkscanccdeventhandler.ocrvalidation.model.out.ValidationStatus.ERRORS;
 import static uk.gov.hmcts.reform.bulkscanccdeventhandler.ocrvalidation.model.out.ValidationStatus.SUCCESS;
 import static uk.gov.hmcts.reform.bulkscanccdeventhandler.ocrvalidation.model.out.ValidationStatus.WARNINGS;
-import static uk.gov.hmcts.reform.bulkscanccdeventhandler.ocrvalidation.services.OcrFormValidationHelper.getOcrFieldNames;
-import static uk.gov.hmcts.reform.bulkscanccdeventhandler.ocrvalidation.services.OcrFormValidationHelper.isValidEmailAddress;
-import static uk.gov.hmcts.reform.bulkscanccdeventhandler.ocrvalidation.services.OcrFormValidationHelper.isValidPhoneNumber;
 
 @Service
 public class OcrDataValidator {
 
     private static final Logger log = LoggerFactory.getLogger(OcrDataValidator.class);
 
+    private static final String DUPLICATE_FIELDS_MESSAGE = "Invalid OCR data. Duplicate fields exist: %s";
+    private static final String MISSING_FIELD_MESSAGE = "%s is missing";
+
+    private static final Set<String> UK_COUNTRY_NAMES = ImmutableSet.of(
+        "UK",
+        "UNITED KINGDOM",
+        "GB",
+        "GREAT BRITAIN",
+        "ENGLAND",
+        "SCOTLAND",
+        "WALES",
+        "NORTHERN IRELAND"
+    );
+
     private static final List<String> personalFormMandatoryFields = asList(FIRST_NAME, LAST_NAME);
 
     private static final List<String> personalFormOptionalFields = asList(
@@ -52,57 +75,69 @@ public class OcrDataValidator {
         DATE_OF_BIRTH
     );
 
-    public OcrValidationResult validate(FormType formType, List<OcrDataField> ocrData) {
-        List<String> duplicateOcrFields = OcrFormValidationHelper.findDuplicateOcrFields(ocrData);
-
-        if (duplicateOcrFields.isEmpty()) {
-            List<String> errors = validateMandatoryFields(formType, ocrData);
-            List<String> warnings = validateOptionalFields(formType, ocrData);
-
-            return new OcrValidationResult(
-                warnings, errors, getValidationStatus(!errors.isEmpty(), !warnings.isEmpty())
+    private static final OcrValidationRules defaultRules =
+        OcrValidationRules.builder().rejectDuplicateFields(DUPLICATE_FIELDS_MESSAGE).build();
+
+    private static final Map<FormType, OcrValidationRules> rulesByFormType = new EnumMap<>(FormType.class);
+
+    static {
+        OcrValidationRules.Builder personalFormRules =
+            OcrValidationRules.builder().rejectDuplicateFields(DUPLICATE_FIELDS_MESSAGE);
+        personalFormMandatoryFields.forEach(
+            field -> personalFormRules.requireField(field, BLANK, MISSING_FIELD_MESSAGE)
+        );
+        personalFormOptionalFields.forEach(
+            field -> personalFormRules.expectField(field, ABSENT, MISSING_FIELD_MESSAGE)
+        );
+        personalFormRules
+            .checkFormat(EMAIL, OcrFormValidationHelper::isValidEmailAddress, "Invalid email address")
+            .checkFormat(CONTACT_NUMBER, OcrFormValidationHelper::isValidPhoneNumber, "Invalid phone number")
+            .requireThat(
+                POST_CODE,
+                singletonList(COUNTRY),
+                fields -> !isUk(fields.get(COUNTRY)) || !isBlank(fields.get(POST_CODE)),
+                "post_code is required for UK addresses"
+            )
+            .expectThat(
+                EMAIL,
+                singletonList(CONTACT_NUMBER),
+                fields -> !isBlank(fields.get(EMAIL)) || !isBlank(fields.get(CONTACT_NUMBER)),
+                "at least one of email or contact_number should be provided"
+            )
+            .requireThat(
+                DATE_OF_BIRTH,
+                emptyList(),
+                fields -> isBlank(fields.get(DATE_OF_BIRTH))
+                    || OcrFormValidationHelper.isPlausibleDateOfBirth(fields.get(DATE_OF_BIRTH), LocalDate.now()),
+                "date_of_birth gives an age outside of 0 to 120 years"
             );
-        } else {
-            String duplicateFields = String.join(",", duplicateOcrFields);
-            log.info("Found duplicate fields in OCR data. {}", duplicateFields);
 
-            String errorMessage = String.format("Invalid OCR data. Duplicate fields exist: %s", duplicateFields);
-            return new OcrValidationResult(emptyList(), singletonList(errorMessage), ERRORS);
-        }
+        rulesByFormType.put(PERSONAL, personalFormRules.build());
     }
 
-    private List<String> validateMandatoryFields(FormType formType, List<OcrDataField> ocrData) {
-        List<String> mandatoryFields = getMandatoryFieldsForForm(formType);
-        List<String> missingFields = OcrFormValidationHelper.findBlankFields(mandatoryFields, ocrData);
-        List<String> errors = OcrFormValidationHelper.getErrorMessagesForMissingFields(missingFields);
-
-        String email = OcrFormValidationHelper.findOcrFormFieldValue(EMAIL, ocrData);
-        String phone = OcrFormValidationHelper.findOcrFormFieldValue(CONTACT_NUMBER, ocrData);
+    private final OcrValidationPipeline validationPipeline;
 
-        if (email != null && !isValidEmailAddress(email)) {
-            errors.add("Invalid email address");
-        }
-        if (phone != null && !isValidPhoneNumber(phone)) {
-            errors.add("Invalid phone number");
-        }
-
-        return errors;
+    public OcrDataValidator(OcrValidationPipeline validationPipeline) {
+        this.validationPipeline = validationPipeline;
     }
 
-    private List<String> validateOptionalFields(FormType formType, List<OcrDataField> ocrData) {
-        List<String> optionalFields = getOptionalFieldsForForm(formType);
-        List<String> ocrInputFields = getOcrFieldNames(ocrData);
+    public OcrValidationResult validate(FormType formType, List<OcrDataField> ocrData) {
+        ValidatedOcrData result =
+            validationPipeline.validate(ocrData, rulesByFormType.getOrDefault(formType, defaultRules));
 
-        List<String> missingFields = OcrFormValidationHelper.findMissingFields(optionalFields, ocrInputFields);
-        return OcrFormValidationHelper.getErrorMessagesForMissingFields(missingFields);
-    }
+        if (result.hasErrors()) {
+            log.info("OCR data for form type {} is invalid. {}", formType, result.errors);
+        }
 
-    private List<String> getMandatoryFieldsForForm(FormType formType) {
-        return formType.equals(PERSONAL) ? personalFormMandatoryFields : emptyList();
+        return new OcrValidationResult(
+            result.warnings,
+            result.errors,
+            getValidationStatus(result.hasErrors(), !result.warnings.isEmpty())
+        );
     }
 
-    private List<String> getOptionalFieldsForForm(FormType formType) {
-        return formType.equals(PERSONAL) ? personalFormOptionalFields : emptyList();
+    private static boolean isUk(String country) {
+        return country != null && UK_COUNTRY_NAMES.contains(country.trim().toUpperCase(Locale.ROOT));
     }
 
     private ValidationStatus getValidationStatus(boolean errorsExist, boolean warningsExist) {
@@ -1,52 +1,30 @@
 package uk.gov.hmcts.reform.bulkscanccdeventhandler.ocrvalidation.services;
 
 import org.apache.commons.validator.routines.EmailValidator;
-import uk.gov.hmcts.reform.bulkscanccdeventhandler.ocrvalidation.model.in.OcrDataField;
 
-import java.util.Collection;
+import java.time.LocalDate;
+import java.time.Period;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
 import java.util.List;
-import java.util.Map.Entry;
 import java.util.regex.Pattern;
 
-import static java.util.stream.Collectors.counting;
-import static java.util.stream.Collectors.groupingBy;
-import static java.util.stream.Collectors.toList;
-import static org.apache.commons.lang.StringUtils.isBlank;
+import static java.util.Arrays.asList;
 
 public final class OcrFormValidationHelper {
 
-    private OcrFormValidationHelper() {
-        // util class
-    }
+    private static final Pattern PHONE_NUMBER_PATTERN = Pattern.compile("\\d{10}");
 
-    public static List<String> getOcrFieldNames(List<OcrDataField> ocrData) {
-        return ocrData
-            .stream()
-            .map(field -> field.name)
-            .collect(toList());
-    }
+    private static final List<DateTimeFormatter> DATE_FORMATS = asList(
+        DateTimeFormatter.ISO_LOCAL_DATE,
+        DateTimeFormatter.ofPattern("dd-MM-yyyy"),
+        DateTimeFormatter.ofPattern("dd/MM/yyyy")
+    );
 
-    public static List<String> findBlankFields(List<String> fieldNames, List<OcrDataField> ocrData) {
-        return fieldNames
-            .stream()
-            .filter(field -> isBlank(OcrFormValidationHelper.findOcrFormFieldValue(field, ocrData)))
-            .collect(toList());
-    }
-
-    /* returns missing expected fields in the input collection */
-    public static List<String> findMissingFields(List<String> expectedFields, List<String> inputFields) {
-        return expectedFields.stream()
-            .filter(item -> !inputFields.contains(item))
-            .collect(toList());
-    }
+    private static final int MAX_AGE_YEARS = 120;
 
-    public static String findOcrFormFieldValue(String fieldName, List<OcrDataField> ocrData) {
-        return ocrData
-            .stream()
-            .filter(e -> fieldName.equals(e.name))
-            .findFirst()
-            .map(v -> v.value)
-            .orElse(null);
+    private OcrFormValidationHelper() {
+        // util class
     }
 
     public static boolean isValidEmailAddress(String email) {
@@ -54,24 +32,22 @@ public final class OcrFormValidationHelper {
     }
 
     public static boolean isValidPhoneNumber(String phone) {
-        return Pattern.compile("\\d{10}").matcher(phone).matches();
-    }
-
-    public static List<String> findDuplicateOcrFields(List<OcrDataField> ocrFields) {
-        return ocrFields
-            .stream()
-            .collect(groupingBy(it -> it.name, counting()))
-            .entrySet()
-            .stream()
-            .filter(entry -> entry.getValue() > 1)
-            .map(Entry::getKey)
-            .collect(toList());
-    }
-
-    public static List<String> getErrorMessagesForMissingFields(Collection<String> missingFields) {
-        return missingFields
-            .stream()
-            .map(field -> String.format("%s is missing", field))
-            .collect(toList());
+        return PHONE_NUMBER_PATTERN.matcher(phone).matches();
+    }
+
+    /**
+     * Tells whether date of birth gives an age between 0 and 120 years on given day.
+     * Dates in a format which is not recognised are accepted, as no format is enforced for them.
+     */
+    public static boolean isPlausibleDateOfBirth(String dateOfBirth, LocalDate today) {
+        for (DateTimeFormatter format : DATE_FORMATS) {
+            try {
+                LocalDate date = LocalDate.parse(dateOfBirth.trim(), format);
+                return !date.isAfter(today) && Period.between(date, today).getYears() <= MAX_AGE_YEARS;
+            } catch (DateTimeParseException exc) {
+                // try next format
+            }
+        }
+        return true;
     }
 }
@@ -0,0 +1,124 @@
+package uk.gov.hmcts.reform.bulkscanccdeventhandler.reprocessing;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Splits a file of concatenated JSON objects into separate records without parsing them.
+ *
+ * <p>The file is memory-mapped and scanned byte by byte, counting curly braces outside of string literals.
+ * Anything between top-level objects (whitespace, commas, square brackets) is skipped, so both
+ * newline-delimited files and JSON arrays of records are supported. Files larger than the mapping window
+ * are mapped in consecutive windows, each starting at the first record not completed in the previous one.
+ */
+public class ExceptionRecordSplitter {
+
+    @FunctionalInterface
+    public interface RecordHandler {
+
+        /**
+         * Called for every record found, in file order. Record truncated by the end of the file is passed as is.
+         */
+        void onRecord(long offset, byte[] json);
+    }
+
+    private final long windowSize;
+
+    public ExceptionRecordSplitter() {
+        this(Integer.MAX_VALUE);
+    }
+
+    ExceptionRecordSplitter(long windowSize) {
+        this.windowSize = windowSize;
+    }
+
+    public void split(Path file, RecordHandler handler) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            long windowStart = 0;
+
+            while (windowStart < size) {
+                long length = Math.min(windowSize, size - windowStart);
+                boolean isLastWindow = windowStart + length == size;
+
+                MappedByteBuffer window = channel.map(FileChannel.MapMode.READ_ONLY, windowStart, length);
+                int consumed = scan(window, (int) length, windowStart, isLastWindow, handler);
+
+                if (consumed == 0) {
+                    throw new IOException(
+                        "Record at offset " + windowStart + " of " + file + " is larger than " + windowSize + " bytes"
+                    );
+                }
+                windowStart += consumed;
+            }
+        }
+    }
+
+    /**
+     * Emits all records completed within the window.
+     *
+     * @return number of bytes up to the start of the first record not completed within the window
+     */
+    private static int scan(
+        MappedByteBuffer window,
+        int length,
+        long windowOffset,
+        boolean isLastWindow,
+        RecordHandler handler
+    ) {
+        int depth = 0;
+        boolean inString = false;
+        boolean escaped = false;
+        int recordStart = 0;
+
+        for (int i = 0; i < length; i++) {
+            byte b = window.get(i);
+
+            if (depth == 0) {
+                if (b == '{') {
+                    depth = 1;
+                    recordStart = i;
+                }
+            } else if (inString) {
+                if (escaped) {
+                    escaped = false;
+                } else if (b == '\\') {
+                    escaped = true;
+                } else if (b == '"') {
+                    inString = false;
+                }
+            } else if (b == '"') {
+                inString = true;
+            } else if (b == '{') {
+                depth++;
+            } else if (b == '}') {
+                depth--;
+                if (depth == 0) {
+                    handler.onRecord(windowOffset + recordStart, copy(window, recordStart, i + 1));
+                }
+            }
+        }
+
+        if (depth == 0) {
+            return length;
+        } else if (isLastWindow) {
+            handler.onRecord(windowOffset + recordStart, copy(window, recordStart, length));
+            return length;
+        } else {
+            return recordStart;
+        }
+    }
+
+    private static byte[] copy(MappedByteBuffer window, int from, int to) {
+        byte[] bytes = new byte[to - from];
+        // bulk read from a view, leaving position of the window alone
+        ByteBuffer record = window.duplicate();
+        record.position(from);
+        record.get(bytes);
+        return bytes;
+    }
+}
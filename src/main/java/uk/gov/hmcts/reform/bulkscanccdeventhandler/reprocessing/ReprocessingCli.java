@@ -0,0 +1,218 @@
+package uk.gov.hmcts.reform.bulkscanccdeventhandler.reprocessing;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.env.YamlPropertySourceLoader;
+import org.springframework.core.env.StandardEnvironment;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.DefaultResourceLoader;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.common.validation.OcrValidationPipeline;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.ocrvalidation.model.FormType;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.ocrvalidation.services.OcrDataValidator;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.services.AddressExtractor;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.services.CaseTypeMappingProperties;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.services.DocumentIntegrityChecker;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.services.DocumentMapper;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.services.ExceptionRecordToCaseTransformer;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.services.ExceptionRecordValidator;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.services.PersonGroupExtractor;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.services.TransformerRegistry;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.services.ValidateAndTransformService;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.services.address.AddressParser;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Command line entry point for reprocessing archived exception records with the current rules.
+ *
+ * <p>Runs the same validation and transformation as the combined validate-and-transform endpoint,
+ * but components are created directly instead of starting the application context, so the tool
+ * starts in a fraction of a second. Results are written to the output file as newline-delimited JSON
+ * and the number of records by outcome is printed to standard output.
+ *
+ * <p>Mappings, the number of repeating groups and the gazetteer are read from {@code application.yaml},
+ * including the environment variables it refers to. Mappings can be replaced with {@code --mapping} options.
+ *
+ * <pre>
+ * reprocess [--form-type=PERSONAL] [--threads=N]
+ *           [--mapping=jurisdiction,po-box,case-type-id,target-case-type-id,event-id ...]
+ *           input-file-or-directory output-file
+ * </pre>
+ */
+public final class ReprocessingCli {
+
+    private static final String APPLICATION_YAML = "application.yaml";
+    private static final String MAPPINGS_PREFIX = "transformation";
+    private static final String MAX_GROUPS_PROPERTY = "transformation.repeating-groups.max-groups";
+    private static final String GAZETTEER_PROPERTY = "address-parsing.gazetteer";
+
+    private static final int BUFFER_SIZE = 1 << 20;
+
+    private ReprocessingCli() {
+        // entry point only
+    }
+
+    public static void main(String[] args) throws IOException {
+        FormType formType = FormType.PERSONAL;
+        int threadCount = Runtime.getRuntime().availableProcessors();
+        List<String> mappings = new ArrayList<>();
+        List<String> paths = new ArrayList<>();
+
+        for (String arg : args) {
+            if (arg.startsWith("--form-type=")) {
+                formType = FormType.valueOf(value(arg));
+            } else if (arg.startsWith("--threads=")) {
+                threadCount = Integer.parseInt(value(arg));
+            } else if (arg.startsWith("--mapping=")) {
+                mappings.add(value(arg));
+            } else if (arg.startsWith("--")) {
+                exitWithUsage("Unknown option " + arg);
+            } else {
+                paths.add(arg);
+            }
+        }
+
+        if (paths.size() != 2) {
+            exitWithUsage("Input and output paths are required");
+        }
+
+        Reprocessor reprocessor = new Reprocessor(
+            createValidateAndTransformService(mappings),
+            new ExceptionRecordSplitter(),
+            createObjectMapper(),
+            formType,
+            threadCount
+        );
+
+        Path input = Paths.get(paths.get(0));
+        Path output = Paths.get(paths.get(1));
+        long start = System.nanoTime();
+
+        Map<ReprocessingOutcome, Long> counts;
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(output), BUFFER_SIZE)) {
+            counts = reprocessor.reprocess(input, out);
+        }
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("records", counts.values().stream().mapToLong(Long::longValue).sum());
+        summary.put("outcomes", counts);
+        summary.put("elapsed_millis", elapsedMillis);
+
+        System.out.println(createObjectMapper().writerWithDefaultPrettyPrinter().writeValueAsString(summary));
+    }
+
+    /**
+     * Creates the service from the application configuration. Mappings given on the command line
+     * replace the configured ones.
+     */
+    static ValidateAndTransformService createValidateAndTransformService(List<String> mappings) {
+        Binder configuration = loadConfiguration();
+
+        CaseTypeMappingProperties properties = new CaseTypeMappingProperties();
+        if (mappings.isEmpty()) {
+            configuration.bind(MAPPINGS_PREFIX, Bindable.ofInstance(properties));
+        } else {
+            for (String mapping : mappings) {
+                properties.getMappings().add(parseMapping(mapping));
+            }
+        }
+
+        OcrValidationPipeline validationPipeline = new OcrValidationPipeline();
+
+        ExceptionRecordToCaseTransformer transformer = new ExceptionRecordToCaseTransformer(
+            new TransformerRegistry(properties),
+            new DocumentMapper(),
+            new AddressExtractor(createAddressParser(configuration.bind(GAZETTEER_PROPERTY, String.class).get())),
+            new PersonGroupExtractor(configuration.bind(MAX_GROUPS_PROPERTY, Integer.class).get()),
+            new ExceptionRecordValidator(validationPipeline),
+            new DocumentIntegrityChecker(),
+            Optional.empty(),
+            Optional.empty(),
+            Optional.empty(),
+            new SimpleMeterRegistry()
+        );
+
+        return new ValidateAndTransformService(new OcrDataValidator(validationPipeline), transformer);
+    }
+
+    /**
+     * Reads the default document of the application configuration, resolving placeholders against
+     * environment variables and system properties the same way the application does.
+     * Other documents only apply to profiles which the tool does not use.
+     */
+    private static Binder loadConfiguration() {
+        StandardEnvironment environment = new StandardEnvironment();
+        try {
+            environment.getPropertySources().addLast(
+                new YamlPropertySourceLoader().load(APPLICATION_YAML, new ClassPathResource(APPLICATION_YAML)).get(0)
+            );
+        } catch (IOException exc) {
+            throw new UncheckedIOException("Failed to load " + APPLICATION_YAML, exc);
+        }
+        return Binder.get(environment);
+    }
+
+    private static AddressParser createAddressParser(String gazetteer) {
+        try {
+            return new AddressParser(new DefaultResourceLoader().getResource(gazetteer));
+        } catch (IOException exc) {
+            throw new UncheckedIOException("Failed to load gazetteer " + gazetteer, exc);
+        }
+    }
+
+    /**
+     * Creates mapper configured the same way as the one used by the application.
+     */
+    static ObjectMapper createObjectMapper() {
+        return new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+    }
+
+    private static CaseTypeMappingProperties.Mapping parseMapping(String value) {
+        String[] parts = value.split(",", -1);
+        if (parts.length != 5) {
+            exitWithUsage("Invalid mapping: " + value);
+        }
+
+        CaseTypeMappingProperties.Mapping mapping = new CaseTypeMappingProperties.Mapping();
+        mapping.setJurisdiction(parts[0]);
+        mapping.setPoBox(parts[1]);
+        mapping.setCaseTypeId(parts[2]);
+        mapping.setTargetCaseTypeId(parts[3]);
+        mapping.setEventId(parts[4]);
+        return mapping;
+    }
+
+    private static String value(String option) {
+        return option.substring(option.indexOf('=') + 1);
+    }
+
+    private static void exitWithUsage(String message) {
+        System.err.println(message);
+        System.err.println(
+            "Usage: reprocess [--form-type=PERSONAL] [--threads=N] "
+                + "[--mapping=jurisdiction,po-box,case-type-id,target-case-type-id,event-id ...] "
+                + "input-file-or-directory output-file"
+        );
+        System.exit(1);
+    }
+}
@@ -0,0 +1,10 @@
+package uk.gov.hmcts.reform.bulkscanccdeventhandler.reprocessing;
+
+public enum ReprocessingOutcome {
+    SUCCESS,
+    WARNINGS,
+    VALIDATION_ERRORS,
+    TRANSFORMATION_FAILED,
+    INVALID_RECORD,
+    UNEXPECTED_ERROR
+}
@@ -0,0 +1,45 @@
+package uk.gov.hmcts.reform.bulkscanccdeventhandler.reprocessing;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.model.out.ValidateAndTransformResponse;
+
+import java.util.List;
+
+public class ReprocessingResult {
+
+    @JsonProperty("source")
+    public final String source;
+
+    @JsonProperty("offset")
+    public final long offset;
+
+    @JsonProperty("exception_record_id")
+    public final String exceptionRecordId;
+
+    @JsonProperty("outcome")
+    public final ReprocessingOutcome outcome;
+
+    @JsonProperty("response")
+    public final ValidateAndTransformResponse response;
+
+    @JsonProperty("errors")
+    public final List<String> errors;
+
+    // region constructor
+    public ReprocessingResult(
+        String source,
+        long offset,
+        String exceptionRecordId,
+        ReprocessingOutcome outcome,
+        ValidateAndTransformResponse response,
+        List<String> errors
+    ) {
+        this.source = source;
+        this.offset = offset;
+        this.exceptionRecordId = exceptionRecordId;
+        this.outcome = outcome;
+        this.response = response;
+        this.errors = errors;
+    }
+    // endregion
+}
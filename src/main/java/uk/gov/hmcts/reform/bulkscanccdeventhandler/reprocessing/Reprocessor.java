@@ -0,0 +1,200 @@
+package uk.gov.hmcts.reform.bulkscanccdeventhandler.reprocessing;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.ocrvalidation.model.FormType;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.model.in.ExceptionRecord;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.model.out.ValidateAndTransformResponse;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.services.InvalidExceptionRecordException;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.services.ValidateAndTransformService;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+import static java.util.Collections.singletonList;
+import static java.util.stream.Collectors.toList;
+
+/**
+ * Validates and transforms archived exception records, using all available cores.
+ *
+ * <p>Input files are split into records on the calling thread and records are processed by a pool of workers.
+ * The work queue is bounded and the calling thread processes records itself when the queue is full,
+ * so memory use does not depend on the size of the input. Results are written as newline-delimited JSON,
+ * in the order they are completed.
+ */
+public class Reprocessor {
+
+    private static final Logger log = LoggerFactory.getLogger(Reprocessor.class);
+
+    private static final int QUEUED_RECORDS_PER_THREAD = 64;
+
+    private final ValidateAndTransformService validateAndTransformService;
+    private final ExceptionRecordSplitter splitter;
+    private final ObjectReader exceptionRecordReader;
+    private final ObjectWriter resultWriter;
+    private final FormType formType;
+    private final int threadCount;
+
+    // region constructor
+    public Reprocessor(
+        ValidateAndTransformService validateAndTransformService,
+        ExceptionRecordSplitter splitter,
+        ObjectMapper objectMapper,
+        FormType formType,
+        int threadCount
+    ) {
+        this.validateAndTransformService = validateAndTransformService;
+        this.splitter = splitter;
+        this.exceptionRecordReader = objectMapper.readerFor(ExceptionRecord.class);
+        this.resultWriter = objectMapper.writerFor(ReprocessingResult.class);
+        this.formType = formType;
+        this.threadCount = threadCount;
+    }
+    // endregion
+
+    /**
+     * Processes a single file or all files in a directory, including subdirectories, in name order.
+     *
+     * @return number of records by outcome
+     */
+    public Map<ReprocessingOutcome, Long> reprocess(Path input, OutputStream output) throws IOException {
+        Map<ReprocessingOutcome, LongAdder> counts = new EnumMap<>(ReprocessingOutcome.class);
+        for (ReprocessingOutcome outcome : ReprocessingOutcome.values()) {
+            counts.put(outcome, new LongAdder());
+        }
+        AtomicReference<IOException> writeFailure = new AtomicReference<>();
+
+        ThreadPoolExecutor workers = new ThreadPoolExecutor(
+            threadCount,
+            threadCount,
+            0L,
+            TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(threadCount * QUEUED_RECORDS_PER_THREAD),
+            new ThreadFactoryBuilder().setNameFormat("reprocessing-%d").setDaemon(true).build(),
+            new ThreadPoolExecutor.CallerRunsPolicy()
+        );
+
+        try {
+            for (Path file : listFiles(input)) {
+                String source = file.toString();
+                splitter.split(
+                    file,
+                    (offset, json) -> workers.execute(() -> {
+                        ReprocessingResult result = process(source, offset, json);
+                        counts.get(result.outcome).increment();
+                        write(output, result, writeFailure);
+                    })
+                );
+            }
+        } finally {
+            workers.shutdown();
+        }
+
+        try {
+            workers.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException exc) {
+            workers.shutdownNow();
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for records to be processed", exc);
+        }
+
+        if (writeFailure.get() != null) {
+            throw writeFailure.get();
+        }
+        output.flush();
+
+        Map<ReprocessingOutcome, Long> summary = new EnumMap<>(ReprocessingOutcome.class);
+        counts.forEach((outcome, count) -> summary.put(outcome, count.sum()));
+        return summary;
+    }
+
+    private ReprocessingResult process(String source, long offset, byte[] json) {
+        ExceptionRecord exceptionRecord;
+        try {
+            exceptionRecord = exceptionRecordReader.readValue(json);
+        } catch (JsonProcessingException exc) {
+            return failure(source, offset, null, ReprocessingOutcome.INVALID_RECORD, exc.getOriginalMessage());
+        } catch (IOException exc) {
+            return failure(source, offset, null, ReprocessingOutcome.INVALID_RECORD, exc.getMessage());
+        }
+
+        try {
+            ValidateAndTransformResponse response =
+                validateAndTransformService.validateAndTransform(formType, exceptionRecord);
+
+            return new ReprocessingResult(source, offset, exceptionRecord.id, toOutcome(response), response, null);
+        } catch (InvalidExceptionRecordException exc) {
+            return new ReprocessingResult(
+                source,
+                offset,
+                exceptionRecord.id,
+                ReprocessingOutcome.TRANSFORMATION_FAILED,
+                null,
+                exc.getErrors()
+            );
+        } catch (Exception exc) {
+            log.error("Failed to process exception record {} at {}:{}", exceptionRecord.id, source, offset, exc);
+            return failure(source, offset, exceptionRecord.id, ReprocessingOutcome.UNEXPECTED_ERROR, exc.toString());
+        }
+    }
+
+    private void write(OutputStream output, ReprocessingResult result, AtomicReference<IOException> failure) {
+        try {
+            byte[] bytes = resultWriter.writeValueAsBytes(result);
+            synchronized (output) {
+                output.write(bytes);
+                output.write('\n');
+            }
+        } catch (IOException exc) {
+            // reported once all records are processed
+            failure.compareAndSet(null, exc);
+        }
+    }
+
+    private static ReprocessingOutcome toOutcome(ValidateAndTransformResponse response) {
+        switch (response.status) {
+            case ERRORS:
+                return ReprocessingOutcome.VALIDATION_ERRORS;
+            case WARNINGS:
+                return ReprocessingOutcome.WARNINGS;
+            default:
+                return ReprocessingOutcome.SUCCESS;
+        }
+    }
+
+    private static ReprocessingResult failure(
+        String source,
+        long offset,
+        String exceptionRecordId,
+        ReprocessingOutcome outcome,
+        String error
+    ) {
+        return new ReprocessingResult(source, offset, exceptionRecordId, outcome, null, singletonList(error));
+    }
+
+    private static List<Path> listFiles(Path input) throws IOException {
+        if (!Files.isDirectory(input)) {
+            return singletonList(input);
+        }
+
+        try (Stream<Path> paths = Files.walk(input)) {
+            return paths.filter(Files::isRegularFile).sorted().collect(toList());
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.client;
+
+import org.springframework.cloud.openfeign.FeignClient;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.client.model.CaseSearchResult;
+
+import java.util.Map;
+
+import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
+
+@FeignClient(name = "core-case-data-search-api", url = "${core_case_data.api.url}")
+public interface CcdSearchApi {
+
+    @PostMapping(value = "/searchCases", consumes = APPLICATION_JSON_VALUE)
+    CaseSearchResult searchCases(
+        @RequestHeader("Authorization") String userToken,
+        @RequestHeader("ServiceAuthorization") String serviceAuthorization,
+        @RequestParam("ctid") String caseTypeId,
+        @RequestBody Map<String, Object> query
+    );
+}
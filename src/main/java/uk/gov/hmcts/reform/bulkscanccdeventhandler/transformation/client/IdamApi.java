@@ -0,0 +1,16 @@
+package uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.client;
+
+import org.springframework.cloud.openfeign.FeignClient;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.client.model.IdamTokenResponse;
+
+import static org.springframework.http.MediaType.APPLICATION_FORM_URLENCODED_VALUE;
+
+@FeignClient(name = "idam-api", url = "${idam.api.url}")
+public interface IdamApi {
+
+    @PostMapping(value = "/o/token", consumes = APPLICATION_FORM_URLENCODED_VALUE)
+    IdamTokenResponse generateOpenIdToken(@RequestBody MultiValueMap<String, String> form);
+}
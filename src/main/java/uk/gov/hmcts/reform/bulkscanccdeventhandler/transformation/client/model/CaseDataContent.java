@@ -0,0 +1,27 @@
+package uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.client.model;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+public class CaseDataContent {
+
+    @JsonProperty("event")
+    public final Event event;
+
+    @JsonProperty("event_token")
+    public final String eventToken;
+
+    @JsonProperty("data")
+    public final Object data;
+
+    // region constructor
+    public CaseDataContent(
+        Event event,
+        String eventToken,
+        Object data
+    ) {
+        this.event = event;
+        this.eventToken = eventToken;
+        this.data = data;
+    }
+    // endregion
+}
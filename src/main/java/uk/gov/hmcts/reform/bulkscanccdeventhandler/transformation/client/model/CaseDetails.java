@@ -0,0 +1,19 @@
+package uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.client.model;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.Map;
+
+public class CaseDetails {
+
+    public final Long id;
+    public final Map<String, Object> data;
+
+    public CaseDetails(
+        @JsonProperty("id") Long id,
+        @JsonProperty("case_data") Map<String, Object> data
+    ) {
+        this.id = id;
+        this.data = data;
+    }
+}
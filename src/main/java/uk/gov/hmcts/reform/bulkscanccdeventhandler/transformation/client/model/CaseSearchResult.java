@@ -0,0 +1,19 @@
+package uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.client.model;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.List;
+
+public class CaseSearchResult {
+
+    public final int total;
+    public final List<CaseDetails> cases;
+
+    public CaseSearchResult(
+        @JsonProperty("total") int total,
+        @JsonProperty("cases") List<CaseDetails> cases
+    ) {
+        this.total = total;
+        this.cases = cases;
+    }
+}
@@ -0,0 +1,17 @@
+package uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.client.model;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+public class Event {
+
+    @JsonProperty("id")
+    public final String id;
+
+    @JsonProperty("summary")
+    public final String summary;
+
+    public Event(String id, String summary) {
+        this.id = id;
+        this.summary = summary;
+    }
+}
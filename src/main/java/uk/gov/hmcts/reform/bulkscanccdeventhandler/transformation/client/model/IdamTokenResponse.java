@@ -0,0 +1,12 @@
+package uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.client.model;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+public class IdamTokenResponse {
+
+    public final String accessToken;
+
+    public IdamTokenResponse(@JsonProperty("access_token") String accessToken) {
+        this.accessToken = accessToken;
+    }
+}
@@ -0,0 +1,12 @@
+package uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.client.model;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+public class StartEventResponse {
+
+    public final String token;
+
+    public StartEventResponse(@JsonProperty("token") String token) {
+        this.token = token;
+    }
+}
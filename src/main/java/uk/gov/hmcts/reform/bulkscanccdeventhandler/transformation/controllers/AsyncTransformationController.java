@@ -0,0 +1,79 @@
+package uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.controllers;
+
+import org.slf4j.Logger;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.common.AsyncRequestExecutors;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.common.auth.AuthService;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.model.in.ExceptionRecord;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.model.in.ResponseSection;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.model.out.SuccessfulTransformationResponse;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.services.ExceptionRecordToCaseTransformer;
+
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+import static org.slf4j.LoggerFactory.getLogger;
+import static org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type.SERVLET;
+
+/**
+ * Asynchronous variant of {@link TransformationController}. The Tomcat thread is released as soon as
+ * the request is read; the S2S token is checked on the S2S pool and the transformation runs on the compute pool.
+ *
+ * <p>The compute pool is sized for work which keeps a thread busy, so the controller refuses to start
+ * when the transformation calls remote services, i.e. document verification or legacy id lookup is enabled.
+ */
+@RestController
+@ConditionalOnWebApplication(type = SERVLET)
+@ConditionalOnProperty(name = "async-request-handling.enabled", havingValue = "true")
+public class AsyncTransformationController {
+
+    private static final Logger LOGGER = getLogger(AsyncTransformationController.class);
+
+    private final AuthService authService;
+    private final ExceptionRecordToCaseTransformer transformer;
+    private final AsyncRequestExecutors executors;
+
+    public AsyncTransformationController(
+        AuthService authService,
+        ExceptionRecordToCaseTransformer transformer,
+        AsyncRequestExecutors executors
+    ) {
+        if (transformer.callsRemoteServices()) {
+            throw new IllegalStateException(
+                "Asynchronous request handling needs document verification and legacy id lookup to be disabled"
+            );
+        }
+
+        this.authService = authService;
+        this.transformer = transformer;
+        this.executors = executors;
+    }
+
+    @PostMapping("/transform-exception-record")
+    public CompletableFuture<SuccessfulTransformationResponse> transform(
+        @RequestHeader(name = "ServiceAuthorization", required = false) String serviceAuthHeader,
+        @RequestParam(name = "sections", required = false) String sections,
+        @RequestBody ExceptionRecord exceptionRecord
+    ) {
+        Set<ResponseSection> requestedSections = ResponseSection.parse(sections);
+
+        return CompletableFuture
+            .supplyAsync(() -> authService.authenticate(serviceAuthHeader), executors.s2s())
+            .thenApplyAsync(
+                serviceName -> {
+                    LOGGER.info("Request received to transform from service {}", serviceName);
+
+                    authService.assertIsAllowedService(serviceName);
+
+                    return transformer.toCase(exceptionRecord, requestedSections);
+                },
+                executors.compute()
+            );
+    }
+}
@@ -0,0 +1,68 @@
+package uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.controllers;
+
+import io.swagger.annotations.ApiOperation;
+import io.swagger.annotations.ApiResponse;
+import io.swagger.annotations.ApiResponses;
+import org.slf4j.Logger;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RestController;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.common.auth.AuthService;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.model.in.AttachToCaseRequest;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.model.in.AttachToCaseRequestValidator;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.model.out.AttachToCaseResponse;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.services.AttachToCaseTransformer;
+
+import static org.slf4j.LoggerFactory.getLogger;
+import static org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type.SERVLET;
+
+@RestController
+@ConditionalOnWebApplication(type = SERVLET)
+public class AttachToCaseController {
+
+    private static final Logger LOGGER = getLogger(AttachToCaseController.class);
+
+    private final AuthService authService;
+    private final AttachToCaseTransformer attachToCaseTransformer;
+
+    public AttachToCaseController(
+        AuthService authService,
+        AttachToCaseTransformer attachToCaseTransformer
+    ) {
+        this.authService = authService;
+        this.attachToCaseTransformer = attachToCaseTransformer;
+    }
+
+    @PostMapping(
+        path = "/attach-exception-record-to-case",
+        consumes = MediaType.APPLICATION_JSON_VALUE,
+        produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    @ApiOperation("Transforms exception record into an update adding its new documents to an existing case")
+    @ApiResponses({
+        @ApiResponse(
+            code = 200,
+            response = AttachToCaseResponse.class,
+            message = "Update event details with documents the case does not have yet"
+        ),
+        @ApiResponse(code = 400, message = "Request failed validation"),
+        @ApiResponse(code = 401, message = "Provided S2S token is missing or invalid"),
+        @ApiResponse(code = 403, message = "S2S token is not authorized to use the service")
+    })
+    public AttachToCaseResponse attachToCase(
+        @RequestHeader(name = "ServiceAuthorization", required = false) String serviceAuthHeader,
+        @RequestBody AttachToCaseRequest request
+    ) {
+        AttachToCaseRequestValidator.validate(request);
+
+        String serviceName = authService.authenticate(serviceAuthHeader);
+        LOGGER.info("Request received to attach exception record to case from service {}", serviceName);
+
+        authService.assertIsAllowedService(serviceName);
+
+        return attachToCaseTransformer.toCaseUpdate(request);
+    }
+}
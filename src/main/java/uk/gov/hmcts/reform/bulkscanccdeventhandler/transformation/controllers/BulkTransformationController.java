@@ -0,0 +1,67 @@
+package uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.controllers;
+
+import org.slf4j.Logger;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RestController;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.common.auth.AuthService;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.services.BulkTransformationService;
+
+import java.io.IOException;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import static org.slf4j.LoggerFactory.getLogger;
+import static org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type.SERVLET;
+
+/**
+ * Streaming counterpart of {@link TransformationController}, meant for backfills.
+ *
+ * <p>Request body is newline-delimited JSON with one exception record per line.
+ * Response body has one result per line, written as soon as the record is transformed.
+ */
+@RestController
+@ConditionalOnWebApplication(type = SERVLET)
+public class BulkTransformationController {
+
+    public static final String NDJSON_VALUE = "application/x-ndjson";
+
+    private static final Logger LOGGER = getLogger(BulkTransformationController.class);
+
+    private final AuthService authService;
+    private final BulkTransformationService bulkTransformationService;
+
+    public BulkTransformationController(
+        AuthService authService,
+        BulkTransformationService bulkTransformationService
+    ) {
+        this.authService = authService;
+        this.bulkTransformationService = bulkTransformationService;
+    }
+
+    @PostMapping(path = "/transform-exception-records", consumes = NDJSON_VALUE, produces = NDJSON_VALUE)
+    public void transform(
+        @RequestHeader(name = "ServiceAuthorization", required = false) String serviceAuthHeader,
+        HttpServletRequest request,
+        HttpServletResponse response
+    ) throws IOException {
+        String serviceName = authService.authenticate(serviceAuthHeader);
+        LOGGER.info("Request received to transform in bulk from service {}", serviceName);
+
+        authService.assertIsAllowedService(serviceName);
+
+        response.setContentType(NDJSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+
+        BulkTransformationService.Summary summary =
+            bulkTransformationService.transform(request.getInputStream(), response.getOutputStream());
+
+        LOGGER.info(
+            "Bulk transformation finished. Records: {}, failed: {}",
+            summary.recordCount,
+            summary.failureCount
+        );
+    }
+}
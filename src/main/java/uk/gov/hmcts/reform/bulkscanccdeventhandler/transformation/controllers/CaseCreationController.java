@@ -0,0 +1,67 @@
+package uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.controllers;
+
+import io.swagger.annotations.ApiOperation;
+import io.swagger.annotations.ApiResponse;
+import io.swagger.annotations.ApiResponses;
+import org.slf4j.Logger;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RestController;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.common.auth.AuthService;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.model.in.ExceptionRecord;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.model.out.CaseCreationResponse;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.services.CaseSubmissionService;
+
+import static org.slf4j.LoggerFactory.getLogger;
+import static org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type.SERVLET;
+
+@RestController
+@ConditionalOnWebApplication(type = SERVLET)
+@ConditionalOnProperty(name = "ccd-case-creation.enabled", havingValue = "true")
+public class CaseCreationController {
+
+    private static final Logger LOGGER = getLogger(CaseCreationController.class);
+
+    private final AuthService authService;
+    private final CaseSubmissionService caseSubmissionService;
+
+    public CaseCreationController(
+        AuthService authService,
+        CaseSubmissionService caseSubmissionService
+    ) {
+        this.authService = authService;
+        this.caseSubmissionService = caseSubmissionService;
+    }
+
+    @PostMapping(
+        path = "/create-case-from-exception-record",
+        consumes = MediaType.APPLICATION_JSON_VALUE,
+        produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    @ApiOperation("Transforms exception record into a case and creates it in CCD")
+    @ApiResponses({
+        @ApiResponse(code = 200, response = CaseCreationResponse.class, message = "Case created"),
+        @ApiResponse(code = 401, message = "Provided S2S token is missing or invalid"),
+        @ApiResponse(code = 403, message = "S2S token is not authorized to use the service"),
+        @ApiResponse(code = 422, message = "Exception record cannot be transformed"),
+        @ApiResponse(code = 502, message = "CCD could not be called or rejected the case"),
+        @ApiResponse(code = 503, message = "Too many case submissions in progress")
+    })
+    public CaseCreationResponse createCase(
+        @RequestHeader(name = "ServiceAuthorization", required = false) String serviceAuthHeader,
+        @RequestHeader(name = "Authorization") String userToken,
+        @RequestHeader(name = "user-id") String userId,
+        @RequestBody ExceptionRecord exceptionRecord
+    ) {
+        String serviceName = authService.authenticate(serviceAuthHeader);
+        LOGGER.info("Request received to create case from service {}", serviceName);
+
+        authService.assertIsAllowedService(serviceName);
+
+        return caseSubmissionService.createCase(exceptionRecord, userToken, userId);
+    }
+}
@@ -0,0 +1,61 @@
+package uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.controllers;
+
+import org.slf4j.Logger;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.common.auth.ReactiveAuthService;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.model.in.ExceptionRecord;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.model.in.ResponseSection;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.model.out.SuccessfulTransformationResponse;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.services.ExceptionRecordToCaseTransformer;
+
+import java.util.Set;
+
+import static org.slf4j.LoggerFactory.getLogger;
+import static org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type.REACTIVE;
+
+/**
+ * Reactive variant of {@link TransformationController}. The S2S token is checked without blocking;
+ * the transformation itself runs on the transformation scheduler.
+ */
+@RestController
+@ConditionalOnWebApplication(type = REACTIVE)
+public class ReactiveTransformationController {
+
+    private static final Logger LOGGER = getLogger(ReactiveTransformationController.class);
+
+    private final ReactiveAuthService authService;
+    private final ExceptionRecordToCaseTransformer transformer;
+    private final Scheduler transformationScheduler;
+
+    public ReactiveTransformationController(
+        ReactiveAuthService authService,
+        ExceptionRecordToCaseTransformer transformer,
+        Scheduler transformationScheduler
+    ) {
+        this.authService = authService;
+        this.transformer = transformer;
+        this.transformationScheduler = transformationScheduler;
+    }
+
+    @PostMapping("/transform-exception-record")
+    public Mono<SuccessfulTransformationResponse> transform(
+        @RequestHeader(name = "ServiceAuthorization", required = false) String serviceAuthHeader,
+        @RequestParam(name = "sections", required = false) String sections,
+        @RequestBody ExceptionRecord exceptionRecord
+    ) {
+        Set<ResponseSection> requestedSections = ResponseSection.parse(sections);
+
+        return authService
+            .authenticateAllowedService(serviceAuthHeader)
+            .doOnNext(serviceName -> LOGGER.info("Request received to transform from service {}", serviceName))
+            .publishOn(transformationScheduler)
+            .map(serviceName -> transformer.toCase(exceptionRecord, requestedSections));
+    }
+}
@@ -1,20 +1,25 @@
 package uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.controllers;
 
 import org.slf4j.Logger;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import uk.gov.hmcts.reform.bulkscanccdeventhandler.common.auth.AuthService;
 import uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.model.in.ExceptionRecord;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.model.in.ResponseSection;
 import uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.model.out.SuccessfulTransformationResponse;
 import uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.services.ExceptionRecordToCaseTransformer;
 
-import javax.validation.Valid;
-
 import static org.slf4j.LoggerFactory.getLogger;
+import static org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type.SERVLET;
 
 @RestController
+@ConditionalOnWebApplication(type = SERVLET)
+@ConditionalOnProperty(name = "async-request-handling.enabled", havingValue = "false", matchIfMissing = true)
 public class TransformationController {
 
     private static final Logger LOGGER = getLogger(TransformationController.class);
@@ -33,13 +38,14 @@ public class TransformationController {
     @PostMapping("/transform-exception-record")
     public SuccessfulTransformationResponse transform(
         @RequestHeader(name = "ServiceAuthorization", required = false) String serviceAuthHeader,
-        @Valid @RequestBody ExceptionRecord exceptionRecord
+        @RequestParam(name = "sections", required = false) String sections,
+        @RequestBody ExceptionRecord exceptionRecord
     ) {
         String serviceName = authService.authenticate(serviceAuthHeader);
         LOGGER.info("Request received to transform from service {}", serviceName);
 
         authService.assertIsAllowedService(serviceName);
 
-        return transformer.toCase(exceptionRecord);
+        return transformer.toCase(exceptionRecord, ResponseSection.parse(sections));
     }
 }
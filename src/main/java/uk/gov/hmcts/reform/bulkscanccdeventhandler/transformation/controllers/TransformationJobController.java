@@ -0,0 +1,77 @@
+package uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.controllers;
+
+import org.slf4j.Logger;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.common.auth.AuthService;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.model.in.ExceptionRecord;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.model.out.TransformationJobResponse;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.services.TransformationJobService;
+
+import java.net.URI;
+
+import static org.slf4j.LoggerFactory.getLogger;
+import static org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type.SERVLET;
+
+/**
+ * Asynchronous counterpart of {@link TransformationController}.
+ *
+ * <p>Exception record is accepted straight away and transformed in the background.
+ * Caller polls the returned location until the job is finished.
+ */
+@RestController
+@ConditionalOnWebApplication(type = SERVLET)
+public class TransformationJobController {
+
+    private static final Logger LOGGER = getLogger(TransformationJobController.class);
+
+    private final AuthService authService;
+    private final TransformationJobService jobService;
+
+    public TransformationJobController(
+        AuthService authService,
+        TransformationJobService jobService
+    ) {
+        this.authService = authService;
+        this.jobService = jobService;
+    }
+
+    @PostMapping("/transform-exception-record/jobs")
+    public ResponseEntity<TransformationJobResponse> submit(
+        @RequestHeader(name = "ServiceAuthorization", required = false) String serviceAuthHeader,
+        @RequestBody ExceptionRecord exceptionRecord
+    ) {
+        String serviceName = authService.authenticate(serviceAuthHeader);
+        LOGGER.info("Request received to queue transformation from service {}", serviceName);
+
+        authService.assertIsAllowedService(serviceName);
+
+        TransformationJobResponse job = jobService.submit(exceptionRecord);
+
+        URI location = ServletUriComponentsBuilder
+            .fromCurrentRequest()
+            .path("/{job-id}")
+            .buildAndExpand(job.jobId)
+            .toUri();
+
+        return ResponseEntity.accepted().location(location).body(job);
+    }
+
+    @GetMapping("/transform-exception-record/jobs/{job-id}")
+    public TransformationJobResponse getJob(
+        @RequestHeader(name = "ServiceAuthorization", required = false) String serviceAuthHeader,
+        @PathVariable("job-id") String jobId
+    ) {
+        String serviceName = authService.authenticate(serviceAuthHeader);
+        authService.assertIsAllowedService(serviceName);
+
+        return jobService.getJob(jobId);
+    }
+}
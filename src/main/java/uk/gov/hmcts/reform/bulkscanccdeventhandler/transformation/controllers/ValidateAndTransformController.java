@@ -0,0 +1,75 @@
+package uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.controllers;
+
+import io.swagger.annotations.ApiOperation;
+import io.swagger.annotations.ApiResponse;
+import io.swagger.annotations.ApiResponses;
+import org.apache.commons.lang3.EnumUtils;
+import org.slf4j.Logger;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RestController;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.common.auth.AuthService;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.ocrvalidation.model.FormType;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.ocrvalidation.services.exceptions.FormNotFoundException;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.model.in.ExceptionRecord;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.model.out.ValidateAndTransformResponse;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.services.ValidateAndTransformService;
+
+import static org.slf4j.LoggerFactory.getLogger;
+import static org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type.SERVLET;
+
+@RestController
+@ConditionalOnWebApplication(type = SERVLET)
+public class ValidateAndTransformController {
+
+    private static final Logger LOGGER = getLogger(ValidateAndTransformController.class);
+
+    private final AuthService authService;
+    private final ValidateAndTransformService validateAndTransformService;
+
+    public ValidateAndTransformController(
+        AuthService authService,
+        ValidateAndTransformService validateAndTransformService
+    ) {
+        this.authService = authService;
+        this.validateAndTransformService = validateAndTransformService;
+    }
+
+    @PostMapping(
+        path = "/forms/{form-type}/validate-and-transform-exception-record",
+        consumes = MediaType.APPLICATION_JSON_VALUE,
+        produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    @ApiOperation("Validates OCR data of exception record and transforms it into a case if the data is valid")
+    @ApiResponses({
+        @ApiResponse(
+            code = 200,
+            response = ValidateAndTransformResponse.class,
+            message = "Validation executed. Case creation details are only present if there are no errors"
+        ),
+        @ApiResponse(code = 401, message = "Provided S2S token is missing or invalid"),
+        @ApiResponse(code = 403, message = "S2S token is not authorized to use the service"),
+        @ApiResponse(code = 404, message = "Form type not found"),
+        @ApiResponse(code = 422, message = "Exception record cannot be transformed")
+    })
+    public ValidateAndTransformResponse validateAndTransform(
+        @RequestHeader(name = "ServiceAuthorization", required = false) String serviceAuthHeader,
+        @PathVariable(name = "form-type", required = false) String formType,
+        @RequestBody ExceptionRecord exceptionRecord
+    ) {
+        if (!EnumUtils.isValidEnum(FormType.class, formType)) {
+            throw new FormNotFoundException("Form type '" + formType + "' not found");
+        }
+
+        String serviceName = authService.authenticate(serviceAuthHeader);
+        LOGGER.info("Request received to validate and transform from service {}", serviceName);
+
+        authService.assertIsAllowedService(serviceName);
+
+        return validateAndTransformService.validateAndTransform(FormType.valueOf(formType), exceptionRecord);
+    }
+}
@@ -0,0 +1,22 @@
+package uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.model.in;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.List;
+
+public class AttachToCaseRequest {
+
+    public final String caseId;
+    public final List<String> existingDocumentControlNumbers;
+    public final ExceptionRecord exceptionRecord;
+
+    public AttachToCaseRequest(
+        @JsonProperty("case_id") String caseId,
+        @JsonProperty("existing_document_control_numbers") List<String> existingDocumentControlNumbers,
+        @JsonProperty("exception_record") ExceptionRecord exceptionRecord
+    ) {
+        this.caseId = caseId;
+        this.existingDocumentControlNumbers = existingDocumentControlNumbers;
+        this.exceptionRecord = exceptionRecord;
+    }
+}
@@ -0,0 +1,29 @@
+package uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.model.in;
+
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.common.validation.InvalidRequestException;
+
+import static org.apache.commons.lang.StringUtils.isBlank;
+
+/**
+ * Checks constraints of {@link AttachToCaseRequest}.
+ */
+public final class AttachToCaseRequestValidator {
+
+    /**
+     * Checks that the request has an exception record and a case id.
+     *
+     * @throws InvalidRequestException when the exception record or the case id is missing
+     */
+    public static void validate(AttachToCaseRequest request) {
+        if (request.exceptionRecord == null) {
+            throw new InvalidRequestException("exception_record must not be null");
+        }
+        if (isBlank(request.caseId)) {
+            throw new InvalidRequestException("case_id must not be empty");
+        }
+    }
+
+    private AttachToCaseRequestValidator() {
+        // util class
+    }
+}
@@ -1,6 +1,9 @@
 package uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.model.in;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.common.json.IsoLocalDateTimeDeserializer;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.common.json.PooledStringDeserializer;
 import uk.gov.hmcts.reform.bulkscanccdeventhandler.ocrvalidation.model.in.OcrDataField;
 
 import java.time.LocalDateTime;
@@ -20,11 +23,16 @@ public class ExceptionRecord {
 
     public ExceptionRecord(
         @JsonProperty("id") String id,
+        @JsonDeserialize(using = PooledStringDeserializer.class)
         @JsonProperty("case_type_id") String caseTypeId,
+        @JsonDeserialize(using = PooledStringDeserializer.class)
         @JsonProperty("po_box") String poBox,
+        @JsonDeserialize(using = PooledStringDeserializer.class)
         @JsonProperty("po_box_jurisdiction") String jurisdiction,
         @JsonProperty("journey_classification") JourneyClassification journeyClassification,
+        @JsonDeserialize(using = IsoLocalDateTimeDeserializer.class)
         @JsonProperty("delivery_date") LocalDateTime deliveryDate,
+        @JsonDeserialize(using = IsoLocalDateTimeDeserializer.class)
         @JsonProperty("opening_date") LocalDateTime openingDate,
         @JsonProperty("scanned_documents") List<InputScannedDoc> scannedDocuments,
         @JsonProperty("ocr_data_fields") List<OcrDataField> ocrDataFields
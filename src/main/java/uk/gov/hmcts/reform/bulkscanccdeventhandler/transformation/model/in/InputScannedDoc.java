@@ -1,6 +1,9 @@
 package uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.model.in;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.common.json.IsoLocalDateTimeDeserializer;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.common.json.PooledStringDeserializer;
 
 import java.time.LocalDateTime;
 
@@ -15,12 +18,16 @@ public class InputScannedDoc {
     public final LocalDateTime deliveryDate;
 
     public InputScannedDoc(
+        @JsonDeserialize(using = PooledStringDeserializer.class)
         @JsonProperty("type") String type,
+        @JsonDeserialize(using = PooledStringDeserializer.class)
         @JsonProperty("subtype") String subtype,
         @JsonProperty("url") String url,
         @JsonProperty("control_number") String controlNumber,
         @JsonProperty("file_name") String fileName,
+        @JsonDeserialize(using = IsoLocalDateTimeDeserializer.class)
         @JsonProperty("scanned_date") LocalDateTime scannedDate,
+        @JsonDeserialize(using = IsoLocalDateTimeDeserializer.class)
         @JsonProperty("delivery_date") LocalDateTime deliveryDate
     ) {
         this.type = type;
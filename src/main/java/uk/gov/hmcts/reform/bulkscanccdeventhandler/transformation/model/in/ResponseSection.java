@@ -0,0 +1,55 @@
+package uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.model.in;
+
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.common.validation.InvalidRequestException;
+
+import java.util.EnumSet;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Sections of the transformation response a caller can ask for. Sections which are not requested
+ * are neither computed nor serialised.
+ */
+public enum ResponseSection {
+
+    /**
+     * Case type, event and case data, apart from scanned documents.
+     */
+    CASE_DATA,
+
+    /**
+     * Scanned documents of the case. Implies {@link #CASE_DATA}, which holds them.
+     */
+    SCANNED_DOCUMENTS,
+
+    /**
+     * Warnings, including those of document verification, legacy id lookup and duplicate detection.
+     */
+    WARNINGS;
+
+    /**
+     * Parses comma separated, case insensitive section names, e.g. {@code case_data,warnings}.
+     * Returns all sections when none are given.
+     *
+     * @throws InvalidRequestException when a section name is not known
+     */
+    public static Set<ResponseSection> parse(String sections) {
+        if (sections == null || sections.trim().isEmpty()) {
+            return EnumSet.allOf(ResponseSection.class);
+        }
+
+        Set<ResponseSection> result = EnumSet.noneOf(ResponseSection.class);
+        for (String name : sections.split(",")) {
+            try {
+                result.add(valueOf(name.trim().toUpperCase(Locale.ROOT)));
+            } catch (IllegalArgumentException exc) {
+                throw new InvalidRequestException("Unknown response section '" + name.trim() + "'");
+            }
+        }
+
+        if (result.contains(SCANNED_DOCUMENTS)) {
+            result.add(CASE_DATA);
+        }
+        return result;
+    }
+}
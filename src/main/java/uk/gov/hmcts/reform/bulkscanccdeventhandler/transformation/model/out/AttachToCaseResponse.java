@@ -0,0 +1,24 @@
+package uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.model.out;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.List;
+
+public class AttachToCaseResponse {
+
+    @JsonProperty("case_update_details")
+    public final CaseUpdateDetails caseUpdateDetails;
+
+    @JsonProperty("warnings")
+    public final List<String> warnings;
+
+    // region constructor
+    public AttachToCaseResponse(
+        CaseUpdateDetails caseUpdateDetails,
+        List<String> warnings
+    ) {
+        this.caseUpdateDetails = caseUpdateDetails;
+        this.warnings = warnings;
+    }
+    // endregion
+}
@@ -0,0 +1,42 @@
+package uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.model.out;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.List;
+
+/**
+ * Outcome of transforming a single line of a bulk transformation request.
+ */
+public class BulkTransformationResult {
+
+    @JsonProperty("line")
+    public final long line;
+
+    @JsonProperty("exception_record_id")
+    public final String exceptionRecordId;
+
+    @JsonProperty("status")
+    public final TransformationJobStatus status;
+
+    @JsonProperty("result")
+    public final SuccessfulTransformationResponse result;
+
+    @JsonProperty("errors")
+    public final List<String> errors;
+
+    // region constructor
+    public BulkTransformationResult(
+        long line,
+        String exceptionRecordId,
+        TransformationJobStatus status,
+        SuccessfulTransformationResponse result,
+        List<String> errors
+    ) {
+        this.line = line;
+        this.exceptionRecordId = exceptionRecordId;
+        this.status = status;
+        this.result = result;
+        this.errors = errors;
+    }
+    // endregion
+}
@@ -0,0 +1,19 @@
+package uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.model.out;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.List;
+
+public class CaseCreationResponse {
+
+    @JsonProperty("case_id")
+    public final String caseId;
+
+    @JsonProperty("warnings")
+    public final List<String> warnings;
+
+    public CaseCreationResponse(String caseId, List<String> warnings) {
+        this.caseId = caseId;
+        this.warnings = warnings;
+    }
+}
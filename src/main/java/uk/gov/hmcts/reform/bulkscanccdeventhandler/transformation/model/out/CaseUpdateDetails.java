@@ -0,0 +1,27 @@
+package uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.model.out;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+public class CaseUpdateDetails {
+
+    @JsonProperty("case_id")
+    public final String caseId;
+
+    @JsonProperty("event_id")
+    public final String eventId;
+
+    @JsonProperty("case_data")
+    public final ScannedDocumentsDelta caseData;
+
+    // region constructor
+    public CaseUpdateDetails(
+        String caseId,
+        String eventId,
+        ScannedDocumentsDelta caseData
+    ) {
+        this.caseId = caseId;
+        this.eventId = eventId;
+        this.caseData = caseData;
+    }
+    // endregion
+}
@@ -0,0 +1,18 @@
+package uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.model.out;
+
+public class Person {
+
+    public final String firstName;
+    public final String lastName;
+    public final String dateOfBirth;
+
+    public Person(
+        String firstName,
+        String lastName,
+        String dateOfBirth
+    ) {
+        this.firstName = firstName;
+        this.lastName = lastName;
+        this.dateOfBirth = dateOfBirth;
+    }
+}
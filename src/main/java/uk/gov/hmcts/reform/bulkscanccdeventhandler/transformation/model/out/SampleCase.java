@@ -1,7 +1,12 @@
 package uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.model.out;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+
 import java.util.List;
 
+import static com.fasterxml.jackson.annotation.JsonInclude.Include.NON_EMPTY;
+import static com.fasterxml.jackson.annotation.JsonInclude.Include.NON_NULL;
+
 public class SampleCase {
 
     public final String legacyId;
@@ -11,8 +16,17 @@ public class SampleCase {
     public final String contactNumber;
     public final String email;
     public final Address address;
+    // left out when not requested from the transformation endpoint
+    @JsonInclude(NON_NULL)
     public final List<Item<ScannedDocument>> scannedDocuments;
 
+    // left out when empty, so that case types without these collections do not reject the case
+    @JsonInclude(NON_EMPTY)
+    public final List<Item<Person>> applicants;
+    @JsonInclude(NON_EMPTY)
+    public final List<Item<Person>> children;
+
+    // region constructors
     public SampleCase(
         String legacyId,
         String firstName,
@@ -22,6 +36,21 @@ public class SampleCase {
         String email,
         Address address,
         List<Item<ScannedDocument>> scannedDocuments
+    ) {
+        this(legacyId, firstName, lastName, dateOfBirth, contactNumber, email, address, scannedDocuments, null, null);
+    }
+
+    public SampleCase(
+        String legacyId,
+        String firstName,
+        String lastName,
+        String dateOfBirth,
+        String contactNumber,
+        String email,
+        Address address,
+        List<Item<ScannedDocument>> scannedDocuments,
+        List<Item<Person>> applicants,
+        List<Item<Person>> children
     ) {
         this.legacyId = legacyId;
         this.firstName = firstName;
@@ -31,5 +60,8 @@ public class SampleCase {
         this.email = email;
         this.address = address;
         this.scannedDocuments = scannedDocuments;
+        this.applicants = applicants;
+        this.children = children;
     }
+    // endregion
 }
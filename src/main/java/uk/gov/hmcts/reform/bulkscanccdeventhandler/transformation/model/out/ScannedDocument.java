@@ -1,6 +1,10 @@
 package uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.model.out;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.common.json.IsoLocalDateTimeDeserializer;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.common.json.IsoLocalDateTimeSerializer;
 
 import java.time.LocalDateTime;
 
@@ -22,9 +26,11 @@ public class ScannedDocument {
     public final String fileName;
 
     @JsonProperty
+    @JsonSerialize(using = IsoLocalDateTimeSerializer.class)
     public final LocalDateTime scannedDate;
 
     @JsonProperty
+    @JsonSerialize(using = IsoLocalDateTimeSerializer.class)
     public final LocalDateTime deliveryDate;
 
     @JsonProperty
@@ -36,7 +42,9 @@ public class ScannedDocument {
         @JsonProperty("url") String url,
         @JsonProperty("controlNumber") String controlNumber,
         @JsonProperty("fileName") String fileName,
+        @JsonDeserialize(using = IsoLocalDateTimeDeserializer.class)
         @JsonProperty("scannedDate") LocalDateTime scannedDate,
+        @JsonDeserialize(using = IsoLocalDateTimeDeserializer.class)
         @JsonProperty("deliveryDate") LocalDateTime deliveryDate,
         @JsonProperty("exceptionRecordReference") String exceptionRecordReference
     ) {
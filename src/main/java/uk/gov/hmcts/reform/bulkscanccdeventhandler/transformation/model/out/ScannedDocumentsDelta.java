@@ -0,0 +1,15 @@
+package uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.model.out;
+
+import java.util.List;
+
+/**
+ * Case data of an update event which only adds scanned documents to the case.
+ */
+public class ScannedDocumentsDelta {
+
+    public final List<Item<ScannedDocument>> scannedDocuments;
+
+    public ScannedDocumentsDelta(List<Item<ScannedDocument>> scannedDocuments) {
+        this.scannedDocuments = scannedDocuments;
+    }
+}
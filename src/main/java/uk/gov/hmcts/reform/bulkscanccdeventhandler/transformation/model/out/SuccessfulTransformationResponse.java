@@ -1,14 +1,20 @@
 package uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.model.out;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import java.util.List;
 
+import static com.fasterxml.jackson.annotation.JsonInclude.Include.NON_NULL;
+
 public class SuccessfulTransformationResponse {
 
+    // sections which were not requested are left out
+    @JsonInclude(NON_NULL)
     @JsonProperty("case_creation_details")
     public final CaseCreationDetails caseCreationDetails;
 
+    @JsonInclude(NON_NULL)
     @JsonProperty("warnings")
     public final List<String> warnings;
 
@@ -0,0 +1,34 @@
+package uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.model.out;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.List;
+
+public class TransformationJobResponse {
+
+    @JsonProperty("job_id")
+    public final String jobId;
+
+    @JsonProperty("status")
+    public final TransformationJobStatus status;
+
+    @JsonProperty("result")
+    public final SuccessfulTransformationResponse result;
+
+    @JsonProperty("errors")
+    public final List<String> errors;
+
+    // region constructor
+    public TransformationJobResponse(
+        String jobId,
+        TransformationJobStatus status,
+        SuccessfulTransformationResponse result,
+        List<String> errors
+    ) {
+        this.jobId = jobId;
+        this.status = status;
+        this.result = result;
+        this.errors = errors;
+    }
+    // endregion
+}
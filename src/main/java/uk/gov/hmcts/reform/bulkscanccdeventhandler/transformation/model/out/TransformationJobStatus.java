@@ -0,0 +1,7 @@
+package uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.model.out;
+
+public enum TransformationJobStatus {
+    PENDING,
+    COMPLETED,
+    FAILED
+}
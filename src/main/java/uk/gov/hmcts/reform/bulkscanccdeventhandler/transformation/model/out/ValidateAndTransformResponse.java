@@ -0,0 +1,35 @@
+package uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.model.out;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.ocrvalidation.model.out.ValidationStatus;
+
+import java.util.List;
+
+public class ValidateAndTransformResponse {
+
+    @JsonProperty("status")
+    public final ValidationStatus status;
+
+    @JsonProperty("warnings")
+    public final List<String> warnings;
+
+    @JsonProperty("errors")
+    public final List<String> errors;
+
+    @JsonProperty("case_creation_details")
+    public final CaseCreationDetails caseCreationDetails;
+
+    // region constructor
+    public ValidateAndTransformResponse(
+        ValidationStatus status,
+        List<String> warnings,
+        List<String> errors,
+        CaseCreationDetails caseCreationDetails
+    ) {
+        this.status = status;
+        this.warnings = warnings;
+        this.errors = errors;
+        this.caseCreationDetails = caseCreationDetails;
+    }
+    // endregion
+}
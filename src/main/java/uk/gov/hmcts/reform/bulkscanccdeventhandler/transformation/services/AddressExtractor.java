@@ -1,10 +1,9 @@
 package uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.services;
 
 import org.springframework.stereotype.Component;
-import uk.gov.hmcts.reform.bulkscanccdeventhandler.ocrvalidation.model.in.OcrDataField;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.common.validation.ValidatedOcrData;
 import uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.model.out.Address;
-
-import java.util.List;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.services.address.AddressParser;
 
 import static uk.gov.hmcts.reform.bulkscanccdeventhandler.common.OcrFieldNames.ADDRESS_LINE_1;
 import static uk.gov.hmcts.reform.bulkscanccdeventhandler.common.OcrFieldNames.ADDRESS_LINE_2;
@@ -13,23 +12,29 @@ import static uk.gov.hmcts.reform.bulkscanccdeventhandler.common.OcrFieldNames.C
 import static uk.gov.hmcts.reform.bulkscanccdeventhandler.common.OcrFieldNames.COUNTY;
 import static uk.gov.hmcts.reform.bulkscanccdeventhandler.common.OcrFieldNames.POST_CODE;
 import static uk.gov.hmcts.reform.bulkscanccdeventhandler.common.OcrFieldNames.POST_TOWN;
-import static uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.services.utils.OcrFieldExtractor.get;
 
 @Component
 public class AddressExtractor {
 
+    private final AddressParser addressParser;
+
+    public AddressExtractor(AddressParser addressParser) {
+        this.addressParser = addressParser;
+    }
+
     /**
-     * Extracts address data from OCR data.
+     * Extracts address data from validated OCR data, moving misplaced components to the right fields.
+     * Validation rules must capture all address fields.
      */
-    public Address extractFrom(List<OcrDataField> ocrFields) {
-        return new Address(
-            get(ocrFields, ADDRESS_LINE_1),
-            get(ocrFields, ADDRESS_LINE_2),
-            get(ocrFields, ADDRESS_LINE_3),
-            get(ocrFields, POST_CODE),
-            get(ocrFields, POST_TOWN),
-            get(ocrFields, COUNTY),
-            get(ocrFields, COUNTRY)
-        );
+    public Address extractFrom(ValidatedOcrData ocrData) {
+        return addressParser.parse(new Address(
+            ocrData.getValue(ADDRESS_LINE_1),
+            ocrData.getValue(ADDRESS_LINE_2),
+            ocrData.getValue(ADDRESS_LINE_3),
+            ocrData.getValue(POST_CODE),
+            ocrData.getValue(POST_TOWN),
+            ocrData.getValue(COUNTY),
+            ocrData.getValue(COUNTRY)
+        ));
     }
 }
@@ -0,0 +1,68 @@
+package uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.services;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.model.in.AttachToCaseRequest;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.model.in.ExceptionRecord;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.model.in.InputScannedDoc;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.model.out.AttachToCaseResponse;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.model.out.CaseUpdateDetails;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.model.out.Item;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.model.out.ScannedDocument;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.model.out.ScannedDocumentsDelta;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+
+/**
+ * Transforms exception records into updates of existing cases.
+ *
+ * <p>The update only carries documents the case does not have yet, rather than the whole case
+ * with all its documents. Documents are matched by control number. Documents repeated within
+ * the exception record are only added once.
+ */
+@Service
+public class AttachToCaseTransformer {
+
+    private final DocumentMapper documentMapper;
+    private final String eventId;
+
+    public AttachToCaseTransformer(
+        DocumentMapper documentMapper,
+        @Value("${transformation.attach-to-case.event-id}") String eventId
+    ) {
+        this.documentMapper = documentMapper;
+        this.eventId = eventId;
+    }
+
+    public AttachToCaseResponse toCaseUpdate(AttachToCaseRequest request) {
+        ExceptionRecord exceptionRecord = request.exceptionRecord;
+
+        Set<String> knownControlNumbers = request.existingDocumentControlNumbers == null
+            ? new HashSet<>()
+            : new HashSet<>(request.existingDocumentControlNumbers);
+
+        List<Item<ScannedDocument>> newDocuments = new ArrayList<>();
+        if (exceptionRecord.scannedDocuments != null) {
+            for (InputScannedDoc doc : exceptionRecord.scannedDocuments) {
+                if (doc != null && knownControlNumbers.add(doc.controlNumber)) {
+                    newDocuments.add(documentMapper.toCaseDoc(doc, exceptionRecord.id));
+                }
+            }
+        }
+
+        List<String> warnings = newDocuments.isEmpty()
+            ? singletonList("All documents of exception record " + exceptionRecord.id + " are already in the case")
+            : emptyList();
+
+        return new AttachToCaseResponse(
+            new CaseUpdateDetails(request.caseId, eventId, new ScannedDocumentsDelta(newDocuments)),
+            warnings
+        );
+    }
+}
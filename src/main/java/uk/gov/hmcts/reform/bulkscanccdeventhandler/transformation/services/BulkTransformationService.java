@@ -0,0 +1,133 @@
+package uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.services;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.model.in.ExceptionRecord;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.model.out.BulkTransformationResult;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+import static java.util.Collections.singletonList;
+import static org.apache.commons.lang.StringUtils.isBlank;
+import static uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.model.out.TransformationJobStatus.COMPLETED;
+import static uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.model.out.TransformationJobStatus.FAILED;
+
+/**
+ * Transforms a stream of newline-delimited JSON exception records into a stream of newline-delimited results.
+ *
+ * <p>Records are read, transformed and written one at a time, and the output is flushed after every result.
+ * Only the current record is held in memory, whatever the length of the stream. As the next record
+ * is not read before the previous result is written, a slow reader of the output slows down
+ * consumption of the input. A record that cannot be parsed or transformed is reported on its own
+ * result line and the rest of the stream is still processed.
+ */
+@Service
+public class BulkTransformationService {
+
+    private static final Logger log = LoggerFactory.getLogger(BulkTransformationService.class);
+
+    private static final int NEW_LINE = '\n';
+
+    private final ExceptionRecordToCaseTransformer transformer;
+    private final ObjectReader exceptionRecordReader;
+    private final ObjectWriter resultWriter;
+
+    public BulkTransformationService(
+        ExceptionRecordToCaseTransformer transformer,
+        ObjectMapper objectMapper
+    ) {
+        this.transformer = transformer;
+        this.exceptionRecordReader = objectMapper.readerFor(ExceptionRecord.class);
+        this.resultWriter = objectMapper.writerFor(BulkTransformationResult.class);
+    }
+
+    /**
+     * Transforms all records from the input. Blank lines are skipped.
+     *
+     * @return summary of the processed records
+     * @throws IOException if reading the input or writing the output fails
+     */
+    public Summary transform(InputStream input, OutputStream output) throws IOException {
+        long lineNumber = 0;
+        long recordCount = 0;
+        long failureCount = 0;
+
+        BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (isBlank(line)) {
+                continue;
+            }
+
+            BulkTransformationResult result = transformLine(lineNumber, line);
+            recordCount++;
+            if (result.status == FAILED) {
+                failureCount++;
+            }
+
+            output.write(resultWriter.writeValueAsBytes(result));
+            output.write(NEW_LINE);
+            output.flush();
+        }
+
+        return new Summary(recordCount, failureCount);
+    }
+
+    private BulkTransformationResult transformLine(long lineNumber, String line) {
+        ExceptionRecord exceptionRecord;
+        try {
+            exceptionRecord = exceptionRecordReader.readValue(line);
+        } catch (JsonProcessingException exc) {
+            return failure(lineNumber, null, "Invalid exception record JSON: " + exc.getOriginalMessage());
+        } catch (IOException exc) {
+            return failure(lineNumber, null, "Invalid exception record JSON: " + exc.getMessage());
+        }
+
+        // a line reading "null" parses fine, but carries no record
+        if (exceptionRecord == null) {
+            return failure(lineNumber, null, "Invalid exception record JSON");
+        }
+
+        String exceptionRecordId = exceptionRecord.id;
+        try {
+            return new BulkTransformationResult(
+                lineNumber,
+                exceptionRecordId,
+                COMPLETED,
+                transformer.toCase(exceptionRecord),
+                null
+            );
+        } catch (InvalidExceptionRecordException exc) {
+            return new BulkTransformationResult(lineNumber, exceptionRecordId, FAILED, null, exc.getErrors());
+        } catch (Exception exc) {
+            log.error("Failed to transform exception record {} in line {}", exceptionRecordId, lineNumber, exc);
+            return failure(lineNumber, exceptionRecordId, "Unexpected error while transforming exception record");
+        }
+    }
+
+    private static BulkTransformationResult failure(long lineNumber, String exceptionRecordId, String error) {
+        return new BulkTransformationResult(lineNumber, exceptionRecordId, FAILED, null, singletonList(error));
+    }
+
+    public static class Summary {
+
+        public final long recordCount;
+        public final long failureCount;
+
+        public Summary(long recordCount, long failureCount) {
+            this.recordCount = recordCount;
+            this.failureCount = failureCount;
+        }
+    }
+}
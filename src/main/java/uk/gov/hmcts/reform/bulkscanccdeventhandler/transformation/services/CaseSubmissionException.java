@@ -0,0 +1,8 @@
+package uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.services;
+
+public class CaseSubmissionException extends RuntimeException {
+
+    public CaseSubmissionException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
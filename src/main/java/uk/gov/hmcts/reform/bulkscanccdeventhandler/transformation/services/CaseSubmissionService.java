@@ -0,0 +1,186 @@
+package uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.services;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+import uk.gov.hmcts.reform.authorisation.generators.AuthTokenGenerator;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.client.model.CaseDataContent;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.client.model.CaseDetails;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.client.model.Event;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.client.model.StartEventResponse;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.model.in.ExceptionRecord;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.model.out.CaseCreationDetails;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.model.out.CaseCreationResponse;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.model.out.SuccessfulTransformationResponse;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+
+import javax.annotation.PreDestroy;
+
+/**
+ * Transforms exception records into cases and creates them in CCD.
+ *
+ * <p>Creating a case in CCD takes two calls: one to start the event, which returns a token, and one
+ * to submit the case with that token. The start event call only needs the case type and event,
+ * so it is sent before the exception record is transformed and the two run at the same time.
+ * Calls to CCD share a fixed pool of connections. The number of submissions in progress is capped;
+ * submissions over the cap are rejected rather than queued.
+ */
+@Service
+@ConditionalOnProperty(name = "ccd-case-creation.enabled", havingValue = "true")
+public class CaseSubmissionService {
+
+    private static final Logger log = LoggerFactory.getLogger(CaseSubmissionService.class);
+
+    private static final String CASEWORKER_PATH = "/caseworkers/{uid}/jurisdictions/{jid}/case-types/{ctid}";
+
+    private final TransformerRegistry transformerRegistry;
+    private final ExceptionRecordToCaseTransformer transformer;
+    private final AuthTokenGenerator s2sTokenGenerator;
+    private final ConnectionProvider connectionProvider;
+    private final WebClient webClient;
+    private final Semaphore submissionPermits;
+    private final Duration timeout;
+
+    // region constructor
+    public CaseSubmissionService(
+        TransformerRegistry transformerRegistry,
+        ExceptionRecordToCaseTransformer transformer,
+        AuthTokenGenerator s2sTokenGenerator,
+        WebClient.Builder webClientBuilder,
+        @Value("${core_case_data.api.url}") String ccdApiUrl,
+        @Value("${ccd-case-creation.max-connections}") int maxConnections,
+        @Value("${ccd-case-creation.max-in-flight-submissions}") int maxInFlightSubmissions,
+        @Value("${ccd-case-creation.timeout-millis}") long timeoutMillis
+    ) {
+        this.transformerRegistry = transformerRegistry;
+        this.transformer = transformer;
+        this.s2sTokenGenerator = s2sTokenGenerator;
+        this.submissionPermits = new Semaphore(maxInFlightSubmissions);
+        this.timeout = Duration.ofMillis(timeoutMillis);
+
+        this.connectionProvider = ConnectionProvider.fixed("ccd-case-creation", maxConnections, timeoutMillis);
+        this.webClient = webClientBuilder
+            .baseUrl(ccdApiUrl)
+            .clientConnector(new ReactorClientHttpConnector(HttpClient.create(connectionProvider)))
+            .build();
+    }
+    // endregion
+
+    /**
+     * Transforms exception record into a case and creates it in CCD on behalf of given user.
+     *
+     * @throws TooManyCaseSubmissionsException when too many submissions are already in progress
+     * @throws CaseSubmissionException when CCD could not be called or rejected the case
+     */
+    public CaseCreationResponse createCase(ExceptionRecord exceptionRecord, String userToken, String userId) {
+        if (!submissionPermits.tryAcquire()) {
+            throw new TooManyCaseSubmissionsException("Too many case submissions in progress");
+        }
+
+        try {
+            CaseTransformer target = transformerRegistry.getTransformer(exceptionRecord);
+            String s2sToken = s2sTokenGenerator.generate();
+
+            CompletableFuture<StartEventResponse> startEvent =
+                startEvent(userToken, s2sToken, userId, exceptionRecord.jurisdiction, target).toFuture();
+
+            SuccessfulTransformationResponse transformed;
+            try {
+                transformed = transformer.toCase(exceptionRecord);
+            } catch (RuntimeException exc) {
+                startEvent.cancel(true);
+                throw exc;
+            }
+
+            CaseDetails createdCase = Mono
+                .fromFuture(startEvent)
+                .flatMap(event -> submit(
+                    userToken,
+                    s2sToken,
+                    userId,
+                    exceptionRecord,
+                    transformed.caseCreationDetails,
+                    event.token
+                ))
+                .switchIfEmpty(Mono.defer(() -> Mono.error(new IllegalStateException("CCD returned no case"))))
+                .timeout(timeout)
+                .onErrorMap(exc -> new CaseSubmissionException(
+                    "Failed to create case from exception record " + exceptionRecord.id,
+                    exc
+                ))
+                .block();
+
+            log.info("Created case {} from exception record {}", createdCase.id, exceptionRecord.id);
+
+            return new CaseCreationResponse(String.valueOf(createdCase.id), transformed.warnings);
+        } finally {
+            submissionPermits.release();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        connectionProvider.dispose();
+    }
+
+    private Mono<StartEventResponse> startEvent(
+        String userToken,
+        String s2sToken,
+        String userId,
+        String jurisdiction,
+        CaseTransformer target
+    ) {
+        return webClient
+            .get()
+            .uri(
+                CASEWORKER_PATH + "/event-triggers/{etid}/token",
+                userId,
+                jurisdiction,
+                target.caseTypeId,
+                target.eventId
+            )
+            .header("Authorization", userToken)
+            .header("ServiceAuthorization", s2sToken)
+            .retrieve()
+            .bodyToMono(StartEventResponse.class);
+    }
+
+    private Mono<CaseDetails> submit(
+        String userToken,
+        String s2sToken,
+        String userId,
+        ExceptionRecord exceptionRecord,
+        CaseCreationDetails caseCreationDetails,
+        String eventToken
+    ) {
+        CaseDataContent content = new CaseDataContent(
+            new Event(caseCreationDetails.eventId, "Case created from exception record " + exceptionRecord.id),
+            eventToken,
+            caseCreationDetails.caseData
+        );
+
+        return webClient
+            .post()
+            .uri(
+                CASEWORKER_PATH + "/cases?ignore-warning=true",
+                userId,
+                exceptionRecord.jurisdiction,
+                caseCreationDetails.caseTypeId
+            )
+            .header("Authorization", userToken)
+            .header("ServiceAuthorization", s2sToken)
+            .syncBody(content)
+            .retrieve()
+            .bodyToMono(CaseDetails.class);
+    }
+}
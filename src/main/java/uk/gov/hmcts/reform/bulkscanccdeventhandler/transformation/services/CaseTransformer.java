@@ -0,0 +1,17 @@
+package uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.services;
+
+/**
+ * Case type and event to create a case with, as registered in {@link TransformerRegistry}.
+ */
+public class CaseTransformer {
+
+    public final String caseTypeId;
+    public final String eventId;
+
+    // region constructor
+    public CaseTransformer(String caseTypeId, String eventId) {
+        this.caseTypeId = caseTypeId;
+        this.eventId = eventId;
+    }
+    // endregion
+}
@@ -0,0 +1,74 @@
+package uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.services;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Case types and events to create cases with, by jurisdiction, PO box and case type of the exception record.
+ */
+@Component
+@ConfigurationProperties(prefix = "transformation")
+public class CaseTypeMappingProperties {
+
+    private List<Mapping> mappings = new ArrayList<>();
+
+    public List<Mapping> getMappings() {
+        return mappings;
+    }
+
+    public void setMappings(List<Mapping> mappings) {
+        this.mappings = mappings;
+    }
+
+    public static class Mapping {
+
+        private String jurisdiction;
+        private String poBox = TransformerRegistry.ANY;
+        private String caseTypeId = TransformerRegistry.ANY;
+        private String targetCaseTypeId;
+        private String eventId;
+
+        public String getJurisdiction() {
+            return jurisdiction;
+        }
+
+        public void setJurisdiction(String jurisdiction) {
+            this.jurisdiction = jurisdiction;
+        }
+
+        public String getPoBox() {
+            return poBox;
+        }
+
+        public void setPoBox(String poBox) {
+            this.poBox = poBox;
+        }
+
+        public String getCaseTypeId() {
+            return caseTypeId;
+        }
+
+        public void setCaseTypeId(String caseTypeId) {
+            this.caseTypeId = caseTypeId;
+        }
+
+        public String getTargetCaseTypeId() {
+            return targetCaseTypeId;
+        }
+
+        public void setTargetCaseTypeId(String targetCaseTypeId) {
+            this.targetCaseTypeId = targetCaseTypeId;
+        }
+
+        public String getEventId() {
+            return eventId;
+        }
+
+        public void setEventId(String eventId) {
+            this.eventId = eventId;
+        }
+    }
+}
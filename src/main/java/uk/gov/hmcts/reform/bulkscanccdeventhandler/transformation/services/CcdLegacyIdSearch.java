@@ -0,0 +1,71 @@
+package uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.services;
+
+import com.google.common.collect.ImmutableMap;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.reform.authorisation.generators.AuthTokenGenerator;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.client.CcdSearchApi;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.client.model.CaseDetails;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.client.model.CaseSearchResult;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+import static java.util.Collections.singletonList;
+
+/**
+ * Searches CCD for cases with given legacy ids, using a single terms query per call.
+ * Searches are made as the system user, as transformation requests carry no user token.
+ */
+@Component
+@ConditionalOnProperty(name = "legacy-id-lookup.enabled", havingValue = "true")
+public class CcdLegacyIdSearch implements LegacyIdSearch {
+
+    static final String LEGACY_ID_FIELD = "legacyId";
+
+    private final CcdSearchApi ccdSearchApi;
+    private final SystemUserTokenProvider systemUserTokenProvider;
+    private final AuthTokenGenerator authTokenGenerator;
+
+    // region constructor
+    public CcdLegacyIdSearch(
+        CcdSearchApi ccdSearchApi,
+        SystemUserTokenProvider systemUserTokenProvider,
+        AuthTokenGenerator authTokenGenerator
+    ) {
+        this.ccdSearchApi = ccdSearchApi;
+        this.systemUserTokenProvider = systemUserTokenProvider;
+        this.authTokenGenerator = authTokenGenerator;
+    }
+    // endregion
+
+    @Override
+    public Map<String, String> findCases(String caseTypeId, Collection<String> legacyIds) {
+        CaseSearchResult result = ccdSearchApi.searchCases(
+            systemUserTokenProvider.getUserToken(),
+            authTokenGenerator.generate(),
+            caseTypeId,
+            buildQuery(legacyIds)
+        );
+
+        Map<String, String> caseRefsByLegacyId = new HashMap<>();
+        if (result.cases != null) {
+            for (CaseDetails caseDetails : result.cases) {
+                Object legacyId = caseDetails.data == null ? null : caseDetails.data.get(LEGACY_ID_FIELD);
+                if (legacyId != null) {
+                    caseRefsByLegacyId.putIfAbsent(legacyId.toString(), String.valueOf(caseDetails.id));
+                }
+            }
+        }
+        return caseRefsByLegacyId;
+    }
+
+    static Map<String, Object> buildQuery(Collection<String> legacyIds) {
+        return ImmutableMap.of(
+            "query", ImmutableMap.of("terms", ImmutableMap.of("data." + LEGACY_ID_FIELD, legacyIds)),
+            "_source", singletonList("data." + LEGACY_ID_FIELD),
+            "size", legacyIds.size()
+        );
+    }
+}
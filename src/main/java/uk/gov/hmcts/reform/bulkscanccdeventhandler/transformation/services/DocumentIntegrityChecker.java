@@ -0,0 +1,55 @@
+package uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.services;
+
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.common.OpenAddressingStringSet;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.model.in.InputScannedDoc;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Checks scanned documents of an exception record before they are mapped into a case.
+ *
+ * <p>Missing documents and documents sharing a control number or URL with an earlier document
+ * are reported as errors. Documents scanned after they were delivered are reported as warnings.
+ * All checks are done in one pass over the documents, with sets sized for the envelope up front,
+ * so the cost grows linearly with the number of documents.
+ */
+@Component
+public class DocumentIntegrityChecker {
+
+    public DocumentIntegrityResult check(List<InputScannedDoc> documents) {
+        List<String> errors = new ArrayList<>();
+        List<String> warnings = new ArrayList<>();
+
+        if (documents == null) {
+            return new DocumentIntegrityResult(errors, warnings);
+        }
+
+        OpenAddressingStringSet controlNumbers = new OpenAddressingStringSet(documents.size());
+        OpenAddressingStringSet urls = new OpenAddressingStringSet(documents.size());
+
+        int index = 0;
+        for (InputScannedDoc doc : documents) {
+            if (doc == null) {
+                errors.add("Scanned document at index " + index + " is missing");
+            } else {
+                if (doc.controlNumber != null && !controlNumbers.add(doc.controlNumber)) {
+                    errors.add("Duplicate document control number '" + doc.controlNumber + "'");
+                }
+                if (doc.url != null && !urls.add(doc.url)) {
+                    errors.add("Duplicate document URL '" + doc.url + "'");
+                }
+                if (doc.scannedDate != null
+                    && doc.deliveryDate != null
+                    && doc.scannedDate.isAfter(doc.deliveryDate)
+                ) {
+                    warnings.add("Document '" + doc.controlNumber + "' was scanned after its delivery date");
+                }
+            }
+            index++;
+        }
+
+        return new DocumentIntegrityResult(errors, warnings);
+    }
+}
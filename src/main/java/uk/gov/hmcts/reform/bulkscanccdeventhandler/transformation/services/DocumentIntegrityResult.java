@@ -0,0 +1,19 @@
+package uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.services;
+
+import java.util.List;
+
+public class DocumentIntegrityResult {
+
+    public final List<String> errors;
+    public final List<String> warnings;
+
+    // region constructor
+    public DocumentIntegrityResult(
+        List<String> errors,
+        List<String> warnings
+    ) {
+        this.errors = errors;
+        this.warnings = warnings;
+    }
+    // endregion
+}
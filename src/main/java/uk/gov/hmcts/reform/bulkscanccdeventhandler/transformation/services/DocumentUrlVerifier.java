@@ -0,0 +1,123 @@
+package uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.services;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.model.in.InputScannedDoc;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import javax.annotation.PreDestroy;
+
+import static java.util.Collections.emptyList;
+import static java.util.stream.Collectors.toList;
+import static org.apache.commons.lang.StringUtils.isBlank;
+
+/**
+ * Checks that scanned documents of an exception record can be found in the document store.
+ *
+ * <p>HEAD requests for all documents of an envelope are sent at the same time, without blocking a thread
+ * per request. Requests still running when the envelope deadline passes are cancelled. The number of
+ * requests in flight across all envelopes is capped by the size of a shared connection pool; requests
+ * over the cap wait for a free connection. Documents that cannot be found, or not in time, are reported
+ * as warnings, so they never stop a case from being created.
+ */
+@Component
+@ConditionalOnProperty(name = "document-verification.enabled", havingValue = "true")
+public class DocumentUrlVerifier {
+
+    private static final Logger log = LoggerFactory.getLogger(DocumentUrlVerifier.class);
+
+    private final ConnectionProvider connectionProvider;
+    private final WebClient webClient;
+    private final Duration envelopeTimeout;
+
+    public DocumentUrlVerifier(
+        @Value("${document-verification.max-concurrent-requests}") int maxConcurrentRequests,
+        @Value("${document-verification.envelope-timeout-millis}") long envelopeTimeoutMillis
+    ) {
+        this.envelopeTimeout = Duration.ofMillis(envelopeTimeoutMillis);
+        this.connectionProvider = ConnectionProvider.fixed(
+            "document-verification",
+            maxConcurrentRequests,
+            envelopeTimeoutMillis
+        );
+        this.webClient = WebClient
+            .builder()
+            .clientConnector(new ReactorClientHttpConnector(HttpClient.create(connectionProvider)))
+            .build();
+    }
+
+    /**
+     * Returns warnings for documents which could not be found in the document store
+     * or have no url to look them up with.
+     */
+    public List<String> verify(List<InputScannedDoc> documents) {
+        if (documents == null || documents.isEmpty()) {
+            return emptyList();
+        }
+
+        List<String> urls = documents
+            .stream()
+            .map(doc -> doc.url)
+            .filter(url -> !isBlank(url))
+            .distinct()
+            .collect(toList());
+
+        Map<String, Boolean> foundByUrl = Flux
+            .fromIterable(urls)
+            .flatMap(url -> exists(url).map(found -> new UrlCheck(url, found)))
+            .take(envelopeTimeout)
+            .collectMap(check -> check.url, check -> check.found)
+            .block();
+
+        List<String> warnings = new ArrayList<>();
+        for (InputScannedDoc doc : documents) {
+            Boolean found = foundByUrl.get(doc.url);
+            if (isBlank(doc.url)) {
+                warnings.add("Document '" + doc.controlNumber + "' has no url");
+            } else if (found == null) {
+                warnings.add("Document '" + doc.controlNumber + "' could not be verified in time");
+            } else if (!found) {
+                warnings.add("Document '" + doc.controlNumber + "' not found at " + doc.url);
+            }
+        }
+        return warnings;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        connectionProvider.dispose();
+    }
+
+    private Mono<Boolean> exists(String url) {
+        return Mono
+            .defer(() -> webClient.head().uri(URI.create(url)).exchange())
+            .flatMap(response -> response.bodyToMono(Void.class).thenReturn(response.statusCode().is2xxSuccessful()))
+            .doOnError(exc -> log.warn("Failed to verify document {}: {}", url, exc.toString()))
+            .onErrorReturn(false);
+    }
+
+    private static class UrlCheck {
+
+        final String url;
+        final boolean found;
+
+        UrlCheck(String url, boolean found) {
+            this.url = url;
+            this.found = found;
+        }
+    }
+}
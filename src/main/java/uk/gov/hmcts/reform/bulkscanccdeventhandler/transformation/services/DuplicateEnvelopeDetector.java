@@ -0,0 +1,184 @@
+package uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.services;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.hash.BloomFilter;
+import com.google.common.hash.Funnels;
+import com.google.common.hash.HashCode;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.ocrvalidation.model.in.OcrDataField;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.model.in.ExceptionRecord;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import java.util.regex.Pattern;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.stream.Collectors.toList;
+import static org.apache.commons.lang.StringUtils.isBlank;
+
+/**
+ * Finds exception records whose OCR data repeats that of an earlier record, which happens when
+ * the same form is scanned twice into different envelopes.
+ *
+ * <p>Each record is reduced to a fingerprint of its normalised OCR data: field order, letter case
+ * and extra whitespace are ignored. Fingerprints seen within the time window are remembered in
+ * a ring of Bloom filters, each covering an equal part of the window; when the newest part is over,
+ * the oldest filter is replaced with an empty one. A Bloom filter can give false positives, so a
+ * hit only counts as a duplicate if the fingerprint is also found in a small cache of exact
+ * fingerprints, which gives the id of the earlier record. Memory used is fixed by the size of the
+ * filters and the cache, whatever the traffic. Hits missing from the cache are not reported.
+ */
+@Component
+@ConditionalOnProperty(name = "duplicate-detection.enabled", havingValue = "true")
+public class DuplicateEnvelopeDetector {
+
+    private static final Pattern WHITESPACE_PATTERN = Pattern.compile("\\s+");
+
+    private final BloomFilter<byte[]>[] filters;
+    private final int expectedRecordsPerFilter;
+    private final double falsePositiveProbability;
+    private final long filterPeriodMillis;
+    private final LongSupplier clock;
+
+    private final Cache<HashCode, String> recordIds;
+
+    private int current;
+    private long currentFilterStartedAt;
+
+    // region constructor
+    @Autowired
+    public DuplicateEnvelopeDetector(
+        @Value("${duplicate-detection.window-minutes}") long windowMinutes,
+        @Value("${duplicate-detection.filter-count}") int filterCount,
+        @Value("${duplicate-detection.expected-records-per-filter}") int expectedRecordsPerFilter,
+        @Value("${duplicate-detection.false-positive-probability}") double falsePositiveProbability,
+        @Value("${duplicate-detection.cache-size}") long cacheSize
+    ) {
+        this(
+            windowMinutes,
+            filterCount,
+            expectedRecordsPerFilter,
+            falsePositiveProbability,
+            cacheSize,
+            System::currentTimeMillis
+        );
+    }
+
+    @SuppressWarnings("unchecked")
+    DuplicateEnvelopeDetector(
+        long windowMinutes,
+        int filterCount,
+        int expectedRecordsPerFilter,
+        double falsePositiveProbability,
+        long cacheSize,
+        LongSupplier clock
+    ) {
+        this.expectedRecordsPerFilter = expectedRecordsPerFilter;
+        this.falsePositiveProbability = falsePositiveProbability;
+        this.filterPeriodMillis = TimeUnit.MINUTES.toMillis(windowMinutes) / filterCount;
+        this.clock = clock;
+
+        this.filters = new BloomFilter[filterCount];
+        for (int i = 0; i < filterCount; i++) {
+            filters[i] = newFilter();
+        }
+        this.currentFilterStartedAt = clock.getAsLong();
+
+        this.recordIds = CacheBuilder.newBuilder()
+            .maximumSize(cacheSize)
+            .expireAfterWrite(windowMinutes, TimeUnit.MINUTES)
+            .build();
+    }
+    // endregion
+
+    /**
+     * Returns id of an earlier exception record with the same OCR data, if one was seen within the window.
+     * Records without OCR data are never reported.
+     */
+    public Optional<String> findDuplicateOf(ExceptionRecord exceptionRecord) {
+        HashCode fingerprint = fingerprint(exceptionRecord.ocrDataFields);
+        if (fingerprint == null) {
+            return Optional.empty();
+        }
+
+        if (!seenBefore(fingerprint.asBytes())) {
+            recordIds.put(fingerprint, exceptionRecord.id);
+            return Optional.empty();
+        }
+
+        String earlierRecordId = recordIds.asMap().putIfAbsent(fingerprint, exceptionRecord.id);
+        if (earlierRecordId == null || earlierRecordId.equals(exceptionRecord.id)) {
+            return Optional.empty();
+        }
+        return Optional.of(earlierRecordId);
+    }
+
+    private synchronized boolean seenBefore(byte[] fingerprint) {
+        rotateFilters();
+
+        boolean seen = false;
+        for (BloomFilter<byte[]> filter : filters) {
+            if (filter.mightContain(fingerprint)) {
+                seen = true;
+                break;
+            }
+        }
+
+        filters[current].put(fingerprint);
+        return seen;
+    }
+
+    private void rotateFilters() {
+        long elapsedPeriods = (clock.getAsLong() - currentFilterStartedAt) / filterPeriodMillis;
+        if (elapsedPeriods <= 0) {
+            return;
+        }
+
+        long rotations = Math.min(elapsedPeriods, filters.length);
+        for (int i = 0; i < rotations; i++) {
+            current = (current + 1) % filters.length;
+            filters[current] = newFilter();
+        }
+        currentFilterStartedAt += elapsedPeriods * filterPeriodMillis;
+    }
+
+    private BloomFilter<byte[]> newFilter() {
+        return BloomFilter.create(Funnels.byteArrayFunnel(), expectedRecordsPerFilter, falsePositiveProbability);
+    }
+
+    static HashCode fingerprint(List<OcrDataField> ocrDataFields) {
+        if (ocrDataFields == null) {
+            return null;
+        }
+
+        List<String> entries = ocrDataFields
+            .stream()
+            .filter(field -> field != null && field.name != null && !isBlank(field.value))
+            .map(field -> normalise(field.name) + '=' + normalise(field.value))
+            .sorted()
+            .collect(toList());
+
+        if (entries.isEmpty()) {
+            return null;
+        }
+
+        Hasher hasher = Hashing.sha256().newHasher();
+        for (String entry : entries) {
+            hasher.putString(entry, UTF_8).putByte((byte) 0);
+        }
+        return hasher.hash();
+    }
+
+    private static String normalise(String value) {
+        return WHITESPACE_PATTERN.matcher(value.trim()).replaceAll(" ").toLowerCase(Locale.ROOT);
+    }
+}
@@ -1,73 +1,321 @@
 package uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.services;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.common.validation.ValidatedOcrData;
 import uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.model.in.ExceptionRecord;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.model.in.InputScannedDoc;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.model.in.JourneyClassification;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.model.in.ResponseSection;
 import uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.model.out.CaseCreationDetails;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.model.out.Item;
 import uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.model.out.SampleCase;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.model.out.ScannedDocument;
 import uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.model.out.SuccessfulTransformationResponse;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.services.PersonGroupExtractor.PersonGroups;
 
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.BiFunction;
+
+import static java.util.Collections.emptyList;
 import static java.util.stream.Collectors.toList;
+import static org.apache.commons.lang.StringUtils.isBlank;
 import static uk.gov.hmcts.reform.bulkscanccdeventhandler.common.OcrFieldNames.CONTACT_NUMBER;
 import static uk.gov.hmcts.reform.bulkscanccdeventhandler.common.OcrFieldNames.DATE_OF_BIRTH;
 import static uk.gov.hmcts.reform.bulkscanccdeventhandler.common.OcrFieldNames.EMAIL;
 import static uk.gov.hmcts.reform.bulkscanccdeventhandler.common.OcrFieldNames.FIRST_NAME;
 import static uk.gov.hmcts.reform.bulkscanccdeventhandler.common.OcrFieldNames.LAST_NAME;
 import static uk.gov.hmcts.reform.bulkscanccdeventhandler.common.OcrFieldNames.LEGACY_ID;
-import static uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.services.utils.OcrFieldExtractor.get;
+import static uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.model.in.JourneyClassification.EXCEPTION;
+import static uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.model.in.JourneyClassification.NEW_APPLICATION;
+import static uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.model.in.JourneyClassification.SUPPLEMENTARY_EVIDENCE;
+import static uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.model.in.ResponseSection.CASE_DATA;
+import static uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.model.in.ResponseSection.SCANNED_DOCUMENTS;
+import static uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.model.in.ResponseSection.WARNINGS;
 
+/**
+ * Transforms exception records into cases.
+ *
+ * <p>Records are routed by their journey classification:
+ * <ul>
+ *     <li>new applications are fully validated and invalid OCR data is rejected,</li>
+ *     <li>exceptions are validated as well, but validation errors are only reported as warnings,
+ *     so that the case can be created and corrected by a caseworker,</li>
+ *     <li>supplementary evidence only carries documents, so its OCR data is not looked at.</li>
+ * </ul>
+ * Records without a classification are treated as new applications.
+ * Scanned documents are checked for integrity first. Their errors reject new applications
+ * and supplementary evidence, but are only reported as warnings for exceptions.
+ * Time taken by each journey is recorded by a separate timer.
+ *
+ * <p>Case type and event of the case are taken from the transformer registered
+ * for the jurisdiction, PO box and case type of the exception record.
+ *
+ * <p>When document verification is enabled, documents missing from the document store
+ * are reported as warnings, whatever the journey. When legacy id lookup is enabled,
+ * a warning is added if a case with the same legacy id already exists. When duplicate detection
+ * is enabled, a warning is added if the OCR data repeats that of a recent exception record.
+ *
+ * <p>Callers can ask for some {@link ResponseSection sections} of the response only. Validation always runs,
+ * but case data, scanned documents and the warnings of the services above are only worked out when requested.
+ */
 @Service
 public class ExceptionRecordToCaseTransformer {
 
-    public static final String EVENT_ID = "createCase";
-    public static final String CASE_TYPE_ID = "Bulk_Scanned";
+    public static final String TIMER_NAME = "transformation.duration";
+
+    private static final Logger log = LoggerFactory.getLogger(ExceptionRecordToCaseTransformer.class);
 
+    private final TransformerRegistry transformerRegistry;
     private final DocumentMapper documentMapper;
     private final AddressExtractor addressExtractor;
+    private final PersonGroupExtractor personGroupExtractor;
     private final ExceptionRecordValidator exceptionRecordValidator;
-    private final CaseValidator caseValidator;
+    private final DocumentIntegrityChecker documentIntegrityChecker;
+    private final Optional<DocumentUrlVerifier> documentUrlVerifier;
+    private final Optional<LegacyIdLookupService> legacyIdLookupService;
+    private final Optional<DuplicateEnvelopeDetector> duplicateEnvelopeDetector;
+
+    private final Map<JourneyClassification, Handler> handlers = new EnumMap<>(JourneyClassification.class);
+    private final Map<JourneyClassification, Timer> timers = new EnumMap<>(JourneyClassification.class);
 
     // region constructor
     public ExceptionRecordToCaseTransformer(
+        TransformerRegistry transformerRegistry,
         DocumentMapper documentMapper,
         AddressExtractor addressExtractor,
+        PersonGroupExtractor personGroupExtractor,
         ExceptionRecordValidator exceptionRecordValidator,
-        CaseValidator caseValidator
+        DocumentIntegrityChecker documentIntegrityChecker,
+        Optional<DocumentUrlVerifier> documentUrlVerifier,
+        Optional<LegacyIdLookupService> legacyIdLookupService,
+        Optional<DuplicateEnvelopeDetector> duplicateEnvelopeDetector,
+        MeterRegistry meterRegistry
     ) {
+        this.transformerRegistry = transformerRegistry;
         this.documentMapper = documentMapper;
         this.addressExtractor = addressExtractor;
+        this.personGroupExtractor = personGroupExtractor;
         this.exceptionRecordValidator = exceptionRecordValidator;
-        this.caseValidator = caseValidator;
+        this.documentIntegrityChecker = documentIntegrityChecker;
+        this.documentUrlVerifier = documentUrlVerifier;
+        this.legacyIdLookupService = legacyIdLookupService;
+        this.duplicateEnvelopeDetector = duplicateEnvelopeDetector;
+
+        handlers.put(NEW_APPLICATION, this::transformNewApplication);
+        handlers.put(EXCEPTION, this::transformException);
+        handlers.put(SUPPLEMENTARY_EVIDENCE, this::transformSupplementaryEvidence);
+
+        for (JourneyClassification journey : JourneyClassification.values()) {
+            timers.put(
+                journey,
+                Timer.builder(TIMER_NAME)
+                    .description("Time taken to transform exception record into a case")
+                    .tag("journey", journey.name())
+                    .register(meterRegistry)
+            );
+        }
     }
     // endregion
 
     public SuccessfulTransformationResponse toCase(ExceptionRecord exceptionRecord) {
-        exceptionRecordValidator.assertIsValid(exceptionRecord);
+        return toCase(exceptionRecord, EnumSet.allOf(ResponseSection.class));
+    }
+
+    /**
+     * Transforms exception record, working out given sections of the response only.
+     * Sections which are not requested are left null.
+     */
+    public SuccessfulTransformationResponse toCase(ExceptionRecord exceptionRecord, Set<ResponseSection> sections) {
+        CaseTransformer transformer = transformerRegistry.getTransformer(exceptionRecord);
 
-        SampleCase caseData = buildCase(exceptionRecord);
+        JourneyClassification journey =
+            exceptionRecord.journeyClassification == null ? NEW_APPLICATION : exceptionRecord.journeyClassification;
+
+        SampleCaseWithWarnings result = timers.get(journey).record(
+            () -> handlers.get(journey).apply(exceptionRecord, sections)
+        );
 
         return new SuccessfulTransformationResponse(
-            new CaseCreationDetails(
-                CASE_TYPE_ID,
-                EVENT_ID,
-                caseData
-            ),
-            caseValidator.getWarnings(caseData)
+            sections.contains(CASE_DATA)
+                ? new CaseCreationDetails(transformer.caseTypeId, transformer.eventId, result.caseData)
+                : null,
+            sections.contains(WARNINGS)
+                ? withEnrichmentWarnings(result, exceptionRecord, transformer.caseTypeId)
+                : null
+        );
+    }
+
+    /**
+     * Tells whether transformation waits on remote services, which is when document verification
+     * or legacy id lookup is enabled.
+     */
+    public boolean callsRemoteServices() {
+        return documentUrlVerifier.isPresent() || legacyIdLookupService.isPresent();
+    }
+
+    private List<String> withEnrichmentWarnings(SampleCaseWithWarnings result, ExceptionRecord er, String caseTypeId) {
+        List<String> warnings = new ArrayList<>(result.warnings);
+
+        // missing documents are reported by the integrity check, so only the others are verified
+        documentUrlVerifier.ifPresent(verifier -> warnings.addAll(verifier.verify(presentDocuments(er))));
+
+        String legacyId = result.legacyId;
+        if (legacyIdLookupService.isPresent() && !isBlank(legacyId)) {
+            try {
+                legacyIdLookupService.get()
+                    .findExistingCase(caseTypeId, legacyId)
+                    .ifPresent(caseRef -> warnings.add(
+                        "Case " + caseRef + " with legacy id '" + legacyId + "' already exists"
+                    ));
+            } catch (LegacyIdLookupException exc) {
+                log.warn("Legacy id lookup failed for exception record {}", er.id, exc);
+                warnings.add("Could not check whether case with legacy id '" + legacyId + "' already exists");
+            }
+        }
+
+        duplicateEnvelopeDetector.ifPresent(detector -> detector
+            .findDuplicateOf(er)
+            .ifPresent(earlierRecordId -> warnings.add(
+                "Exception record may be a duplicate of exception record " + earlierRecordId
+            ))
+        );
+
+        return warnings;
+    }
+
+    private SampleCaseWithWarnings transformNewApplication(ExceptionRecord er, Set<ResponseSection> sections) {
+        DocumentIntegrityResult documents = checkDocumentsStrictly(er);
+        ValidatedOcrData ocrData = exceptionRecordValidator.validate(er);
+        PersonGroups persons = personGroupExtractor.extractFrom(er.ocrDataFields);
+
+        List<String> warnings = new ArrayList<>(
+            ocrData.warnings.size() + documents.warnings.size() + persons.warnings.size()
+        );
+        warnings.addAll(ocrData.warnings);
+        warnings.addAll(documents.warnings);
+        warnings.addAll(persons.warnings);
+
+        return new SampleCaseWithWarnings(
+            buildCase(er, ocrData, persons, sections),
+            ocrData.getValue(LEGACY_ID),
+            warnings
+        );
+    }
+
+    private SampleCaseWithWarnings transformException(ExceptionRecord er, Set<ResponseSection> sections) {
+        DocumentIntegrityResult documents = documentIntegrityChecker.check(er.scannedDocuments);
+        ValidatedOcrData ocrData = exceptionRecordValidator.validateLeniently(er);
+        PersonGroups persons = personGroupExtractor.extractFrom(er.ocrDataFields);
+
+        List<String> warnings = new ArrayList<>(
+            ocrData.errors.size() + ocrData.warnings.size() + documents.errors.size() + documents.warnings.size()
+                + persons.warnings.size()
+        );
+        warnings.addAll(ocrData.errors);
+        warnings.addAll(ocrData.warnings);
+        warnings.addAll(documents.errors);
+        warnings.addAll(documents.warnings);
+        warnings.addAll(persons.warnings);
+
+        return new SampleCaseWithWarnings(
+            buildCase(er, ocrData, persons, sections),
+            ocrData.getValue(LEGACY_ID),
+            warnings
         );
     }
 
-    private SampleCase buildCase(ExceptionRecord er) {
+    private SampleCaseWithWarnings transformSupplementaryEvidence(ExceptionRecord er, Set<ResponseSection> sections) {
+        DocumentIntegrityResult documents = checkDocumentsStrictly(er);
+
+        SampleCase caseData = !sections.contains(CASE_DATA) ? null : new SampleCase(
+            null,
+            null,
+            null,
+            null,
+            null,
+            null,
+            null,
+            mapDocuments(er, sections)
+        );
+
+        return new SampleCaseWithWarnings(caseData, null, documents.warnings);
+    }
+
+    private DocumentIntegrityResult checkDocumentsStrictly(ExceptionRecord er) {
+        DocumentIntegrityResult result = documentIntegrityChecker.check(er.scannedDocuments);
+        if (!result.errors.isEmpty()) {
+            throw new InvalidExceptionRecordException(result.errors);
+        }
+        return result;
+    }
+
+    private SampleCase buildCase(
+        ExceptionRecord er,
+        ValidatedOcrData ocrData,
+        PersonGroups persons,
+        Set<ResponseSection> sections
+    ) {
+        if (!sections.contains(CASE_DATA)) {
+            return null;
+        }
+
         return new SampleCase(
-            get(er, LEGACY_ID),
-            get(er, FIRST_NAME),
-            get(er, LAST_NAME),
-            get(er, DATE_OF_BIRTH),
-            get(er, CONTACT_NUMBER),
-            get(er, EMAIL),
-            addressExtractor.extractFrom(er.ocrDataFields),
-            er.scannedDocuments
-                .stream()
-                .map(it -> documentMapper.toCaseDoc(it, er.id))
-                .collect(toList())
+            ocrData.getValue(LEGACY_ID),
+            ocrData.getValue(FIRST_NAME),
+            ocrData.getValue(LAST_NAME),
+            ocrData.getValue(DATE_OF_BIRTH),
+            ocrData.getValue(CONTACT_NUMBER),
+            ocrData.getValue(EMAIL),
+            addressExtractor.extractFrom(ocrData),
+            mapDocuments(er, sections),
+            persons.applicants,
+            persons.children
         );
     }
+
+    private List<Item<ScannedDocument>> mapDocuments(ExceptionRecord er, Set<ResponseSection> sections) {
+        if (!sections.contains(SCANNED_DOCUMENTS)) {
+            return null;
+        }
+
+        // missing documents are reported by the integrity check and left out of the case
+        return presentDocuments(er)
+            .stream()
+            .map(it -> documentMapper.toCaseDoc(it, er.id))
+            .collect(toList());
+    }
+
+    private static List<InputScannedDoc> presentDocuments(ExceptionRecord er) {
+        if (er.scannedDocuments == null) {
+            return emptyList();
+        }
+        return er.scannedDocuments.stream().filter(Objects::nonNull).collect(toList());
+    }
+
+    private interface Handler extends BiFunction<ExceptionRecord, Set<ResponseSection>, SampleCaseWithWarnings> {
+    }
+
+    private static class SampleCaseWithWarnings {
+
+        final SampleCase caseData;
+        final String legacyId;
+        final List<String> warnings;
+
+        SampleCaseWithWarnings(SampleCase caseData, String legacyId, List<String> warnings) {
+            this.caseData = caseData;
+            this.legacyId = legacyId;
+            this.warnings = warnings;
+        }
+    }
 }
@@ -1,30 +1,90 @@
 package uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.services;
 
-import com.google.common.collect.Sets;
 import org.springframework.stereotype.Component;
 import uk.gov.hmcts.reform.bulkscanccdeventhandler.common.OcrFieldNames;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.common.validation.OcrValidationPipeline;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.common.validation.OcrValidationRules;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.common.validation.ValidatedOcrData;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.ocrvalidation.services.OcrFormValidationHelper;
 import uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.model.in.ExceptionRecord;
 
-import java.util.Set;
-
-import static java.util.stream.Collectors.toList;
-import static java.util.stream.Collectors.toSet;
+import static org.apache.commons.lang.StringUtils.isBlank;
+import static uk.gov.hmcts.reform.bulkscanccdeventhandler.common.OcrFieldNames.ADDRESS_LINE_1;
+import static uk.gov.hmcts.reform.bulkscanccdeventhandler.common.OcrFieldNames.ADDRESS_LINE_2;
+import static uk.gov.hmcts.reform.bulkscanccdeventhandler.common.OcrFieldNames.ADDRESS_LINE_3;
+import static uk.gov.hmcts.reform.bulkscanccdeventhandler.common.OcrFieldNames.CONTACT_NUMBER;
+import static uk.gov.hmcts.reform.bulkscanccdeventhandler.common.OcrFieldNames.COUNTRY;
+import static uk.gov.hmcts.reform.bulkscanccdeventhandler.common.OcrFieldNames.COUNTY;
+import static uk.gov.hmcts.reform.bulkscanccdeventhandler.common.OcrFieldNames.DATE_OF_BIRTH;
+import static uk.gov.hmcts.reform.bulkscanccdeventhandler.common.OcrFieldNames.EMAIL;
+import static uk.gov.hmcts.reform.bulkscanccdeventhandler.common.OcrFieldNames.FIRST_NAME;
+import static uk.gov.hmcts.reform.bulkscanccdeventhandler.common.OcrFieldNames.LAST_NAME;
+import static uk.gov.hmcts.reform.bulkscanccdeventhandler.common.OcrFieldNames.LEGACY_ID;
+import static uk.gov.hmcts.reform.bulkscanccdeventhandler.common.OcrFieldNames.POST_CODE;
+import static uk.gov.hmcts.reform.bulkscanccdeventhandler.common.OcrFieldNames.POST_TOWN;
+import static uk.gov.hmcts.reform.bulkscanccdeventhandler.common.validation.OcrValidationRules.MissingWhen.ABSENT;
+import static uk.gov.hmcts.reform.bulkscanccdeventhandler.common.validation.OcrValidationRules.MissingWhen.EMPTY;
 
 @Component
 public class ExceptionRecordValidator {
 
-    public void assertIsValid(ExceptionRecord exceptionRecord) {
+    /**
+     * Rules for OCR data of an exception record being transformed into a case.
+     * Values of all fields used to build the case are captured, so the OCR data is only walked once.
+     */
+    private static final OcrValidationRules rules;
+
+    static {
+        OcrValidationRules.Builder builder = OcrValidationRules.builder();
+        OcrFieldNames.getRequiredFields().forEach(field -> builder.requireField(field, ABSENT, "'%s' is required"));
+
+        rules = builder
+            .expectField(EMAIL, EMPTY, "'%s' is empty")
+            // empty values are reported as warnings, not as invalid formats
+            .checkFormat(EMAIL, email -> isBlank(email) || OcrFormValidationHelper.isValidEmailAddress(email),
+                "Invalid email address")
+            .checkFormat(CONTACT_NUMBER, phone -> isBlank(phone) || OcrFormValidationHelper.isValidPhoneNumber(phone),
+                "Invalid phone number")
+            .captureField(LEGACY_ID)
+            .captureField(FIRST_NAME)
+            .captureField(LAST_NAME)
+            .captureField(DATE_OF_BIRTH)
+            .captureField(ADDRESS_LINE_1)
+            .captureField(ADDRESS_LINE_2)
+            .captureField(ADDRESS_LINE_3)
+            .captureField(POST_CODE)
+            .captureField(POST_TOWN)
+            .captureField(COUNTY)
+            .captureField(COUNTRY)
+            .build();
+    }
+
+    private final OcrValidationPipeline validationPipeline;
 
-        Set<String> missingFields =
-            Sets.difference(
-                OcrFieldNames.getRequiredFields(),
-                exceptionRecord.ocrDataFields.stream().map(it -> it.name).collect(toSet())
-            );
+    public ExceptionRecordValidator(OcrValidationPipeline validationPipeline) {
+        this.validationPipeline = validationPipeline;
+    }
+
+    /**
+     * Validates OCR data of the exception record.
+     *
+     * @return validated OCR data, including warnings to be returned to the caller
+     * @throws InvalidExceptionRecordException if any of the rules reported an error
+     */
+    public ValidatedOcrData validate(ExceptionRecord exceptionRecord) {
+        ValidatedOcrData result = validateLeniently(exceptionRecord);
 
-        if (!missingFields.isEmpty()) {
-            throw new InvalidExceptionRecordException(
-                missingFields.stream().map(it -> "'" + it + "' is required").collect(toList())
-            );
+        if (result.hasErrors()) {
+            throw new InvalidExceptionRecordException(result.errors);
         }
+
+        return result;
+    }
+
+    /**
+     * Validates OCR data of the exception record, leaving it to the caller to decide what to do with errors.
+     */
+    public ValidatedOcrData validateLeniently(ExceptionRecord exceptionRecord) {
+        return validationPipeline.validate(exceptionRecord.ocrDataFields, rules);
     }
 }
@@ -0,0 +1,8 @@
+package uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.services;
+
+public class LegacyIdLookupException extends RuntimeException {
+
+    public LegacyIdLookupException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,226 @@
+package uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.services;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.Lists;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import javax.annotation.PreDestroy;
+
+import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.toList;
+
+/**
+ * Checks whether cases with given legacy ids already exist.
+ *
+ * <p>Lookups are not sent one by one. Lookups made by concurrent requests within a short window are
+ * collected and sent as one search per case type, or earlier when the batch is full. The same legacy
+ * id asked for twice in one window is searched once. Results, including cases not found, are kept in
+ * a bounded cache for a limited time, as the same legacy ids keep coming back in later envelopes.
+ * Failed searches are not cached.
+ *
+ * <p>Searches block on CCD, so they run on a fixed pool of threads with a bounded queue, leaving the thread
+ * collecting batches free. Lookups whose search finds no room in the queue fail straight away.
+ */
+@Service
+@ConditionalOnProperty(name = "legacy-id-lookup.enabled", havingValue = "true")
+public class LegacyIdLookupService {
+
+    private static final Logger log = LoggerFactory.getLogger(LegacyIdLookupService.class);
+
+    private final LegacyIdSearch legacyIdSearch;
+    private final int maxBatchSize;
+    private final long batchWindowMillis;
+    private final long timeoutMillis;
+
+    private final Cache<CaseKey, Optional<String>> cache;
+    private final ScheduledExecutorService scheduler;
+    private final ThreadPoolExecutor searchExecutor;
+
+    private final Object lock = new Object();
+    private Map<CaseKey, CompletableFuture<Optional<String>>> pending = new HashMap<>();
+    private boolean flushScheduled;
+
+    // region constructor
+    public LegacyIdLookupService(
+        LegacyIdSearch legacyIdSearch,
+        @Value("${legacy-id-lookup.max-batch-size}") int maxBatchSize,
+        @Value("${legacy-id-lookup.batch-window-millis}") long batchWindowMillis,
+        @Value("${legacy-id-lookup.timeout-millis}") long timeoutMillis,
+        @Value("${legacy-id-lookup.cache.max-size}") long cacheMaxSize,
+        @Value("${legacy-id-lookup.cache.ttl-seconds}") long cacheTtlSeconds,
+        @Value("${legacy-id-lookup.search-threads}") int searchThreads,
+        @Value("${legacy-id-lookup.search-queue-capacity}") int searchQueueCapacity
+    ) {
+        this.legacyIdSearch = legacyIdSearch;
+        this.maxBatchSize = maxBatchSize;
+        this.batchWindowMillis = batchWindowMillis;
+        this.timeoutMillis = timeoutMillis;
+
+        this.cache = CacheBuilder.newBuilder()
+            .maximumSize(cacheMaxSize)
+            .expireAfterWrite(cacheTtlSeconds, TimeUnit.SECONDS)
+            .build();
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(
+            new ThreadFactoryBuilder().setNameFormat("legacy-id-lookup").setDaemon(true).build()
+        );
+        this.searchExecutor = new ThreadPoolExecutor(
+            searchThreads,
+            searchThreads,
+            0L,
+            TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(searchQueueCapacity),
+            new ThreadFactoryBuilder().setNameFormat("legacy-id-search-%d").setDaemon(true).build(),
+            new ThreadPoolExecutor.AbortPolicy()
+        );
+    }
+    // endregion
+
+    /**
+     * Returns reference of the existing case with given legacy id, if there is one.
+     *
+     * @throws LegacyIdLookupException when the search failed or did not finish in time
+     */
+    public Optional<String> findExistingCase(String caseTypeId, String legacyId) {
+        CaseKey key = new CaseKey(caseTypeId, legacyId);
+
+        Optional<String> cached = cache.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        CompletableFuture<Optional<String>> result;
+        synchronized (lock) {
+            result = pending.get(key);
+            if (result == null) {
+                result = new CompletableFuture<>();
+                pending.put(key, result);
+
+                if (pending.size() >= maxBatchSize) {
+                    scheduler.execute(this::flush);
+                } else if (!flushScheduled) {
+                    flushScheduled = true;
+                    scheduler.schedule(this::flush, batchWindowMillis, TimeUnit.MILLISECONDS);
+                }
+            }
+        }
+
+        try {
+            return result.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException exc) {
+            Thread.currentThread().interrupt();
+            throw new LegacyIdLookupException("Interrupted while looking up legacy id " + legacyId, exc);
+        } catch (ExecutionException exc) {
+            throw new LegacyIdLookupException("Failed to look up legacy id " + legacyId, exc.getCause());
+        } catch (TimeoutException exc) {
+            throw new LegacyIdLookupException("Timed out looking up legacy id " + legacyId, exc);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+        searchExecutor.shutdownNow();
+    }
+
+    private void flush() {
+        Map<CaseKey, CompletableFuture<Optional<String>>> batch;
+        synchronized (lock) {
+            batch = pending;
+            pending = new HashMap<>();
+            flushScheduled = false;
+        }
+
+        batch.keySet()
+            .stream()
+            .collect(groupingBy(key -> key.caseTypeId))
+            .forEach((caseTypeId, keys) -> {
+                for (List<CaseKey> chunk : Lists.partition(keys, maxBatchSize)) {
+                    submitSearch(caseTypeId, chunk, batch);
+                }
+            });
+    }
+
+    private void submitSearch(
+        String caseTypeId,
+        List<CaseKey> keys,
+        Map<CaseKey, CompletableFuture<Optional<String>>> results
+    ) {
+        try {
+            searchExecutor.execute(() -> search(caseTypeId, keys, results));
+        } catch (RejectedExecutionException exc) {
+            log.warn("Legacy id search queue is full, skipping {} legacy ids of case type {}", keys.size(), caseTypeId);
+            keys.forEach(key -> results.get(key).completeExceptionally(exc));
+        }
+    }
+
+    private void search(
+        String caseTypeId,
+        List<CaseKey> keys,
+        Map<CaseKey, CompletableFuture<Optional<String>>> results
+    ) {
+        try {
+            Map<String, String> caseRefs = legacyIdSearch.findCases(
+                caseTypeId,
+                keys.stream().map(key -> key.legacyId).collect(toList())
+            );
+
+            for (CaseKey key : keys) {
+                Optional<String> caseRef = Optional.ofNullable(caseRefs.get(key.legacyId));
+                cache.put(key, caseRef);
+                results.get(key).complete(caseRef);
+            }
+        } catch (Exception exc) {
+            log.warn("Failed to search {} legacy ids of case type {}", keys.size(), caseTypeId, exc);
+            keys.forEach(key -> results.get(key).completeExceptionally(exc));
+        }
+    }
+
+    private static final class CaseKey {
+
+        final String caseTypeId;
+        final String legacyId;
+
+        CaseKey(String caseTypeId, String legacyId) {
+            this.caseTypeId = caseTypeId;
+            this.legacyId = legacyId;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (this == other) {
+                return true;
+            }
+            if (!(other instanceof CaseKey)) {
+                return false;
+            }
+            CaseKey that = (CaseKey) other;
+            return caseTypeId.equals(that.caseTypeId) && legacyId.equals(that.legacyId);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(caseTypeId, legacyId);
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.services;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Finds cases by their legacy id.
+ */
+public interface LegacyIdSearch {
+
+    /**
+     * Returns references of existing cases of given type, keyed by legacy id.
+     * Legacy ids without a case are not included.
+     */
+    Map<String, String> findCases(String caseTypeId, Collection<String> legacyIds);
+}
@@ -0,0 +1,78 @@
+package uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.services;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.common.GroupedOcrData;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.common.OcrFieldGroups;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.ocrvalidation.model.in.OcrDataField;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.model.out.Item;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.model.out.Person;
+
+import java.util.List;
+import java.util.Map;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static java.util.stream.Collectors.toList;
+import static uk.gov.hmcts.reform.bulkscanccdeventhandler.common.OcrFieldNames.APPLICANT_GROUP;
+import static uk.gov.hmcts.reform.bulkscanccdeventhandler.common.OcrFieldNames.CHILD_GROUP;
+import static uk.gov.hmcts.reform.bulkscanccdeventhandler.common.OcrFieldNames.DATE_OF_BIRTH;
+import static uk.gov.hmcts.reform.bulkscanccdeventhandler.common.OcrFieldNames.FIRST_NAME;
+import static uk.gov.hmcts.reform.bulkscanccdeventhandler.common.OcrFieldNames.LAST_NAME;
+
+/**
+ * Extracts applicants and children from repeating groups of OCR fields,
+ * e.g. {@code applicant_2_last_name} or {@code child_1_date_of_birth}.
+ */
+@Component
+public class PersonGroupExtractor {
+
+    private final OcrFieldGroups groups;
+    private final int maxGroups;
+
+    public PersonGroupExtractor(@Value("${transformation.repeating-groups.max-groups}") int maxGroups) {
+        this.maxGroups = maxGroups;
+        this.groups = OcrFieldGroups.builder(maxGroups)
+            .group(APPLICANT_GROUP, FIRST_NAME, LAST_NAME, DATE_OF_BIRTH)
+            .group(CHILD_GROUP, FIRST_NAME, LAST_NAME, DATE_OF_BIRTH)
+            .build();
+    }
+
+    public PersonGroups extractFrom(List<OcrDataField> ocrFields) {
+        GroupedOcrData grouped = groups.parse(ocrFields);
+
+        return new PersonGroups(
+            toPersons(grouped.getGroups(APPLICANT_GROUP)),
+            toPersons(grouped.getGroups(CHILD_GROUP)),
+            grouped.ignoredFieldCount == 0
+                ? emptyList()
+                : singletonList(
+                    grouped.ignoredFieldCount + " OCR fields of groups numbered above " + maxGroups + " were ignored"
+                )
+        );
+    }
+
+    private static List<Item<Person>> toPersons(List<Map<String, String>> groups) {
+        return groups
+            .stream()
+            .map(group -> new Item<>(new Person(
+                group.get(FIRST_NAME),
+                group.get(LAST_NAME),
+                group.get(DATE_OF_BIRTH)
+            )))
+            .collect(toList());
+    }
+
+    public static class PersonGroups {
+
+        public final List<Item<Person>> applicants;
+        public final List<Item<Person>> children;
+        public final List<String> warnings;
+
+        PersonGroups(List<Item<Person>> applicants, List<Item<Person>> children, List<String> warnings) {
+            this.applicants = applicants;
+            this.children = children;
+            this.warnings = warnings;
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.services;
+
+import com.google.common.base.Supplier;
+import com.google.common.base.Suppliers;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.client.IdamApi;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Provides IDAM token of the system user, for CCD calls made without a user token of the caller.
+ *
+ * <p>The token is requested with the password grant and reused until its configured lifetime passes.
+ */
+@Component
+@ConditionalOnProperty(name = "legacy-id-lookup.enabled", havingValue = "true")
+public class SystemUserTokenProvider {
+
+    private final IdamApi idamApi;
+    private final MultiValueMap<String, String> tokenRequest;
+    private final Supplier<String> token;
+
+    // region constructor
+    public SystemUserTokenProvider(
+        IdamApi idamApi,
+        @Value("${idam.system-user.username}") String username,
+        @Value("${idam.system-user.password}") String password,
+        @Value("${idam.client.id}") String clientId,
+        @Value("${idam.client.secret}") String clientSecret,
+        @Value("${idam.client.redirect-uri}") String redirectUri,
+        @Value("${idam.system-user.token-ttl-seconds}") long tokenTtlSeconds
+    ) {
+        this.idamApi = idamApi;
+
+        this.tokenRequest = new LinkedMultiValueMap<>();
+        tokenRequest.add("grant_type", "password");
+        tokenRequest.add("username", username);
+        tokenRequest.add("password", password);
+        tokenRequest.add("client_id", clientId);
+        tokenRequest.add("client_secret", clientSecret);
+        tokenRequest.add("redirect_uri", redirectUri);
+        tokenRequest.add("scope", "openid profile roles");
+
+        this.token = Suppliers.memoizeWithExpiration(this::requestToken, tokenTtlSeconds, TimeUnit.SECONDS);
+    }
+    // endregion
+
+    /**
+     * Returns value for the Authorization header.
+     */
+    public String getUserToken() {
+        return token.get();
+    }
+
+    private String requestToken() {
+        return "Bearer " + idamApi.generateOpenIdToken(tokenRequest).accessToken;
+    }
+}
@@ -0,0 +1,8 @@
+package uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.services;
+
+public class TooManyCaseSubmissionsException extends RuntimeException {
+
+    public TooManyCaseSubmissionsException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,8 @@
+package uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.services;
+
+public class TransformationJobNotFoundException extends RuntimeException {
+
+    public TransformationJobNotFoundException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,193 @@
+package uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.services;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.model.in.ExceptionRecord;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.model.out.SuccessfulTransformationResponse;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.model.out.TransformationJobResponse;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.model.out.TransformationJobStatus;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.PreDestroy;
+
+import static java.util.Collections.singletonList;
+import static uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.model.out.TransformationJobStatus.COMPLETED;
+import static uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.model.out.TransformationJobStatus.FAILED;
+import static uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.model.out.TransformationJobStatus.PENDING;
+
+/**
+ * Runs exception record transformations in the background.
+ *
+ * <p>Jobs are queued on a bounded local queue and processed by a fixed pool of workers.
+ * When the queue is full new jobs are rejected, so the queue depth (published as a gauge)
+ * is the backpressure signal for callers. Finished jobs are kept for a limited time only.
+ */
+@Service
+public class TransformationJobService {
+
+    private static final Logger log = LoggerFactory.getLogger(TransformationJobService.class);
+
+    private final ExceptionRecordToCaseTransformer transformer;
+    private final ThreadPoolExecutor workers;
+    private final ScheduledExecutorService evictor;
+    private final ConcurrentMap<String, Job> jobs = new ConcurrentHashMap<>();
+    private final long resultTtlMillis;
+
+    public TransformationJobService(
+        ExceptionRecordToCaseTransformer transformer,
+        MeterRegistry meterRegistry,
+        @Value("${transformation.jobs.worker-count}") int workerCount,
+        @Value("${transformation.jobs.queue-capacity}") int queueCapacity,
+        @Value("${transformation.jobs.result-ttl-seconds}") long resultTtlSeconds
+    ) {
+        this.transformer = transformer;
+        this.resultTtlMillis = TimeUnit.SECONDS.toMillis(resultTtlSeconds);
+
+        this.workers = new ThreadPoolExecutor(
+            workerCount,
+            workerCount,
+            0L,
+            TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queueCapacity),
+            new ThreadFactoryBuilder().setNameFormat("transformation-job-%d").setDaemon(true).build(),
+            new ThreadPoolExecutor.AbortPolicy()
+        );
+
+        this.evictor = Executors.newSingleThreadScheduledExecutor(
+            new ThreadFactoryBuilder().setNameFormat("transformation-job-evictor").setDaemon(true).build()
+        );
+        long evictionPeriodSeconds = Math.max(1, resultTtlSeconds / 10);
+        this.evictor.scheduleAtFixedRate(
+            this::evictExpiredJobs,
+            evictionPeriodSeconds,
+            evictionPeriodSeconds,
+            TimeUnit.SECONDS
+        );
+
+        Gauge.builder("transformation.jobs.queue.depth", workers, executor -> executor.getQueue().size())
+            .description("Number of transformation jobs waiting for a worker")
+            .register(meterRegistry);
+        Gauge.builder("transformation.jobs.active", workers, ThreadPoolExecutor::getActiveCount)
+            .description("Number of transformation jobs being processed")
+            .register(meterRegistry);
+        Gauge.builder("transformation.jobs.stored", jobs, ConcurrentMap::size)
+            .description("Number of transformation jobs held in memory, including finished ones")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Queues exception record for transformation.
+     *
+     * @throws TransformationQueueFullException when there is no more room in the queue
+     */
+    public TransformationJobResponse submit(ExceptionRecord exceptionRecord) {
+        String jobId = UUID.randomUUID().toString();
+        Job job = new Job(jobId);
+        jobs.put(jobId, job);
+
+        try {
+            workers.execute(() -> process(job, exceptionRecord));
+        } catch (RejectedExecutionException exc) {
+            jobs.remove(jobId);
+            throw new TransformationQueueFullException(
+                "Transformation queue is full (" + workers.getQueue().size() + " jobs waiting)"
+            );
+        }
+
+        log.info("Queued transformation job {} for exception record {}", jobId, exceptionRecord.id);
+
+        return job.toResponse();
+    }
+
+    /**
+     * Returns current state of the job.
+     *
+     * @throws TransformationJobNotFoundException when job does not exist or its result has expired
+     */
+    public TransformationJobResponse getJob(String jobId) {
+        Job job = jobs.get(jobId);
+
+        if (job == null || job.isExpired(System.currentTimeMillis(), resultTtlMillis)) {
+            throw new TransformationJobNotFoundException("Transformation job '" + jobId + "' not found");
+        }
+
+        return job.toResponse();
+    }
+
+    public int getQueueDepth() {
+        return workers.getQueue().size();
+    }
+
+    private void evictExpiredJobs() {
+        long now = System.currentTimeMillis();
+        jobs.values().removeIf(job -> job.isExpired(now, resultTtlMillis));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        evictor.shutdownNow();
+        workers.shutdown();
+    }
+
+    private void process(Job job, ExceptionRecord exceptionRecord) {
+        try {
+            job.complete(transformer.toCase(exceptionRecord), System.currentTimeMillis());
+        } catch (InvalidExceptionRecordException exc) {
+            job.fail(exc.getErrors(), System.currentTimeMillis());
+        } catch (Exception exc) {
+            log.error("Transformation job {} failed", job.id, exc);
+            job.fail(singletonList("Unexpected error while transforming exception record"), System.currentTimeMillis());
+        }
+    }
+
+    private static class Job {
+
+        final String id;
+
+        private volatile TransformationJobStatus status = PENDING;
+        private volatile SuccessfulTransformationResponse result;
+        private volatile List<String> errors;
+        private volatile long finishedAt;
+
+        Job(String id) {
+            this.id = id;
+        }
+
+        void complete(SuccessfulTransformationResponse result, long finishedAt) {
+            this.result = result;
+            this.finishedAt = finishedAt;
+            this.status = COMPLETED;
+        }
+
+        void fail(List<String> errors, long finishedAt) {
+            this.errors = errors;
+            this.finishedAt = finishedAt;
+            this.status = FAILED;
+        }
+
+        boolean isExpired(long now, long ttlMillis) {
+            return status != PENDING && now - finishedAt >= ttlMillis;
+        }
+
+        TransformationJobResponse toResponse() {
+            // status is written last by the worker, so reading it first gives a consistent view
+            TransformationJobStatus currentStatus = status;
+            return new TransformationJobResponse(id, currentStatus, result, errors);
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.services;
+
+public class TransformationQueueFullException extends RuntimeException {
+
+    public TransformationQueueFullException(String message) {
+        super(message);
+    }
+}
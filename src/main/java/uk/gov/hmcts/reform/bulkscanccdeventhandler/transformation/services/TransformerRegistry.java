@@ -0,0 +1,93 @@
+package uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.services;
+
+import com.google.common.collect.ImmutableMap;
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.model.in.ExceptionRecord;
+
+import java.util.Locale;
+import java.util.Map;
+
+import static java.util.Collections.singletonList;
+import static org.apache.commons.lang.StringUtils.isBlank;
+
+/**
+ * Selects the transformer for an exception record by its jurisdiction, PO box and case type.
+ *
+ * <p>Registrations are copied into an immutable hash map when the application starts. PO box and case type
+ * of a registration can be {@value #ANY}, in which case they match any value. A lookup probes the map
+ * at most four times, from the most to the least specific key, so adding registrations does not
+ * make lookups slower.
+ */
+@Component
+public class TransformerRegistry {
+
+    public static final String ANY = "*";
+
+    private static final char KEY_SEPARATOR = '\u0000';
+
+    private final Map<String, CaseTransformer> transformers;
+
+    public TransformerRegistry(CaseTypeMappingProperties properties) {
+        ImmutableMap.Builder<String, CaseTransformer> builder = ImmutableMap.builder();
+
+        for (CaseTypeMappingProperties.Mapping mapping : properties.getMappings()) {
+            if (isBlank(mapping.getJurisdiction())
+                || isBlank(mapping.getTargetCaseTypeId())
+                || isBlank(mapping.getEventId())) {
+                throw new IllegalStateException(
+                    "Transformer mapping requires jurisdiction, target case type ID and event ID"
+                );
+            }
+
+            builder.put(
+                key(mapping.getJurisdiction(), mapping.getPoBox(), mapping.getCaseTypeId()),
+                new CaseTransformer(mapping.getTargetCaseTypeId(), mapping.getEventId())
+            );
+        }
+
+        // fails on duplicate registrations
+        this.transformers = builder.build();
+    }
+
+    /**
+     * Returns the transformer registered for the exception record.
+     *
+     * @throws InvalidExceptionRecordException if there is none
+     */
+    public CaseTransformer getTransformer(ExceptionRecord exceptionRecord) {
+        String jurisdiction = exceptionRecord.jurisdiction;
+        String poBox = exceptionRecord.poBox;
+        String caseTypeId = exceptionRecord.caseTypeId;
+
+        CaseTransformer transformer = null;
+        if (jurisdiction != null) {
+            transformer = transformers.get(key(jurisdiction, poBox, caseTypeId));
+            if (transformer == null) {
+                transformer = transformers.get(key(jurisdiction, poBox, ANY));
+            }
+            if (transformer == null) {
+                transformer = transformers.get(key(jurisdiction, ANY, caseTypeId));
+            }
+            if (transformer == null) {
+                transformer = transformers.get(key(jurisdiction, ANY, ANY));
+            }
+        }
+
+        if (transformer == null) {
+            throw new InvalidExceptionRecordException(singletonList(
+                String.format(
+                    "No transformer registered for jurisdiction '%s', PO box '%s' and case type '%s'",
+                    jurisdiction,
+                    poBox,
+                    caseTypeId
+                )
+            ));
+        }
+
+        return transformer;
+    }
+
+    private static String key(String jurisdiction, String poBox, String caseTypeId) {
+        return jurisdiction.toLowerCase(Locale.ROOT) + KEY_SEPARATOR + poBox + KEY_SEPARATOR + caseTypeId;
+    }
+}
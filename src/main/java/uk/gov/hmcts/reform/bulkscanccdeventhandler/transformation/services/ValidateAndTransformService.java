@@ -0,0 +1,66 @@
+package uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.services;
+
+import org.springframework.stereotype.Service;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.ocrvalidation.model.FormType;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.ocrvalidation.services.OcrDataValidator;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.ocrvalidation.services.OcrValidationResult;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.model.in.ExceptionRecord;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.model.out.SuccessfulTransformationResponse;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.model.out.ValidateAndTransformResponse;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import static java.util.Collections.emptyList;
+import static uk.gov.hmcts.reform.bulkscanccdeventhandler.ocrvalidation.model.out.ValidationStatus.ERRORS;
+import static uk.gov.hmcts.reform.bulkscanccdeventhandler.ocrvalidation.model.out.ValidationStatus.SUCCESS;
+import static uk.gov.hmcts.reform.bulkscanccdeventhandler.ocrvalidation.model.out.ValidationStatus.WARNINGS;
+
+/**
+ * Validates OCR data of an exception record and, if it is valid, transforms the record into a case.
+ *
+ * <p>Equivalent to calling OCR validation and transformation endpoints one after another,
+ * but the request is authenticated and deserialized only once.
+ */
+@Service
+public class ValidateAndTransformService {
+
+    private final OcrDataValidator ocrDataValidator;
+    private final ExceptionRecordToCaseTransformer transformer;
+
+    public ValidateAndTransformService(
+        OcrDataValidator ocrDataValidator,
+        ExceptionRecordToCaseTransformer transformer
+    ) {
+        this.ocrDataValidator = ocrDataValidator;
+        this.transformer = transformer;
+    }
+
+    /**
+     * Returns validation errors without case details when OCR data is invalid.
+     *
+     * @throws InvalidExceptionRecordException if OCR data is valid, but the record cannot be transformed
+     */
+    public ValidateAndTransformResponse validateAndTransform(FormType formType, ExceptionRecord exceptionRecord) {
+        OcrValidationResult validationResult = ocrDataValidator.validate(formType, exceptionRecord.ocrDataFields);
+
+        if (validationResult.status == ERRORS) {
+            return new ValidateAndTransformResponse(ERRORS, validationResult.warnings, validationResult.errors, null);
+        }
+
+        SuccessfulTransformationResponse transformationResult = transformer.toCase(exceptionRecord);
+
+        // both steps may report the same issue
+        Set<String> warnings = new LinkedHashSet<>(validationResult.warnings);
+        warnings.addAll(transformationResult.warnings);
+
+        return new ValidateAndTransformResponse(
+            warnings.isEmpty() ? SUCCESS : WARNINGS,
+            new ArrayList<>(warnings),
+            emptyList(),
+            transformationResult.caseCreationDetails
+        );
+    }
+}
@@ -0,0 +1,162 @@
+package uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.services.address;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.model.out.Address;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import static org.apache.commons.lang.StringUtils.isBlank;
+import static org.apache.commons.lang.StringUtils.stripEnd;
+
+/**
+ * Moves address components which OCR put into the wrong field to the right one.
+ *
+ * <p>Towns, counties and countries are recognised using a gazetteer, loaded into a trie at startup.
+ * The parser:
+ * <ul>
+ *     <li>moves a post town, county or country field holding another type of place, or a postcode,
+ *     to the matching field if that is empty,</li>
+ *     <li>takes the postcode from the end of an address line if the postcode field is empty,</li>
+ *     <li>moves second and third address lines that name a place to the matching empty field,
+ *     checking the bottom line first,</li>
+ *     <li>moves lines below a line it emptied up.</li>
+ * </ul>
+ * A place name fitting more than one empty field goes to the country, then the post town,
+ * then the county. Nothing is ever overwritten, and text which is not recognised stays where it is.
+ */
+@Component
+public class AddressParser {
+
+    private final GazetteerTrie gazetteer;
+
+    public AddressParser(@Value("${address-parsing.gazetteer}") Resource gazetteerFile) throws IOException {
+        try (InputStream in = gazetteerFile.getInputStream()) {
+            this.gazetteer = GazetteerTrie.load(in);
+        }
+    }
+
+    public Address parse(Address address) {
+        ParsedAddress parsed = new ParsedAddress(address);
+
+        parsed.postTown = movePostcode(parsed, parsed.postTown);
+        parsed.county = movePostcode(parsed, parsed.county);
+        parsed.country = movePostcode(parsed, parsed.country);
+
+        parsed.postTown = reslot(parsed, parsed.postTown, PlaceType.TOWN);
+        parsed.county = reslot(parsed, parsed.county, PlaceType.COUNTY);
+        parsed.country = reslot(parsed, parsed.country, PlaceType.COUNTRY);
+
+        if (isBlank(parsed.postCode)) {
+            extractPostcode(parsed);
+        }
+
+        for (int i = parsed.lines.length - 1; i >= 1; i--) {
+            String line = parsed.lines[i];
+            if (!isBlank(line) && parsed.offer(line.trim(), gazetteer.lookup(line))) {
+                parsed.removeLine(i);
+            }
+        }
+
+        return parsed.toAddress();
+    }
+
+    /**
+     * Returns what should stay in a field expected to hold given type of place.
+     */
+    private String reslot(ParsedAddress parsed, String value, PlaceType expectedType) {
+        if (isBlank(value)) {
+            return value;
+        }
+
+        int types = gazetteer.lookup(value);
+        if (types == 0 || expectedType.in(types)) {
+            return value;
+        }
+        return parsed.offer(value.trim(), types) ? null : value;
+    }
+
+    /**
+     * Returns what should stay in a place field after moving a postcode found there.
+     */
+    private static String movePostcode(ParsedAddress parsed, String value) {
+        if (isBlank(parsed.postCode) && PostcodeMatcher.isPostcode(value)) {
+            parsed.postCode = value.trim();
+            return null;
+        }
+        return value;
+    }
+
+    private static void extractPostcode(ParsedAddress parsed) {
+        for (int i = parsed.lines.length - 1; i >= 0; i--) {
+            String line = parsed.lines[i];
+            int start = PostcodeMatcher.findAtEnd(line);
+            if (start >= 0) {
+                parsed.postCode = stripEnd(line.substring(start), " ,.");
+                String rest = stripEnd(line.substring(0, start), " ,");
+                if (rest.isEmpty()) {
+                    parsed.removeLine(i);
+                } else {
+                    parsed.lines[i] = rest;
+                }
+                return;
+            }
+        }
+    }
+
+    private static final class ParsedAddress {
+
+        final String[] lines;
+        final boolean[] removedLines;
+        String postCode;
+        String postTown;
+        String county;
+        String country;
+
+        ParsedAddress(Address address) {
+            this.lines = new String[] {address.addressLine1, address.addressLine2, address.addressLine3};
+            this.removedLines = new boolean[lines.length];
+            this.postCode = address.postCode;
+            this.postTown = address.postTown;
+            this.county = address.county;
+            this.country = address.country;
+        }
+
+        /**
+         * Puts place into the first empty field matching one of its types.
+         */
+        boolean offer(String place, int types) {
+            if (PlaceType.COUNTRY.in(types) && isBlank(country)) {
+                country = place;
+            } else if (PlaceType.TOWN.in(types) && isBlank(postTown)) {
+                postTown = place;
+            } else if (PlaceType.COUNTY.in(types) && isBlank(county)) {
+                county = place;
+            } else {
+                return false;
+            }
+            return true;
+        }
+
+        void removeLine(int index) {
+            lines[index] = null;
+            removedLines[index] = true;
+        }
+
+        /**
+         * Builds address, moving lines below the removed ones up.
+         */
+        Address toAddress() {
+            String[] compacted = new String[lines.length];
+            int count = 0;
+            for (int i = 0; i < lines.length; i++) {
+                if (!removedLines[i]) {
+                    compacted[count++] = lines[i];
+                }
+            }
+            return new Address(compacted[0], compacted[1], compacted[2], postCode, postTown, county, country);
+        }
+    }
+}
@@ -0,0 +1,179 @@
+package uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.services.address;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.util.Arrays;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Place names of a gazetteer, stored as a trie for matching whole address lines.
+ *
+ * <p>Nodes live in parallel arrays (label, first child, next sibling and place types), so the
+ * trie takes a few bytes per node and no objects per name. Names are matched ignoring case,
+ * dots and apostrophes, and treating runs of spaces, hyphens and commas as a single space, so
+ * "Stoke-on-Trent" matches "STOKE ON TRENT" and "St. Albans" matches "St Albans".
+ * A lookup walks the characters of the text once and does not allocate.
+ */
+public final class GazetteerTrie {
+
+    private static final int ROOT = 0;
+    private static final int NONE = -1;
+    private static final char SPACE = ' ';
+    private static final char SKIPPED = 0;
+
+    private char[] labels = new char[256];
+    private int[] firstChild = new int[256];
+    private int[] nextSibling = new int[256];
+    private byte[] types = new byte[256];
+    private int nodeCount = 1;
+
+    public GazetteerTrie() {
+        firstChild[ROOT] = NONE;
+        nextSibling[ROOT] = NONE;
+    }
+
+    /**
+     * Reads gazetteer with one {@code TYPE|Name} entry per line. Blank lines and lines starting
+     * with {@code #} are skipped.
+     */
+    public static GazetteerTrie load(InputStream gazetteer) throws IOException {
+        GazetteerTrie trie = new GazetteerTrie();
+        BufferedReader reader = new BufferedReader(new InputStreamReader(gazetteer, UTF_8));
+
+        String line;
+        int lineNumber = 0;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            String entry = line.trim();
+            if (entry.isEmpty() || entry.startsWith("#")) {
+                continue;
+            }
+
+            int separator = entry.indexOf('|');
+            if (separator < 0) {
+                throw new IllegalArgumentException("Invalid gazetteer entry at line " + lineNumber + ": " + line);
+            }
+            trie.add(entry.substring(separator + 1), PlaceType.valueOf(entry.substring(0, separator).trim()));
+        }
+
+        trie.trim();
+        return trie;
+    }
+
+    public void add(String name, PlaceType type) {
+        int node = ROOT;
+        boolean pendingSpace = false;
+
+        for (int i = 0; i < name.length(); i++) {
+            char c = fold(name.charAt(i));
+            if (c == SKIPPED) {
+                continue;
+            }
+            if (c == SPACE) {
+                pendingSpace = node != ROOT;
+                continue;
+            }
+            if (pendingSpace) {
+                node = childOrNew(node, SPACE);
+                pendingSpace = false;
+            }
+            node = childOrNew(node, c);
+        }
+
+        if (node == ROOT) {
+            throw new IllegalArgumentException("Place name is empty");
+        }
+        types[node] |= type.bit;
+    }
+
+    /**
+     * Returns types of the place named by the whole text, as a bit set to be read with
+     * {@link PlaceType#in(int)}, or 0 when the text is not a known place name.
+     */
+    public int lookup(CharSequence text) {
+        if (text == null) {
+            return 0;
+        }
+
+        int node = ROOT;
+        boolean pendingSpace = false;
+
+        for (int i = 0; i < text.length(); i++) {
+            char c = fold(text.charAt(i));
+            if (c == SKIPPED) {
+                continue;
+            }
+            if (c == SPACE) {
+                pendingSpace = node != ROOT;
+                continue;
+            }
+            if (pendingSpace) {
+                node = child(node, SPACE);
+                if (node == NONE) {
+                    return 0;
+                }
+                pendingSpace = false;
+            }
+            node = child(node, c);
+            if (node == NONE) {
+                return 0;
+            }
+        }
+
+        return node == ROOT ? 0 : types[node];
+    }
+
+    public int nodeCount() {
+        return nodeCount;
+    }
+
+    private int child(int parent, char label) {
+        int node = firstChild[parent];
+        while (node != NONE && labels[node] != label) {
+            node = nextSibling[node];
+        }
+        return node;
+    }
+
+    private int childOrNew(int parent, char label) {
+        int existing = child(parent, label);
+        if (existing != NONE) {
+            return existing;
+        }
+
+        if (nodeCount == labels.length) {
+            grow(labels.length * 2);
+        }
+
+        int node = nodeCount++;
+        labels[node] = label;
+        firstChild[node] = NONE;
+        nextSibling[node] = firstChild[parent];
+        firstChild[parent] = node;
+        return node;
+    }
+
+    private void trim() {
+        grow(nodeCount);
+    }
+
+    private void grow(int capacity) {
+        labels = Arrays.copyOf(labels, capacity);
+        firstChild = Arrays.copyOf(firstChild, capacity);
+        nextSibling = Arrays.copyOf(nextSibling, capacity);
+        types = Arrays.copyOf(types, capacity);
+    }
+
+    private static char fold(char c) {
+        if (c == '.' || c == '\'') {
+            return SKIPPED;
+        }
+        if (c == '-' || c == ',' || Character.isWhitespace(c)) {
+            return SPACE;
+        }
+        return Character.toUpperCase(c);
+    }
+}
@@ -0,0 +1,16 @@
+package uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.services.address;
+
+public enum PlaceType {
+    TOWN,
+    COUNTY,
+    COUNTRY;
+
+    final int bit = 1 << ordinal();
+
+    /**
+     * Tells whether a set of types returned by {@link GazetteerTrie#lookup(CharSequence)} includes this type.
+     */
+    public boolean in(int types) {
+        return (types & bit) != 0;
+    }
+}
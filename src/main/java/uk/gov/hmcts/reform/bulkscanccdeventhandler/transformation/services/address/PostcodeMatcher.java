@@ -0,0 +1,105 @@
+package uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.services.address;
+
+/**
+ * Finds UK postcodes by walking characters, without regular expressions.
+ *
+ * <p>A postcode is an outward code of 2 to 4 characters (A9, A99, AA9, AA99, A9A or AA9A),
+ * an optional space and an inward code of a digit followed by two letters.
+ */
+public final class PostcodeMatcher {
+
+    /**
+     * Returns index at which a postcode ending the text starts, or -1 if the text does not end
+     * with a postcode. Trailing spaces, commas and dots are ignored.
+     */
+    public static int findAtEnd(CharSequence text) {
+        if (text == null) {
+            return -1;
+        }
+
+        int end = text.length();
+        while (end > 0 && isTrailingSeparator(text.charAt(end - 1))) {
+            end--;
+        }
+
+        if (end < 5
+            || !isDigit(text.charAt(end - 3))
+            || !isLetter(text.charAt(end - 2))
+            || !isLetter(text.charAt(end - 1))
+        ) {
+            return -1;
+        }
+
+        int outwardEnd = end - 3;
+        while (outwardEnd > 0 && text.charAt(outwardEnd - 1) == ' ') {
+            outwardEnd--;
+        }
+
+        for (int length = 4; length >= 2; length--) {
+            int start = outwardEnd - length;
+            if (start >= 0
+                && (start == 0 || !Character.isLetterOrDigit(text.charAt(start - 1)))
+                && isOutwardCode(text, start, length)
+            ) {
+                return start;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Tells whether the whole text is a postcode.
+     */
+    public static boolean isPostcode(CharSequence text) {
+        if (text == null) {
+            return false;
+        }
+
+        int start = 0;
+        while (start < text.length() && text.charAt(start) == ' ') {
+            start++;
+        }
+        return findAtEnd(text) == start && start < text.length();
+    }
+
+    private static boolean isOutwardCode(CharSequence text, int start, int length) {
+        if (!isLetter(text.charAt(start))) {
+            return false;
+        }
+
+        char second = text.charAt(start + 1);
+        switch (length) {
+            case 2:
+                // A9
+                return isDigit(second);
+            case 3:
+                // A99, AA9, A9A
+                char third = text.charAt(start + 2);
+                return (isDigit(second) && (isDigit(third) || isLetter(third)))
+                    || (isLetter(second) && isDigit(third));
+            case 4:
+                // AA99, AA9A
+                return isLetter(second)
+                    && isDigit(text.charAt(start + 2))
+                    && (isDigit(text.charAt(start + 3)) || isLetter(text.charAt(start + 3)));
+            default:
+                return false;
+        }
+    }
+
+    private static boolean isLetter(char c) {
+        return (c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z');
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean isTrailingSeparator(char c) {
+        return c == ' ' || c == ',' || c == '.';
+    }
+
+    private PostcodeMatcher() {
+        // util class
+    }
+}
@@ -0,0 +1,72 @@
+package uk.gov.hmcts.reform.bulkscanccdeventhandler.common;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+public class AsyncRequestExecutorsTest {
+
+    private final AsyncRequestExecutors executors = new AsyncRequestExecutors(1, 1, 1, 1);
+
+    @AfterEach
+    public void tearDown() {
+        executors.shutdown();
+    }
+
+    @Test
+    public void should_reject_task_when_compute_queue_is_full() throws Exception {
+        // given
+        CountDownLatch release = new CountDownLatch(1);
+        fillQueue(executors.compute(), release);
+
+        // when
+        Throwable exc = catchThrowable(() -> executors.compute().execute(() -> { }));
+
+        // then
+        assertThat(exc)
+            .isInstanceOf(RequestQueueFullException.class)
+            .hasMessage("Compute request queue is full (1 tasks waiting)");
+
+        release.countDown();
+    }
+
+    @Test
+    public void should_fail_dependent_future_when_s2s_queue_is_full() throws Exception {
+        // given
+        CountDownLatch release = new CountDownLatch(1);
+        fillQueue(executors.s2s(), release);
+
+        // when
+        CompletableFuture<String> result = CompletableFuture
+            .completedFuture("token")
+            .thenApplyAsync(token -> "service", executors.s2s());
+
+        // then
+        Throwable exc = catchThrowable(result::join);
+        assertThat(exc.getCause()).isInstanceOf(RequestQueueFullException.class);
+
+        release.countDown();
+    }
+
+    // occupies the only thread and the only place in the queue of the executor
+    private static void fillQueue(Executor executor, CountDownLatch release) throws InterruptedException {
+        CountDownLatch threadBlocked = new CountDownLatch(1);
+        executor.execute(() -> {
+            threadBlocked.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException exc) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        threadBlocked.await(5, TimeUnit.SECONDS);
+        executor.execute(() -> { });
+    }
+}
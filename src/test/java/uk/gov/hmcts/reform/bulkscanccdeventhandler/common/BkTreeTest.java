@@ -0,0 +1,70 @@
+package uk.gov.hmcts.reform.bulkscanccdeventhandler.common;
+
+import org.junit.jupiter.api.Test;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class BkTreeTest {
+
+    private final BkTree tree = BkTree.of(asList(
+        "first_name",
+        "last_name",
+        "date_of_birth",
+        "post_code",
+        "post_town",
+        "county",
+        "country",
+        "email"
+    ));
+
+    @Test
+    public void should_find_nearest_word_within_distance() {
+        // when
+        // then
+        assertThat(tree.findNearest("frist_name", 2)).contains("first_name");
+        assertThat(tree.findNearest("post code", 2)).contains("post_code");
+        assertThat(tree.findNearest("date_of_brith", 2)).contains("date_of_birth");
+        assertThat(tree.findNearest("e-mail", 1)).contains("email");
+    }
+
+    @Test
+    public void should_return_exact_match() {
+        // when
+        // then
+        assertThat(tree.findNearest("county", 2)).contains("county");
+    }
+
+    @Test
+    public void should_not_find_word_beyond_distance() {
+        // when
+        // then
+        assertThat(tree.findNearest("frist_name", 1)).isEmpty();
+        assertThat(tree.findNearest("signature", 2)).isEmpty();
+    }
+
+    @Test
+    public void should_not_pick_between_equally_near_words() {
+        // when
+        // then
+        assertThat(tree.findNearest("post_toce", 2)).isEmpty();
+        assertThat(tree.findNearest("countey", 2)).isEmpty();
+    }
+
+    @Test
+    public void should_find_nothing_in_empty_tree() {
+        // when
+        // then
+        assertThat(BkTree.of(emptyList()).findNearest("email", 2)).isEmpty();
+    }
+
+    @Test
+    public void should_calculate_levenshtein_distance() {
+        // when
+        // then
+        assertThat(BkTree.distance("kitten", "sitting")).isEqualTo(3);
+        assertThat(BkTree.distance("", "abc")).isEqualTo(3);
+        assertThat(BkTree.distance("abc", "abc")).isZero();
+    }
+}
@@ -0,0 +1,124 @@
+package uk.gov.hmcts.reform.bulkscanccdeventhandler.common;
+
+import com.google.common.collect.ImmutableMap;
+import org.junit.jupiter.api.Test;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.ocrvalidation.model.in.OcrDataField;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class OcrFieldGroupsTest {
+
+    private final OcrFieldGroups groups = OcrFieldGroups.builder(3)
+        .group("applicant", "first_name", "last_name")
+        .group("child", "first_name", "date_of_birth")
+        .build();
+
+    @Test
+    public void should_split_fields_into_groups_ordered_by_number() {
+        // when
+        GroupedOcrData result = groups.parse(asList(
+            new OcrDataField("applicant_2_first_name", "Jane"),
+            new OcrDataField("child_1_date_of_birth", "01/02/2015"),
+            new OcrDataField("applicant_1_last_name", "Smith"),
+            new OcrDataField("applicant_1_first_name", "John")
+        ));
+
+        // then
+        assertThat(result.getGroups("applicant")).containsExactly(
+            ImmutableMap.of("first_name", "John", "last_name", "Smith"),
+            person("Jane", null)
+        );
+        assertThat(result.getGroups("child")).containsExactly(child(null, "01/02/2015"));
+        assertThat(result.ignoredFieldCount).isZero();
+    }
+
+    @Test
+    public void should_skip_missing_group_numbers() {
+        // when
+        GroupedOcrData result = groups.parse(asList(
+            new OcrDataField("applicant_3_first_name", "Jane"),
+            new OcrDataField("applicant_1_first_name", "John")
+        ));
+
+        // then
+        assertThat(result.getGroups("applicant")).containsExactly(person("John", null), person("Jane", null));
+        assertThat(result.getGroups("child")).isEmpty();
+    }
+
+    @Test
+    public void should_keep_first_value_of_repeated_field() {
+        // when
+        GroupedOcrData result = groups.parse(asList(
+            new OcrDataField("applicant_1_first_name", "John"),
+            new OcrDataField("applicant_1_first_name", "Jack")
+        ));
+
+        // then
+        assertThat(result.getGroups("applicant")).containsExactly(person("John", null));
+    }
+
+    @Test
+    public void should_ignore_fields_which_do_not_belong_to_a_group() {
+        // when
+        GroupedOcrData result = groups.parse(asList(
+            new OcrDataField("first_name", "John"),
+            new OcrDataField("applicant_first_name", "John"),
+            new OcrDataField("applicant_1_email", "john@example.com"),
+            new OcrDataField("applicant_1_first_name_2", "John"),
+            new OcrDataField("applicant_x_first_name", "John"),
+            new OcrDataField("applicant_1", "John"),
+            new OcrDataField("applicants_1_first_name", "John"),
+            new OcrDataField(null, "John")
+        ));
+
+        // then
+        assertThat(result.getGroups("applicant")).isEmpty();
+        assertThat(result.ignoredFieldCount).isZero();
+    }
+
+    @Test
+    public void should_count_fields_of_groups_above_the_limit() {
+        // when
+        GroupedOcrData result = groups.parse(asList(
+            new OcrDataField("applicant_3_first_name", "John"),
+            new OcrDataField("applicant_4_first_name", "Jane"),
+            new OcrDataField("child_0_first_name", "Jack"),
+            new OcrDataField("child_9999999999_first_name", "Jill")
+        ));
+
+        // then
+        assertThat(result.getGroups("applicant")).containsExactly(person("John", null));
+        assertThat(result.getGroups("child")).isEmpty();
+        assertThat(result.ignoredFieldCount).isEqualTo(2);
+    }
+
+    @Test
+    public void should_reject_group_defined_twice() {
+        // given
+        OcrFieldGroups.Builder builder = OcrFieldGroups.builder(3).group("applicant", "first_name");
+
+        // when
+        // then
+        assertThatThrownBy(() -> builder.group("applicant", "last_name"))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static Map<String, String> person(String firstName, String lastName) {
+        Map<String, String> group = new HashMap<>();
+        group.put("first_name", firstName);
+        group.put("last_name", lastName);
+        return group;
+    }
+
+    private static Map<String, String> child(String firstName, String dateOfBirth) {
+        Map<String, String> group = new HashMap<>();
+        group.put("first_name", firstName);
+        group.put("date_of_birth", dateOfBirth);
+        return group;
+    }
+}
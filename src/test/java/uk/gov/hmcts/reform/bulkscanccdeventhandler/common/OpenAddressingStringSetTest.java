@@ -0,0 +1,72 @@
+package uk.gov.hmcts.reform.bulkscanccdeventhandler.common;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+public class OpenAddressingStringSetTest {
+
+    @Test
+    public void should_report_whether_value_was_added() {
+        // given
+        OpenAddressingStringSet set = new OpenAddressingStringSet(4);
+
+        // when
+        boolean first = set.add("dcn1");
+        boolean second = set.add(new String("dcn1"));
+
+        // then
+        assertThat(first).isTrue();
+        assertThat(second).isFalse();
+        assertThat(set.size()).isEqualTo(1);
+    }
+
+    @Test
+    public void should_keep_all_values_when_more_are_added_than_expected() {
+        // given
+        OpenAddressingStringSet set = new OpenAddressingStringSet(1);
+
+        // when
+        for (int i = 0; i < 10_000; i++) {
+            set.add("dcn" + i);
+        }
+
+        // then
+        assertThat(set.size()).isEqualTo(10_000);
+        for (int i = 0; i < 10_000; i++) {
+            assertThat(set.contains("dcn" + i)).isTrue();
+        }
+        assertThat(set.contains("dcn10000")).isFalse();
+    }
+
+    @Test
+    public void should_tell_apart_values_with_the_same_hash_code() {
+        // given
+        OpenAddressingStringSet set = new OpenAddressingStringSet(4);
+
+        // when
+        // "Aa" and "BB" have the same hash code
+        boolean first = set.add("Aa");
+        boolean second = set.add("BB");
+
+        // then
+        assertThat(first).isTrue();
+        assertThat(second).isTrue();
+        assertThat(set.contains("Aa")).isTrue();
+        assertThat(set.contains("BB")).isTrue();
+    }
+
+    @Test
+    public void should_reject_null_values() {
+        // given
+        OpenAddressingStringSet set = new OpenAddressingStringSet(4);
+
+        // when
+        Throwable exc = catchThrowable(() -> set.add(null));
+
+        // then
+        assertThat(exc).isInstanceOf(IllegalArgumentException.class);
+        assertThat(set.contains(null)).isFalse();
+    }
+}
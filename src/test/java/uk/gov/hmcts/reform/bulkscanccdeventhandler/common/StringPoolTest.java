@@ -0,0 +1,51 @@
+package uk.gov.hmcts.reform.bulkscanccdeventhandler.common;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class StringPoolTest {
+
+    private final StringPool pool = new StringPool(16, 8);
+
+    @Test
+    public void should_return_same_instance_for_equal_values() {
+        // given
+        String first = pool.canonicalize(new String("Form"));
+
+        // when
+        String second = pool.canonicalize("Form".toCharArray(), 0, 4);
+
+        // then
+        assertThat(second).isSameAs(first);
+    }
+
+    @Test
+    public void should_read_value_from_part_of_the_buffer() {
+        // given
+        char[] buffer = "xxCherishedxx".toCharArray();
+
+        // when
+        String value = pool.canonicalize(buffer, 2, 9);
+
+        // then
+        assertThat(value).isEqualTo("Cherished");
+    }
+
+    @Test
+    public void should_not_pool_values_longer_than_limit() {
+        // given
+        String first = pool.canonicalize(new String("longer than limit"));
+
+        // when
+        String second = pool.canonicalize(new String("longer than limit"));
+
+        // then
+        assertThat(second).isEqualTo(first).isNotSameAs(first);
+    }
+
+    @Test
+    public void should_handle_null() {
+        assertThat(pool.canonicalize(null)).isNull();
+    }
+}
@@ -0,0 +1,111 @@
+package uk.gov.hmcts.reform.bulkscanccdeventhandler.common.json;
+
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.model.in.ExceptionRecord;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.model.in.InputScannedDoc;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+public class IsoLocalDateTimeDeserializerTest {
+
+    private static final int DOCUMENT_COUNT = 1_000;
+
+    private final ObjectMapper standardMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    private final ObjectMapper fastMapper = new ObjectMapper()
+        .registerModule(new JavaTimeModule())
+        .registerModule(
+            new SimpleModule().addDeserializer(LocalDateTime.class, new IsoLocalDateTimeDeserializer())
+        );
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+        "2019-08-01T01:02:03",
+        "2019-08-01T01:02:03Z",
+        "2019-08-01T01:02:03.4",
+        "2019-08-01T01:02:03.456",
+        "2019-08-01T01:02:03.456Z",
+        "2019-08-01T01:02:03.123456789",
+        "2019-08-01T01:02:03.000",
+        "2019-08-01T01:02",
+        "2019-12-31T23:59:59.999999999Z"
+    })
+    public void should_parse_the_same_way_as_standard_deserializer(String value) throws Exception {
+        // given
+        String json = "\"" + value + "\"";
+
+        // when
+        LocalDateTime fast = fastMapper.readValue(json, LocalDateTime.class);
+
+        // then
+        assertThat(fast).isEqualTo(standardMapper.readValue(json, LocalDateTime.class));
+    }
+
+    @Test
+    public void should_parse_array_representation_through_standard_deserializer() throws Exception {
+        assertThat(fastMapper.readValue("[2019,8,1,1,2,3]", LocalDateTime.class))
+            .isEqualTo(LocalDateTime.of(2019, 8, 1, 1, 2, 3));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"2019-02-30T01:02:03", "2019-08-01", "2019-08-01T01:02:03+25:00", "not a date"})
+    public void should_fail_for_invalid_values(String value) {
+        // when
+        Throwable exc = catchThrowable(() -> fastMapper.readValue("\"" + value + "\"", LocalDateTime.class));
+
+        // then
+        assertThat(exc).isInstanceOf(JsonMappingException.class);
+    }
+
+    @Test
+    public void should_deserialize_all_dates_in_large_envelope() throws Exception {
+        // given
+        String json = envelopeJson();
+
+        // when
+        ExceptionRecord er = new ObjectMapper().readValue(json, ExceptionRecord.class);
+
+        // then
+        assertThat(er.deliveryDate).isEqualTo(LocalDateTime.parse("2019-08-01T01:02:03.456"));
+        assertThat(er.openingDate).isEqualTo(LocalDateTime.parse("2019-08-02T02:03:04.567"));
+        assertThat(er.scannedDocuments).hasSize(DOCUMENT_COUNT);
+        for (int i = 0; i < DOCUMENT_COUNT; i++) {
+            InputScannedDoc doc = er.scannedDocuments.get(i);
+            assertThat(doc.scannedDate).isEqualTo(LocalDateTime.parse("2019-08-01T00:" + minutesAndSeconds(i)));
+            assertThat(doc.deliveryDate).isEqualTo(LocalDateTime.parse("2019-08-01T01:02:03.456"));
+        }
+    }
+
+    private static String minutesAndSeconds(int documentIndex) {
+        return String.format("%02d:%02d.%03d", (documentIndex / 60) % 60, documentIndex % 60, documentIndex);
+    }
+
+    private static String envelopeJson() {
+        StringBuilder json = new StringBuilder()
+            .append("{\"id\":\"er-id\",\"delivery_date\":\"2019-08-01T01:02:03.456Z\",")
+            .append("\"opening_date\":\"2019-08-02T02:03:04.567Z\",\"scanned_documents\":[");
+
+        for (int i = 0; i < DOCUMENT_COUNT; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            json
+                .append("{\"control_number\":\"")
+                .append(i)
+                .append("\",\"scanned_date\":\"2019-08-01T00:")
+                .append(minutesAndSeconds(i))
+                .append("Z\",\"delivery_date\":\"2019-08-01T01:02:03.456Z\"}");
+        }
+
+        return json.append("]}").toString();
+    }
+}
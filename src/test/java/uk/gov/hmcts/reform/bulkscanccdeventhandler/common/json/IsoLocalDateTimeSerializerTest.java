@@ -0,0 +1,43 @@
+package uk.gov.hmcts.reform.bulkscanccdeventhandler.common.json;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class IsoLocalDateTimeSerializerTest {
+
+    private final ObjectMapper standardMapper = new ObjectMapper()
+        .registerModule(new JavaTimeModule())
+        .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    private final ObjectMapper fastMapper = new ObjectMapper()
+        .registerModule(new SimpleModule().addSerializer(LocalDateTime.class, new IsoLocalDateTimeSerializer()));
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+        "2019-08-01T01:02:03",
+        "2019-08-01T01:02:03.400",
+        "2019-08-01T01:02:03.456",
+        "2019-08-01T01:02:03.000000001",
+        "2019-08-01T01:02:03.123456789",
+        "0001-01-01T00:00:00",
+        "+12019-08-01T01:02:03"
+    })
+    public void should_write_the_same_value_as_standard_serializer(String value) throws Exception {
+        // given
+        LocalDateTime dateTime = LocalDateTime.parse(value);
+
+        // when
+        String fast = fastMapper.writeValueAsString(dateTime);
+
+        // then
+        assertThat(fast).isEqualTo(standardMapper.writeValueAsString(dateTime));
+    }
+}
@@ -0,0 +1,72 @@
+package uk.gov.hmcts.reform.bulkscanccdeventhandler.common.json;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.Test;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.model.in.ExceptionRecord;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.model.in.InputScannedDoc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class PooledStringDeserializerTest {
+
+    private static final int DOCUMENT_COUNT = 10_000;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    @Test
+    public void should_share_document_type_and_subtype_instances_across_envelope() throws Exception {
+        // when
+        ExceptionRecord er = objectMapper.readValue(envelopeJson(), ExceptionRecord.class);
+
+        // then
+        assertThat(er.scannedDocuments).hasSize(DOCUMENT_COUNT);
+
+        InputScannedDoc first = er.scannedDocuments.get(0);
+        assertThat(first.type).isEqualTo("Form");
+        assertThat(first.subtype).isEqualTo("PERSONAL");
+
+        assertThat(er.scannedDocuments).allSatisfy(doc -> {
+            assertThat(doc.type).isSameAs(first.type);
+            assertThat(doc.subtype).isSameAs(first.subtype);
+        });
+    }
+
+    @Test
+    public void should_share_ocr_field_names_across_records() throws Exception {
+        // when
+        ExceptionRecord er1 = objectMapper.readValue(envelopeJson(), ExceptionRecord.class);
+        ExceptionRecord er2 = objectMapper.readValue(envelopeJson(), ExceptionRecord.class);
+
+        // then
+        assertThat(er2.ocrDataFields.get(0).name).isSameAs(er1.ocrDataFields.get(0).name);
+        assertThat(er2.poBox).isSameAs(er1.poBox);
+        assertThat(er2.jurisdiction).isSameAs(er1.jurisdiction);
+    }
+
+    private static String envelopeJson() {
+        StringBuilder json = new StringBuilder()
+            .append("{\"id\":\"er-id\",\"case_type_id\":\"BULKSCAN_ExceptionRecord\",\"po_box\":\"12625\",")
+            .append("\"po_box_jurisdiction\":\"BULKSCAN\",\"journey_classification\":\"NEW_APPLICATION\",")
+            .append("\"delivery_date\":\"2019-08-01T01:02:03.456\",\"opening_date\":\"2019-08-02T02:03:04.567\",")
+            .append("\"ocr_data_fields\":[{\"name\":\"first_name\",\"value\":\"John\"}],")
+            .append("\"scanned_documents\":[");
+
+        for (int i = 0; i < DOCUMENT_COUNT; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            json
+                .append("{\"type\":\"Form\",\"subtype\":\"PERSONAL\",\"url\":\"http://dm-store/documents/")
+                .append(i)
+                .append("\",\"control_number\":\"")
+                .append(1_000_000 + i)
+                .append("\",\"file_name\":\"")
+                .append(i)
+                .append(".pdf\",\"scanned_date\":\"2019-08-01T00:01:02.345\",")
+                .append("\"delivery_date\":\"2019-08-01T01:02:03.456\"}");
+        }
+
+        return json.append("]}").toString();
+    }
+}
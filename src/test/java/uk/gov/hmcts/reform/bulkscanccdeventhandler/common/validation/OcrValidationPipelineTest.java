@@ -0,0 +1,263 @@
+package uk.gov.hmcts.reform.bulkscanccdeventhandler.common.validation;
+
+import org.junit.jupiter.api.Test;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.ocrvalidation.model.in.OcrDataField;
+
+import java.util.Optional;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static org.apache.commons.lang.StringUtils.isBlank;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static uk.gov.hmcts.reform.bulkscanccdeventhandler.common.OcrFieldNames.FIRST_NAME;
+import static uk.gov.hmcts.reform.bulkscanccdeventhandler.common.OcrFieldNames.LAST_NAME;
+import static uk.gov.hmcts.reform.bulkscanccdeventhandler.common.OcrFieldNames.POST_CODE;
+import static uk.gov.hmcts.reform.bulkscanccdeventhandler.common.validation.OcrValidationRules.MissingWhen.ABSENT;
+import static uk.gov.hmcts.reform.bulkscanccdeventhandler.common.validation.OcrValidationRules.MissingWhen.BLANK;
+import static uk.gov.hmcts.reform.bulkscanccdeventhandler.common.validation.OcrValidationRules.MissingWhen.EMPTY;
+
+public class OcrValidationPipelineTest {
+
+    private final OcrValidationPipeline pipeline = new OcrValidationPipeline();
+
+    private final OcrValidationRules rules = OcrValidationRules.builder()
+        .rejectDuplicateFields("duplicates: %s")
+        .requireField("a", BLANK, "%s required")
+        .requireField("b", ABSENT, "%s required")
+        .expectField("c", EMPTY, "%s expected")
+        .checkFormat("a", value -> value.startsWith("x"), "invalid a")
+        .captureField("d")
+        .build();
+
+    @Test
+    public void should_evaluate_all_rules_in_declaration_order() {
+        // when
+        ValidatedOcrData result = pipeline.validate(
+            asList(
+                new OcrDataField("a", "y"),
+                new OcrDataField("c", ""),
+                new OcrDataField("unknown", "value")
+            ),
+            rules
+        );
+
+        // then
+        assertThat(result.errors).containsExactly("b required", "invalid a");
+        assertThat(result.warnings).containsExactly("c expected");
+    }
+
+    @Test
+    public void should_treat_blank_value_as_missing_when_configured() {
+        // when
+        ValidatedOcrData result = pipeline.validate(
+            asList(
+                new OcrDataField("a", " "),
+                new OcrDataField("b", null),
+                new OcrDataField("c", "value")
+            ),
+            rules
+        );
+
+        // then
+        assertThat(result.errors).containsExactly("a required", "invalid a");
+        assertThat(result.warnings).isEmpty();
+    }
+
+    @Test
+    public void should_only_report_duplicates_when_field_names_repeat() {
+        // when
+        ValidatedOcrData result = pipeline.validate(
+            asList(
+                new OcrDataField("c", "1"),
+                new OcrDataField("d", "1"),
+                new OcrDataField("c", "2"),
+                new OcrDataField("d", "2"),
+                new OcrDataField("c", "3")
+            ),
+            rules
+        );
+
+        // then
+        assertThat(result.errors).containsExactly("duplicates: c,d");
+        assertThat(result.warnings).isEmpty();
+    }
+
+    @Test
+    public void should_expose_values_of_first_occurrence_of_known_fields() {
+        // given
+        OcrValidationRules captureOnly = OcrValidationRules.builder().captureField("a").captureField("d").build();
+
+        // when
+        ValidatedOcrData result = pipeline.validate(
+            asList(
+                new OcrDataField("a", "first"),
+                new OcrDataField("a", "second")
+            ),
+            captureOnly
+        );
+
+        // then
+        assertThat(result.errors).isEmpty();
+        assertThat(result.getValue("a")).isEqualTo("first");
+        assertThat(result.getValue("d")).isNull();
+    }
+
+    @Test
+    public void should_reject_lookup_of_field_not_covered_by_rules() {
+        // given
+        ValidatedOcrData result = pipeline.validate(asList(new OcrDataField("other", "value")), rules);
+
+        // when
+        Throwable exc = catchThrowable(() -> result.getValue("other"));
+
+        // then
+        assertThat(exc).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void should_read_misspelled_field_names_as_nearest_known_names_when_fuzzy_matching_is_enabled() {
+        // given
+        OcrValidationPipeline fuzzyPipeline =
+            new OcrValidationPipeline(Optional.of(new OcrFieldNameMatcher(2)));
+        OcrValidationRules personRules = OcrValidationRules.builder()
+            .requireField(FIRST_NAME, ABSENT, "%s required")
+            .requireField(LAST_NAME, ABSENT, "%s required")
+            .captureField(POST_CODE)
+            .build();
+
+        // when
+        ValidatedOcrData result = fuzzyPipeline.validate(
+            asList(
+                new OcrDataField("frist_name", "John"),
+                new OcrDataField(LAST_NAME, "Smith"),
+                new OcrDataField("post code", "SW1A 1AA"),
+                new OcrDataField("signature", "JS")
+            ),
+            personRules
+        );
+
+        // then
+        assertThat(result.errors).isEmpty();
+        assertThat(result.warnings).containsExactly(
+            "OCR field 'frist_name' was read as 'first_name'",
+            "OCR field 'post code' was read as 'post_code'"
+        );
+        assertThat(result.getValue(FIRST_NAME)).isEqualTo("John");
+        assertThat(result.getValue(POST_CODE)).isEqualTo("SW1A 1AA");
+    }
+
+    @Test
+    public void should_prefer_exact_field_name_over_misspelled_one_regardless_of_order() {
+        // given
+        OcrValidationPipeline fuzzyPipeline =
+            new OcrValidationPipeline(Optional.of(new OcrFieldNameMatcher(2)));
+        OcrValidationRules personRules = OcrValidationRules.builder()
+            .requireField(FIRST_NAME, ABSENT, "%s required")
+            .build();
+
+        // when
+        ValidatedOcrData result = fuzzyPipeline.validate(
+            asList(
+                new OcrDataField("frist_name", "Jhon"),
+                new OcrDataField(FIRST_NAME, "John")
+            ),
+            personRules
+        );
+
+        // then
+        assertThat(result.errors).isEmpty();
+        assertThat(result.warnings).isEmpty();
+        assertThat(result.getValue(FIRST_NAME)).isEqualTo("John");
+    }
+
+    @Test
+    public void should_not_remap_field_names_when_fuzzy_matching_is_disabled() {
+        // when
+        ValidatedOcrData result = pipeline.validate(
+            asList(
+                new OcrDataField("aa", "x"),
+                new OcrDataField("b", "value")
+            ),
+            rules
+        );
+
+        // then
+        assertThat(result.errors).containsExactly("a required");
+        assertThat(result.warnings).containsExactly("c expected");
+    }
+
+    @Test
+    public void should_run_cross_field_rules_after_rules_on_fields_they_depend_on() {
+        // given
+        OcrValidationRules crossFieldRules = OcrValidationRules.builder()
+            // declared first, but depends on 'b' which the rule below reports on
+            .requireThat("c", singletonList("b"), fields -> !fields.get("b").equals(fields.get("c")), "c equals b")
+            .requireThat("b", singletonList("a"), fields -> fields.get("a").length() < 3, "a too long for b")
+            .build();
+
+        // when
+        ValidatedOcrData result = pipeline.validate(
+            asList(
+                new OcrDataField("a", "aaaa"),
+                new OcrDataField("b", "x"),
+                new OcrDataField("c", "x")
+            ),
+            crossFieldRules
+        );
+
+        // then
+        assertThat(result.errors).containsExactly("a too long for b");
+    }
+
+    @Test
+    public void should_skip_cross_field_rules_depending_on_failed_fields() {
+        // given
+        OcrValidationRules crossFieldRules = OcrValidationRules.builder()
+            .requireField("a", BLANK, "%s required")
+            .checkFormat("b", value -> value.startsWith("x"), "invalid b")
+            .requireThat("c", singletonList("a"), fields -> !isBlank(fields.get("c")), "c required with a")
+            .requireThat("d", singletonList("b"), fields -> !isBlank(fields.get("d")), "d required with b")
+            .expectThat("e", emptyList(), fields -> !isBlank(fields.get("e")), "e expected")
+            .build();
+
+        // when
+        ValidatedOcrData result = pipeline.validate(singletonList(new OcrDataField("b", "y")), crossFieldRules);
+
+        // then
+        assertThat(result.errors).containsExactly("a required", "invalid b");
+        assertThat(result.warnings).containsExactly("e expected");
+    }
+
+    @Test
+    public void should_reject_cross_field_rules_depending_on_each_other() {
+        // given
+        OcrValidationRules.Builder builder = OcrValidationRules.builder()
+            .requireThat("a", singletonList("b"), fields -> true, "a rule")
+            .requireThat("b", singletonList("a"), fields -> true, "b rule");
+
+        // when
+        Throwable exc = catchThrowable(builder::build);
+
+        // then
+        assertThat(exc)
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessage("Cross-field rules depend on each other: 'a rule', 'b rule'");
+    }
+
+    @Test
+    public void should_reject_reading_field_cross_field_rule_does_not_depend_on() {
+        // given
+        OcrValidationRules crossFieldRules = OcrValidationRules.builder()
+            .captureField("b")
+            .requireThat("a", emptyList(), fields -> fields.get("b") == null, "a rule")
+            .build();
+
+        // when
+        Throwable exc = catchThrowable(() -> pipeline.validate(emptyList(), crossFieldRules));
+
+        // then
+        assertThat(exc).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,106 @@
+package uk.gov.hmcts.reform.bulkscanccdeventhandler.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.Test;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.ocrvalidation.model.in.OcrDataField;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.ocrvalidation.model.out.OcrValidationResponse;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.model.in.ExceptionRecord;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.model.out.Address;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.model.out.CaseCreationDetails;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.model.out.Item;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.model.out.SampleCase;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.model.out.ScannedDocument;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.model.out.SuccessfulTransformationResponse;
+
+import java.time.LocalDateTime;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static uk.gov.hmcts.reform.bulkscanccdeventhandler.ocrvalidation.model.out.ValidationStatus.WARNINGS;
+
+public class JacksonConfigurationTest {
+
+    private final ObjectMapper reflectiveMapper = objectMapper();
+
+    private final ObjectMapper afterburnerMapper =
+        objectMapper().registerModule(new JacksonConfiguration().afterburnerModule());
+
+    @Test
+    public void should_serialize_transformation_response_the_same_way_with_afterburner() throws Exception {
+        // given
+        SuccessfulTransformationResponse response = new SuccessfulTransformationResponse(
+            new CaseCreationDetails(
+                "case-type-id",
+                "event-id",
+                new SampleCase(
+                    "legacy-id",
+                    "first-name",
+                    "last-name",
+                    "date-of-birth",
+                    "contact-number",
+                    null,
+                    new Address("line-1", "line-2", null, "post-code", "post-town", "county", "country"),
+                    singletonList(new Item<>(new ScannedDocument(
+                        "type",
+                        "subtype",
+                        "url",
+                        "dcn",
+                        "file-name",
+                        LocalDateTime.parse("2019-08-01T01:02:03.456"),
+                        LocalDateTime.parse("2019-08-01T01:02:03"),
+                        "ref"
+                    )))
+                )
+            ),
+            asList("warning-1", "warning-2")
+        );
+
+        // when
+        String json = afterburnerMapper.writeValueAsString(response);
+
+        // then
+        assertThat(json).isEqualTo(reflectiveMapper.writeValueAsString(response));
+    }
+
+    @Test
+    public void should_serialize_ocr_validation_response_the_same_way_with_afterburner() throws Exception {
+        // given
+        OcrValidationResponse response = new OcrValidationResponse(singletonList("w"), asList("e1", "e2"), WARNINGS);
+
+        // when
+        String json = afterburnerMapper.writeValueAsString(response);
+
+        // then
+        assertThat(json).isEqualTo(reflectiveMapper.writeValueAsString(response));
+    }
+
+    @Test
+    public void should_round_trip_exception_record_with_afterburner() throws Exception {
+        // given
+        String json = "{\"id\":\"er-id\",\"case_type_id\":\"case-type\",\"po_box\":\"12625\","
+            + "\"po_box_jurisdiction\":\"BULKSCAN\",\"journey_classification\":\"NEW_APPLICATION\","
+            + "\"delivery_date\":\"2019-08-01T01:02:03.456Z\",\"opening_date\":\"2019-08-02T02:03:04.567Z\","
+            + "\"scanned_documents\":[{\"type\":\"Form\",\"subtype\":\"PERSONAL\",\"url\":\"url\","
+            + "\"control_number\":\"dcn\",\"file_name\":\"file.pdf\","
+            + "\"scanned_date\":\"2019-08-01T00:01:02.345Z\",\"delivery_date\":\"2019-08-01T01:02:03.456Z\"}],"
+            + "\"ocr_data_fields\":[{\"name\":\"first_name\",\"value\":\"John\"}]}";
+
+        // when
+        ExceptionRecord withAfterburner = afterburnerMapper.readValue(json, ExceptionRecord.class);
+        ExceptionRecord withReflection = reflectiveMapper.readValue(json, ExceptionRecord.class);
+
+        // then
+        assertThat(withAfterburner).isEqualToComparingFieldByFieldRecursively(withReflection);
+        assertThat(afterburnerMapper.writeValueAsString(withAfterburner.ocrDataFields.get(0)))
+            .isEqualTo(reflectiveMapper.writeValueAsString(new OcrDataField("first_name", "John")));
+    }
+
+    private static ObjectMapper objectMapper() {
+        return new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    }
+}
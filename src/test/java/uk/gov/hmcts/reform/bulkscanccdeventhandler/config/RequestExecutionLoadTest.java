@@ -0,0 +1,283 @@
+package uk.gov.hmcts.reform.bulkscanccdeventhandler.config;
+
+import com.google.common.base.Charsets;
+import com.google.common.io.ByteStreams;
+import com.google.common.io.Resources;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.Application;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.net.HttpURLConnection;
+import java.net.InetSocketAddress;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Compares the Tomcat thread pool with virtual threads when every request waits on a slow S2S API.
+ *
+ * <p>Run with {@code ./gradlew loadTest -PloadTestJavaHome=<JDK 21 or later>}. The application is started
+ * twice in this JVM, once in each mode, and loaded with the same number of concurrent clients.
+ * Throughput, peak number of platform threads and resident memory used per concurrent request are logged for both.
+ *
+ * <p>The clients and the S2S stub share the JVM with the application, so their threads are started up front
+ * and counted in a baseline taken before the application starts, which is subtracted from the peak.
+ * Memory is read as resident set size from {@code /proc/self/status}, so that thread stacks and other
+ * native memory are included, and the test only runs on Linux.
+ */
+@EnabledIfSystemProperty(named = "loadTest", matches = "true")
+public class RequestExecutionLoadTest {
+
+    private static final Logger log = LoggerFactory.getLogger(RequestExecutionLoadTest.class);
+
+    private static final Path PROCESS_STATUS = Paths.get("/proc/self/status");
+
+    private static final int CONCURRENT_REQUESTS = Integer.getInteger("loadTest.concurrentRequests", 1000);
+    private static final int REQUESTS_PER_CLIENT = Integer.getInteger("loadTest.requestsPerClient", 5);
+    private static final int S2S_DELAY_MILLIS = Integer.getInteger("loadTest.s2sDelayMillis", 200);
+
+    private HttpServer s2sStub;
+    private ThreadPoolExecutor s2sStubThreads;
+    private ThreadPoolExecutor clients;
+    private ScheduledExecutorService sampler;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        s2sStubThreads = fixedThreadPool(CONCURRENT_REQUESTS);
+        s2sStub = HttpServer.create(new InetSocketAddress("localhost", 0), CONCURRENT_REQUESTS);
+        s2sStub.createContext("/details", exchange -> {
+            sleep(S2S_DELAY_MILLIS);
+            byte[] body = "bulk_scan_processor".getBytes(UTF_8);
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        s2sStub.setExecutor(s2sStubThreads);
+        s2sStub.start();
+
+        clients = fixedThreadPool(CONCURRENT_REQUESTS);
+        sampler = Executors.newSingleThreadScheduledExecutor();
+        // starts the sampler thread, so that it is counted in the baseline
+        sampler.submit(() -> { });
+    }
+
+    @AfterEach
+    public void tearDown() {
+        sampler.shutdownNow();
+        clients.shutdownNow();
+        s2sStub.stop(0);
+        s2sStubThreads.shutdownNow();
+    }
+
+    @Test
+    public void should_serve_more_requests_waiting_on_s2s_with_virtual_threads_than_with_thread_pool()
+        throws Exception {
+        assumeTrue(virtualThreadsSupported(), "Virtual threads need Java 21 or later");
+        assumeTrue(Files.isReadable(PROCESS_STATUS), "Resident set size is read from /proc, which needs Linux");
+
+        // given
+        String requestBody =
+            Resources.toString(Resources.getResource("ocr-data/valid/valid-ocr-data.json"), Charsets.UTF_8);
+
+        // when
+        LoadResult threadPool = runLoad(false, requestBody);
+        LoadResult virtualThreads = runLoad(true, requestBody);
+
+        // then
+        log.info("Tomcat thread pool: {}", threadPool);
+        log.info("Virtual threads:    {}", virtualThreads);
+
+        assertThat(threadPool.failedRequests).isZero();
+        assertThat(virtualThreads.failedRequests).isZero();
+        assertThat(virtualThreads.requestsPerSecond).isGreaterThan(threadPool.requestsPerSecond);
+    }
+
+    private LoadResult runLoad(boolean virtualThreads, String requestBody) throws Exception {
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        // clients, S2S stub and sampler threads are all running by now, so only the application adds to this
+        int baselineThreads = threads.getThreadCount();
+
+        try (ConfigurableApplicationContext context = startApplication(virtualThreads)) {
+            URL url = new URL(
+                "http://localhost:" + context.getEnvironment().getProperty("local.server.port")
+                    + "/forms/PERSONAL/validate-ocr"
+            );
+
+            // warm up, so that class loading and JIT compilation are left out of the measurement
+            sendConcurrently(url, requestBody, 1);
+
+            System.gc();
+            long rssBefore = residentSetSize();
+            threads.resetPeakThreadCount();
+
+            AtomicLong peakRss = new AtomicLong(rssBefore);
+            Future<?> sampling = sampler.scheduleAtFixedRate(
+                () -> peakRss.accumulateAndGet(residentSetSize(), Math::max),
+                0,
+                10,
+                TimeUnit.MILLISECONDS
+            );
+
+            long start = System.nanoTime();
+            long failedRequests = sendConcurrently(url, requestBody, REQUESTS_PER_CLIENT);
+            long elapsedNanos = System.nanoTime() - start;
+            sampling.cancel(false);
+
+            return new LoadResult(
+                CONCURRENT_REQUESTS * REQUESTS_PER_CLIENT * 1e9 / elapsedNanos,
+                threads.getPeakThreadCount() - baselineThreads,
+                (peakRss.get() - rssBefore) / CONCURRENT_REQUESTS,
+                failedRequests
+            );
+        }
+    }
+
+    private ConfigurableApplicationContext startApplication(boolean virtualThreads) {
+        return new SpringApplicationBuilder(Application.class)
+            .properties(
+                "server.port=0",
+                "logging.level.root=WARN",
+                "logging.level." + RequestExecutionLoadTest.class.getName() + "=INFO",
+                "virtual-threads.enabled=" + virtualThreads,
+                "idam.s2s-auth.url=http://localhost:" + s2sStub.getAddress().getPort()
+            )
+            .run();
+    }
+
+    private long sendConcurrently(URL url, String requestBody, int requestsPerClient) throws Exception {
+        List<Future<Integer>> results = new ArrayList<>(CONCURRENT_REQUESTS);
+        for (int i = 0; i < CONCURRENT_REQUESTS; i++) {
+            results.add(clients.submit(() -> {
+                int failed = 0;
+                for (int j = 0; j < requestsPerClient; j++) {
+                    if (send(url, requestBody) != 200) {
+                        failed++;
+                    }
+                }
+                return failed;
+            }));
+        }
+
+        long failed = 0;
+        for (Future<Integer> result : results) {
+            failed += result.get();
+        }
+        return failed;
+    }
+
+    private static int send(URL url, String requestBody) throws IOException {
+        HttpURLConnection connection = (HttpURLConnection) url.openConnection();
+        connection.setRequestMethod("POST");
+        connection.setDoOutput(true);
+        connection.setRequestProperty("Content-Type", "application/json");
+        connection.setRequestProperty("ServiceAuthorization", "load-test-token");
+        try (OutputStream out = connection.getOutputStream()) {
+            out.write(requestBody.getBytes(UTF_8));
+        }
+
+        int status = connection.getResponseCode();
+        try (InputStream in = status < 400 ? connection.getInputStream() : connection.getErrorStream()) {
+            if (in != null) {
+                // drained, so that the connection can be reused
+                ByteStreams.exhaust(in);
+            }
+        }
+        return status;
+    }
+
+    private static long residentSetSize() {
+        try {
+            return Files.readAllLines(PROCESS_STATUS).stream()
+                .filter(line -> line.startsWith("VmRSS:"))
+                // e.g. "VmRSS:    123456 kB"
+                .mapToLong(line -> Long.parseLong(line.replaceAll("\\D", "")) * 1024)
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException("No VmRSS in " + PROCESS_STATUS));
+        } catch (IOException exc) {
+            throw new IllegalStateException("Failed to read " + PROCESS_STATUS, exc);
+        }
+    }
+
+    // all threads are started up front, so that none of them is created while the application is measured
+    private static ThreadPoolExecutor fixedThreadPool(int threads) {
+        ThreadPoolExecutor executor =
+            new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>());
+        executor.prestartAllCoreThreads();
+        return executor;
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException exc) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static boolean virtualThreadsSupported() {
+        try {
+            Thread.class.getMethod("isVirtual");
+            return true;
+        } catch (NoSuchMethodException exc) {
+            return false;
+        }
+    }
+
+    private static class LoadResult {
+
+        final double requestsPerSecond;
+        final int peakServerThreads;
+        final long rssBytesPerConcurrentRequest;
+        final long failedRequests;
+
+        LoadResult(
+            double requestsPerSecond,
+            int peakServerThreads,
+            long rssBytesPerConcurrentRequest,
+            long failedRequests
+        ) {
+            this.requestsPerSecond = requestsPerSecond;
+            this.peakServerThreads = peakServerThreads;
+            this.rssBytesPerConcurrentRequest = rssBytesPerConcurrentRequest;
+            this.failedRequests = failedRequests;
+        }
+
+        @Override
+        public String toString() {
+            return String.format(
+                "%.0f requests/s, %d peak server platform threads, %d RSS bytes per concurrent request, %d failed",
+                requestsPerSecond,
+                peakServerThreads,
+                rssBytesPerConcurrentRequest,
+                failedRequests
+            );
+        }
+    }
+}
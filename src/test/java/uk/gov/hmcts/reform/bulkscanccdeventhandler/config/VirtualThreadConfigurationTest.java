@@ -0,0 +1,46 @@
+package uk.gov.hmcts.reform.bulkscanccdeventhandler.config;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutorService;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assumptions.assumeFalse;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+public class VirtualThreadConfigurationTest {
+
+    @Test
+    public void should_run_tasks_on_virtual_threads() throws Exception {
+        assumeTrue(virtualThreadsSupported());
+
+        // given
+        ExecutorService executor = VirtualThreadConfiguration.newVirtualThreadPerTaskExecutor();
+
+        // when
+        Thread thread = executor.submit(Thread::currentThread).get();
+
+        // then
+        assertThat(Thread.class.getMethod("isVirtual").invoke(thread)).isEqualTo(true);
+        executor.shutdown();
+    }
+
+    @Test
+    public void should_fail_when_jvm_has_no_virtual_threads() {
+        assumeFalse(virtualThreadsSupported());
+
+        assertThatThrownBy(VirtualThreadConfiguration::newVirtualThreadPerTaskExecutor)
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageStartingWith("Virtual threads need Java 21 or later");
+    }
+
+    private static boolean virtualThreadsSupported() {
+        try {
+            Thread.class.getMethod("isVirtual");
+            return true;
+        } catch (NoSuchMethodException exc) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package uk.gov.hmcts.reform.bulkscanccdeventhandler.controllers;
+
+import com.google.common.base.Charsets;
+import com.google.common.io.Resources;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.common.AsyncRequestExecutors;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.common.auth.AuthService;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.common.auth.ForbiddenException;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.ocrvalidation.controllers.AsyncOcrValidationController;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.ocrvalidation.model.FormType;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.ocrvalidation.services.OcrDataValidator;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.ocrvalidation.services.OcrValidationResult;
+
+import java.io.IOException;
+
+import static java.util.Collections.emptyList;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.verifyZeroInteractions;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static uk.gov.hmcts.reform.bulkscanccdeventhandler.ocrvalidation.model.out.ValidationStatus.SUCCESS;
+
+@WebMvcTest(value = AsyncOcrValidationController.class, properties = "async-request-handling.enabled=true")
+@Import(AsyncRequestExecutors.class)
+class AsyncOcrValidationControllerTest {
+
+    @Autowired
+    private transient MockMvc mockMvc;
+
+    @MockBean
+    private OcrDataValidator ocrDataValidator;
+
+    @MockBean
+    private AuthService authService;
+
+    @Test
+    void should_return_success_message_when_ocr_data_is_valid() throws Exception {
+        given(authService.authenticate("testServiceAuthHeader")).willReturn("testServiceName");
+        given(ocrDataValidator.validate(eq(FormType.PERSONAL), any()))
+            .willReturn(new OcrValidationResult(emptyList(), emptyList(), SUCCESS));
+
+        MvcResult result = mockMvc
+            .perform(
+                post("/forms/PERSONAL/validate-ocr")
+                    .contentType(MediaType.APPLICATION_JSON_VALUE)
+                    .header("ServiceAuthorization", "testServiceAuthHeader")
+                    .content(readResource("ocr-data/valid/valid-ocr-data.json"))
+            )
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        mockMvc
+            .perform(asyncDispatch(result))
+            .andExpect(status().isOk())
+            .andExpect(content().json(readResource("ocr-data/response/valid-ocr-response.json")));
+    }
+
+    @Test
+    void should_return_403_status_when_service_is_not_allowed() throws Exception {
+        given(authService.authenticate("test-token")).willReturn("not_allowed_service");
+        willThrow(new ForbiddenException("not allowed"))
+            .given(authService).assertIsAllowedService("not_allowed_service");
+
+        MvcResult result = mockMvc
+            .perform(
+                post("/forms/PERSONAL/validate-ocr")
+                    .contentType(MediaType.APPLICATION_JSON_VALUE)
+                    .header("ServiceAuthorization", "test-token")
+                    .content(readResource("ocr-data/valid/valid-ocr-data.json"))
+            )
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        mockMvc
+            .perform(asyncDispatch(result))
+            .andExpect(status().isForbidden())
+            .andExpect(content().string("S2S token is not authorized to use the service"));
+
+        verifyZeroInteractions(ocrDataValidator);
+    }
+
+    @Test
+    void should_return_bad_request_without_starting_async_processing_when_ocr_fields_are_empty() throws Exception {
+        mockMvc
+            .perform(
+                post("/forms/PERSONAL/validate-ocr")
+                    .contentType(MediaType.APPLICATION_JSON_VALUE)
+                    .header("ServiceAuthorization", "testServiceAuthHeader")
+                    .content(readResource("ocr-data/invalid/empty-ocr-fields.json"))
+            )
+            .andExpect(request().asyncNotStarted())
+            .andExpect(status().isBadRequest());
+
+        verifyZeroInteractions(authService);
+    }
+
+    private String readResource(final String fileName) throws IOException {
+        return Resources.toString(Resources.getResource(fileName), Charsets.UTF_8);
+    }
+}
@@ -0,0 +1,101 @@
+package uk.gov.hmcts.reform.bulkscanccdeventhandler.controllers;
+
+import com.google.common.base.Charsets;
+import com.google.common.io.Resources;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.WebFluxTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Mono;
+import uk.gov.hmcts.reform.authorisation.exceptions.InvalidTokenException;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.common.auth.ForbiddenException;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.common.auth.ReactiveAuthService;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.ocrvalidation.controllers.ReactiveOcrValidationController;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.ocrvalidation.model.FormType;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.ocrvalidation.services.OcrDataValidator;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.ocrvalidation.services.OcrValidationResult;
+
+import java.io.IOException;
+
+import static java.util.Collections.emptyList;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verifyZeroInteractions;
+import static uk.gov.hmcts.reform.bulkscanccdeventhandler.ocrvalidation.model.out.ValidationStatus.SUCCESS;
+
+@WebFluxTest(ReactiveOcrValidationController.class)
+class ReactiveOcrValidationControllerTest {
+
+    @Autowired
+    private WebTestClient webClient;
+
+    @MockBean
+    private OcrDataValidator ocrDataValidator;
+
+    @MockBean
+    private ReactiveAuthService authService;
+
+    @Test
+    void should_return_success_message_when_ocr_data_is_valid() throws Exception {
+        given(authService.authenticateAllowedService("testServiceAuthHeader")).willReturn(Mono.just("testServiceName"));
+        given(ocrDataValidator.validate(eq(FormType.PERSONAL), any()))
+            .willReturn(new OcrValidationResult(emptyList(), emptyList(), SUCCESS));
+
+        sendRequest("PERSONAL", "testServiceAuthHeader", readResource("ocr-data/valid/valid-ocr-data.json"))
+            .expectStatus().isOk()
+            .expectBody().json(readResource("ocr-data/response/valid-ocr-response.json"));
+    }
+
+    @Test
+    void should_return_401_status_when_token_is_invalid() throws Exception {
+        given(authService.authenticateAllowedService("test-token"))
+            .willReturn(Mono.error(new InvalidTokenException("invalid token", null)));
+
+        sendRequest("PERSONAL", "test-token", readResource("ocr-data/valid/valid-ocr-data.json"))
+            .expectStatus().isUnauthorized();
+
+        verifyZeroInteractions(ocrDataValidator);
+    }
+
+    @Test
+    void should_return_403_status_when_service_is_not_allowed() throws Exception {
+        given(authService.authenticateAllowedService("test-token"))
+            .willReturn(Mono.error(new ForbiddenException("not allowed")));
+
+        sendRequest("PERSONAL", "test-token", readResource("ocr-data/valid/valid-ocr-data.json"))
+            .expectStatus().isForbidden()
+            .expectBody(String.class).isEqualTo("S2S token is not authorized to use the service");
+    }
+
+    @Test
+    void should_return_bad_request_when_ocr_fields_list_is_empty() throws Exception {
+        sendRequest("PERSONAL", "testServiceAuthHeader", readResource("ocr-data/invalid/empty-ocr-fields.json"))
+            .expectStatus().isBadRequest();
+    }
+
+    @Test
+    void should_return_not_found_when_form_type_is_invalid() throws Exception {
+        String requestBody = readResource("ocr-data/invalid/invalid-form-type.json");
+
+        sendRequest("invalid-form-type", "testServiceAuthHeader", requestBody)
+            .expectStatus().isNotFound()
+            .expectBody(String.class).isEqualTo("Form type 'invalid-form-type' not found");
+    }
+
+    private WebTestClient.ResponseSpec sendRequest(String formType, String token, String body) {
+        return webClient
+            .post()
+            .uri("/forms/{form-type}/validate-ocr", formType)
+            .header("ServiceAuthorization", token)
+            .contentType(MediaType.APPLICATION_JSON)
+            .syncBody(body)
+            .exchange();
+    }
+
+    private String readResource(final String fileName) throws IOException {
+        return Resources.toString(Resources.getResource(fileName), Charsets.UTF_8);
+    }
+}
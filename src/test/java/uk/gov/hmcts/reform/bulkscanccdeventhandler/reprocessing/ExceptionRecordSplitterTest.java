@@ -0,0 +1,117 @@
+package uk.gov.hmcts.reform.bulkscanccdeventhandler.reprocessing;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+public class ExceptionRecordSplitterTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void should_split_newline_delimited_records() throws Exception {
+        // given
+        Path file = write("{\"id\":\"1\"}\n{\"id\":\"2\",\"nested\":{\"a\":[{}]}}\n\n{\"id\":\"3\"}");
+
+        // when
+        List<String> records = split(new ExceptionRecordSplitter(), file);
+
+        // then
+        assertThat(records).containsExactly(
+            "0:{\"id\":\"1\"}",
+            "11:{\"id\":\"2\",\"nested\":{\"a\":[{}]}}",
+            "43:{\"id\":\"3\"}"
+        );
+    }
+
+    @Test
+    public void should_split_array_of_records() throws Exception {
+        // given
+        Path file = write("[{\"id\":\"1\"},\n {\"id\":\"2\"}]");
+
+        // when
+        List<String> records = split(new ExceptionRecordSplitter(), file);
+
+        // then
+        assertThat(records).containsExactly("1:{\"id\":\"1\"}", "14:{\"id\":\"2\"}");
+    }
+
+    @Test
+    public void should_ignore_braces_in_strings() throws Exception {
+        // given
+        Path file = write("{\"value\":\"}{\\\"}\"}{\"id\":\"2\"}");
+
+        // when
+        List<String> records = split(new ExceptionRecordSplitter(), file);
+
+        // then
+        assertThat(records).containsExactly("0:{\"value\":\"}{\\\"}\"}", "17:{\"id\":\"2\"}");
+    }
+
+    @Test
+    public void should_split_records_crossing_mapping_windows() throws Exception {
+        // given
+        StringBuilder content = new StringBuilder();
+        for (int i = 0; i < 100; i++) {
+            // multi-byte characters must not affect offsets
+            content.append("{\"id\":\"").append(i).append("\",\"name\":\"\u00e9\"}\n"); // e acute
+        }
+        Path file = write(content.toString());
+
+        // when
+        List<String> records = split(new ExceptionRecordSplitter(32), file);
+
+        // then
+        assertThat(records).hasSize(100);
+        assertThat(records.get(0)).isEqualTo("0:{\"id\":\"0\",\"name\":\"\u00e9\"}"); // e acute
+        assertThat(records.get(99)).isEqualTo("2366:{\"id\":\"99\",\"name\":\"\u00e9\"}"); // e acute
+    }
+
+    @Test
+    public void should_pass_truncated_record_at_end_of_file() throws Exception {
+        // given
+        Path file = write("{\"id\":\"1\"}\n{\"id\":");
+
+        // when
+        List<String> records = split(new ExceptionRecordSplitter(), file);
+
+        // then
+        assertThat(records).containsExactly("0:{\"id\":\"1\"}", "11:{\"id\":");
+    }
+
+    @Test
+    public void should_fail_when_record_does_not_fit_mapping_window() throws Exception {
+        // given
+        Path file = write("{\"id\":\"1\"}\n{\"id\":\"a-very-long-identifier\"}\n");
+
+        // when
+        Throwable exc = catchThrowable(() -> split(new ExceptionRecordSplitter(16), file));
+
+        // then
+        assertThat(exc)
+            .isInstanceOf(IOException.class)
+            .hasMessageContaining("Record at offset 11");
+    }
+
+    private Path write(String content) throws IOException {
+        Path file = tempDir.resolve("records.json");
+        Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+        return file;
+    }
+
+    private static List<String> split(ExceptionRecordSplitter splitter, Path file) throws IOException {
+        List<String> records = new ArrayList<>();
+        splitter.split(file, (offset, json) -> records.add(offset + ":" + new String(json, StandardCharsets.UTF_8)));
+        return records;
+    }
+}
@@ -0,0 +1,162 @@
+package uk.gov.hmcts.reform.bulkscanccdeventhandler.reprocessing;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.ocrvalidation.model.FormType;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static uk.gov.hmcts.reform.bulkscanccdeventhandler.reprocessing.ReprocessingOutcome.INVALID_RECORD;
+import static uk.gov.hmcts.reform.bulkscanccdeventhandler.reprocessing.ReprocessingOutcome.SUCCESS;
+import static uk.gov.hmcts.reform.bulkscanccdeventhandler.reprocessing.ReprocessingOutcome.TRANSFORMATION_FAILED;
+import static uk.gov.hmcts.reform.bulkscanccdeventhandler.reprocessing.ReprocessingOutcome.UNEXPECTED_ERROR;
+import static uk.gov.hmcts.reform.bulkscanccdeventhandler.reprocessing.ReprocessingOutcome.VALIDATION_ERRORS;
+import static uk.gov.hmcts.reform.bulkscanccdeventhandler.reprocessing.ReprocessingOutcome.WARNINGS;
+
+public class ReprocessorTest {
+
+    private final ObjectMapper objectMapper = ReprocessingCli.createObjectMapper();
+
+    // mappings of application.yaml
+    private final Reprocessor reprocessor = reprocessor(emptyList());
+
+    private Path inputDir;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        inputDir = Files.createTempDirectory("reprocessing");
+    }
+
+    @AfterEach
+    public void tearDown() throws IOException {
+        try (Stream<Path> paths = Files.walk(inputDir)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Test
+    public void should_process_all_records_in_directory_and_count_outcomes() throws Exception {
+        // given
+        write(
+            "a.json",
+            record("er-1", "bulkscan", ocrField("first_name", "John") + "," + ocrField("last_name", "Smith"))
+                + "\n"
+                + record("er-2", "bulkscan", ocrField("last_name", "Smith"))
+        );
+        write(
+            "nested/b.json",
+            "[" + record("er-3", "unknown", ocrField("first_name", "John") + "," + ocrField("last_name", "Smith"))
+                + ",{\"id\":\"er-4\",\"delivery_date\":\"not-a-date\"}]"
+        );
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        // when
+        Map<ReprocessingOutcome, Long> counts = reprocessor.reprocess(inputDir, output);
+
+        // then
+        assertThat(counts)
+            .containsEntry(SUCCESS, 0L)
+            .containsEntry(WARNINGS, 1L)
+            .containsEntry(VALIDATION_ERRORS, 1L)
+            .containsEntry(TRANSFORMATION_FAILED, 1L)
+            .containsEntry(INVALID_RECORD, 1L)
+            .containsEntry(UNEXPECTED_ERROR, 0L);
+
+        List<JsonNode> results = readLines(output);
+        assertThat(results).hasSize(4);
+
+        JsonNode warnings = find(results, "er-1");
+        assertThat(warnings.get("outcome").asText()).isEqualTo("WARNINGS");
+        assertThat(warnings.get("source").asText()).endsWith("a.json");
+        assertThat(warnings.get("offset").asLong()).isEqualTo(0);
+        assertThat(warnings.at("/response/case_creation_details/case_type_id").asText()).isEqualTo("Bulk_Scanned");
+
+        JsonNode validationErrors = find(results, "er-2");
+        assertThat(validationErrors.get("outcome").asText()).isEqualTo("VALIDATION_ERRORS");
+        assertThat(validationErrors.at("/response/errors/0").asText()).isEqualTo("first_name is missing");
+
+        JsonNode transformationFailure = find(results, "er-3");
+        assertThat(transformationFailure.get("outcome").asText()).isEqualTo("TRANSFORMATION_FAILED");
+        assertThat(transformationFailure.at("/errors/0").asText()).contains("No transformer registered");
+    }
+
+    @Test
+    public void should_replace_configured_mappings_with_given_ones() throws Exception {
+        // given
+        write(
+            "a.json",
+            record("er-1", "bulkscan", ocrField("first_name", "John") + "," + ocrField("last_name", "Smith"))
+                + "\n"
+                + record("er-2", "other", ocrField("first_name", "John") + "," + ocrField("last_name", "Smith"))
+        );
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        // when
+        reprocessor(singletonList("other,*,*,Other_Case,createCase")).reprocess(inputDir, output);
+
+        // then
+        List<JsonNode> results = readLines(output);
+        assertThat(find(results, "er-1").get("outcome").asText()).isEqualTo("TRANSFORMATION_FAILED");
+        assertThat(find(results, "er-2").at("/response/case_creation_details/case_type_id").asText())
+            .isEqualTo("Other_Case");
+    }
+
+    private Reprocessor reprocessor(List<String> mappings) {
+        return new Reprocessor(
+            ReprocessingCli.createValidateAndTransformService(mappings),
+            new ExceptionRecordSplitter(),
+            objectMapper,
+            FormType.PERSONAL,
+            4
+        );
+    }
+
+    private void write(String name, String content) throws IOException {
+        Path file = inputDir.resolve(name);
+        Files.createDirectories(file.getParent());
+        Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String record(String id, String jurisdiction, String ocrDataFields) {
+        return "{\"id\":\"" + id + "\",\"case_type_id\":\"case_type_id\",\"po_box\":\"po_box\","
+            + "\"po_box_jurisdiction\":\"" + jurisdiction + "\",\"journey_classification\":\"NEW_APPLICATION\","
+            + "\"delivery_date\":\"2019-08-01T01:02:03.456Z\",\"opening_date\":\"2019-08-02T02:03:04.567Z\","
+            + "\"scanned_documents\":[],\"ocr_data_fields\":[" + ocrDataFields + "]}";
+    }
+
+    private static String ocrField(String name, String value) {
+        return "{\"name\":\"" + name + "\",\"value\":\"" + value + "\"}";
+    }
+
+    private List<JsonNode> readLines(ByteArrayOutputStream output) throws IOException {
+        List<JsonNode> results = new ArrayList<>();
+        for (String line : new String(output.toByteArray(), StandardCharsets.UTF_8).split("\n")) {
+            results.add(objectMapper.readTree(line));
+        }
+        return results;
+    }
+
+    private static JsonNode find(List<JsonNode> results, String exceptionRecordId) {
+        return results
+            .stream()
+            .filter(result -> exceptionRecordId.equals(result.path("exception_record_id").asText()))
+            .findFirst()
+            .orElseThrow(() -> new AssertionError("No result for " + exceptionRecordId));
+    }
+}
@@ -0,0 +1,86 @@
+package uk.gov.hmcts.reform.bulkscanccdeventhandler.services;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+import uk.gov.hmcts.reform.authorisation.exceptions.InvalidTokenException;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.common.auth.AuthService;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.common.auth.ForbiddenException;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.common.auth.ReactiveAuthService;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.common.auth.ReactiveAuthTokenValidator;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.common.auth.UnauthenticatedException;
+
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verifyZeroInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class ReactiveAuthServiceTest {
+
+    private static final String SERVICE_HEADER = "some-header";
+
+    @Mock
+    private ReactiveAuthTokenValidator validator;
+
+    private ReactiveAuthService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new ReactiveAuthService(validator, new AuthService(null, singletonList("allowed_service")));
+    }
+
+    @Test
+    void should_fail_with_unauthenticated_exception_when_auth_header_is_blank() {
+        // when
+        Throwable exception = catchThrowable(() -> service.authenticateAllowedService(" ").block());
+
+        // then
+        assertThat(exception)
+            .isInstanceOf(UnauthenticatedException.class)
+            .hasMessage("Provided S2S token is missing or invalid");
+
+        // and
+        verifyZeroInteractions(validator);
+    }
+
+    @Test
+    void should_fail_with_invalid_token_exception_when_token_is_rejected() {
+        // given
+        given(validator.getServiceName(SERVICE_HEADER)).willReturn(Mono.error(new InvalidTokenException("x", null)));
+
+        // when
+        Throwable exception = catchThrowable(() -> service.authenticateAllowedService(SERVICE_HEADER).block());
+
+        // then
+        assertThat(exception).isInstanceOf(InvalidTokenException.class);
+    }
+
+    @Test
+    void should_fail_with_forbidden_exception_when_service_is_not_allowed() {
+        // given
+        given(validator.getServiceName(SERVICE_HEADER)).willReturn(Mono.just("service_not_allowed"));
+
+        // when
+        Throwable exception = catchThrowable(() -> service.authenticateAllowedService(SERVICE_HEADER).block());
+
+        // then
+        assertThat(exception).isInstanceOf(ForbiddenException.class);
+    }
+
+    @Test
+    void should_return_the_service_name_when_service_is_allowed() {
+        // given
+        given(validator.getServiceName(SERVICE_HEADER)).willReturn(Mono.just("allowed_service"));
+
+        // when
+        String serviceName = service.authenticateAllowedService(SERVICE_HEADER).block();
+
+        // then
+        assertThat(serviceName).isEqualTo("allowed_service");
+    }
+}
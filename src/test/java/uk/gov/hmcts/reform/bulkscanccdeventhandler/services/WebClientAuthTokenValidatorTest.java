@@ -0,0 +1,76 @@
+package uk.gov.hmcts.reform.bulkscanccdeventhandler.services;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import uk.gov.hmcts.reform.authorisation.exceptions.InvalidTokenException;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.common.auth.WebClientAuthTokenValidator;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.springframework.http.HttpHeaders.AUTHORIZATION;
+import static org.springframework.http.HttpStatus.OK;
+import static org.springframework.http.HttpStatus.UNAUTHORIZED;
+
+class WebClientAuthTokenValidatorTest {
+
+    private final List<ClientRequest> requests = new ArrayList<>();
+
+    @Test
+    void should_return_service_name_given_by_s2s_api() {
+        // given
+        WebClientAuthTokenValidator validator = validatorResponding(OK, "some_service");
+
+        // when
+        String serviceName = validator.getServiceName("token").block();
+
+        // then
+        assertThat(serviceName).isEqualTo("some_service");
+        assertThat(requests).hasSize(1);
+        assertThat(requests.get(0).url().toString()).isEqualTo("http://s2s/details");
+        assertThat(requests.get(0).headers().getFirst(AUTHORIZATION)).isEqualTo("Bearer token");
+    }
+
+    @Test
+    void should_not_prefix_bearer_token_again() {
+        // given
+        WebClientAuthTokenValidator validator = validatorResponding(OK, "some_service");
+
+        // when
+        validator.getServiceName("Bearer token").block();
+
+        // then
+        assertThat(requests.get(0).headers().getFirst(AUTHORIZATION)).isEqualTo("Bearer token");
+    }
+
+    @Test
+    void should_fail_with_invalid_token_exception_when_s2s_api_rejects_token() {
+        // given
+        WebClientAuthTokenValidator validator = validatorResponding(UNAUTHORIZED, "");
+
+        // when
+        Throwable exception = catchThrowable(() -> validator.getServiceName("token").block());
+
+        // then
+        assertThat(exception).isInstanceOf(InvalidTokenException.class);
+    }
+
+    private WebClientAuthTokenValidator validatorResponding(HttpStatus status, String body) {
+        return new WebClientAuthTokenValidator(
+            WebClient
+                .builder()
+                .baseUrl("http://s2s")
+                .exchangeFunction(request -> {
+                    requests.add(request);
+                    return Mono.just(ClientResponse.create(status).body(body).build());
+                })
+                .build()
+        );
+    }
+}
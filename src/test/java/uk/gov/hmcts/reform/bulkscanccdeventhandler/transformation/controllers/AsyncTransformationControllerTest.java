@@ -0,0 +1,155 @@
+package uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.controllers;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import uk.gov.hmcts.reform.authorisation.exceptions.InvalidTokenException;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.common.AsyncRequestExecutors;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.common.RequestQueueFullException;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.common.auth.AuthService;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.model.in.ResponseSection;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.model.out.SuccessfulTransformationResponse;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.services.ExceptionRecordToCaseTransformer;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.services.InvalidExceptionRecordException;
+
+import java.util.EnumSet;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyZeroInteractions;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(value = AsyncTransformationController.class, properties = "async-request-handling.enabled=true")
+@Import(AsyncRequestExecutors.class)
+public class AsyncTransformationControllerTest {
+
+    @Autowired private MockMvc mockMvc;
+
+    @MockBean private ExceptionRecordToCaseTransformer transformer;
+    @MockBean private AuthService authService;
+
+    @Test
+    void should_return_transformation_result_asynchronously() throws Exception {
+        // given
+        given(authService.authenticate("token")).willReturn("some_service");
+        given(transformer.toCase(any(), any()))
+            .willReturn(new SuccessfulTransformationResponse(null, singletonList("warning-1")));
+
+        // when
+        MvcResult result = sendRequest("token", "warnings");
+
+        // then
+        mockMvc
+            .perform(asyncDispatch(result))
+            .andExpect(status().isOk())
+            .andExpect(content().json("{\"warnings\":[\"warning-1\"]}", true));
+
+        // and
+        then(authService).should().assertIsAllowedService("some_service");
+        then(transformer).should().toCase(any(), eq(EnumSet.of(ResponseSection.WARNINGS)));
+    }
+
+    @Test
+    void should_return_401_and_not_transform_when_token_is_invalid() throws Exception {
+        // given
+        given(authService.authenticate("token")).willThrow(new InvalidTokenException("invalid token", null));
+
+        // when
+        MvcResult result = sendRequest("token", null);
+
+        // then
+        mockMvc
+            .perform(asyncDispatch(result))
+            .andExpect(status().isUnauthorized());
+
+        // and
+        verifyZeroInteractions(transformer);
+    }
+
+    @Test
+    void should_return_422_with_errors_if_transformation_failed() throws Exception {
+        // given
+        given(authService.authenticate("token")).willReturn("some_service");
+        given(transformer.toCase(any(), any()))
+            .willThrow(new InvalidExceptionRecordException(asList("error-1", "error-2")));
+
+        // when
+        MvcResult result = sendRequest("token", null);
+
+        // then
+        mockMvc
+            .perform(asyncDispatch(result))
+            .andExpect(status().isUnprocessableEntity())
+            .andExpect(jsonPath("$.errors[0]").value("error-1"))
+            .andExpect(jsonPath("$.errors[1]").value("error-2"));
+    }
+
+    @Test
+    void should_return_503_if_request_queue_is_full() throws Exception {
+        // given
+        given(authService.authenticate("token")).willReturn("some_service");
+        given(transformer.toCase(any(), any())).willThrow(new RequestQueueFullException("queue is full"));
+
+        // when
+        MvcResult result = sendRequest("token", null);
+
+        // then
+        mockMvc
+            .perform(asyncDispatch(result))
+            .andExpect(status().isServiceUnavailable());
+    }
+
+    @Test
+    void should_refuse_to_start_when_transformation_calls_remote_services() {
+        // given
+        ExceptionRecordToCaseTransformer enrichingTransformer = mock(ExceptionRecordToCaseTransformer.class);
+        given(enrichingTransformer.callsRemoteServices()).willReturn(true);
+
+        // when
+        Throwable exc = catchThrowable(() -> new AsyncTransformationController(
+            mock(AuthService.class),
+            enrichingTransformer,
+            mock(AsyncRequestExecutors.class)
+        ));
+
+        // then
+        assertThat(exc)
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessage(
+                "Asynchronous request handling needs document verification and legacy id lookup to be disabled"
+            );
+    }
+
+    private MvcResult sendRequest(String token, String sections) throws Exception {
+        MockHttpServletRequestBuilder builder = post("/transform-exception-record")
+            .header("ServiceAuthorization", token)
+            .contentType(MediaType.APPLICATION_JSON)
+            .content("{}");
+        if (sections != null) {
+            builder.param("sections", sections);
+        }
+
+        return mockMvc
+            .perform(builder)
+            .andExpect(request().asyncStarted())
+            .andReturn();
+    }
+}
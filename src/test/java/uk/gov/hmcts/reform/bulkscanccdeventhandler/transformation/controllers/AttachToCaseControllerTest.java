@@ -0,0 +1,106 @@
+package uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.controllers;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.common.auth.AuthService;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.common.auth.ForbiddenException;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.model.out.AttachToCaseResponse;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.model.out.CaseUpdateDetails;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.model.out.Item;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.model.out.ScannedDocument;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.model.out.ScannedDocumentsDelta;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.services.AttachToCaseTransformer;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.verifyZeroInteractions;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(AttachToCaseController.class)
+public class AttachToCaseControllerTest {
+
+    @Autowired private MockMvc mockMvc;
+
+    @MockBean private AttachToCaseTransformer transformer;
+    @MockBean private AuthService authService;
+
+    @Test
+    void should_return_case_update_with_new_documents_only() throws Exception {
+        given(transformer.toCaseUpdate(any()))
+            .willReturn(new AttachToCaseResponse(
+                new CaseUpdateDetails(
+                    "case-id",
+                    "attach-event",
+                    new ScannedDocumentsDelta(singletonList(new Item<>(
+                        new ScannedDocument("Other", null, "url", "dcn2", "dcn2.pdf", null, null, "er-id")
+                    )))
+                ),
+                emptyList()
+            ));
+
+        sendRequest()
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.case_update_details.case_id").value("case-id"))
+            .andExpect(jsonPath("$.case_update_details.event_id").value("attach-event"))
+            .andExpect(jsonPath("$.case_update_details.case_data.scannedDocuments.length()").value(1))
+            .andExpect(jsonPath("$.case_update_details.case_data.scannedDocuments[0].value.controlNumber")
+                .value("dcn2"))
+            .andExpect(jsonPath("$.warnings").isEmpty());
+    }
+
+    @Test
+    void should_return_403_if_service_is_not_allowed() throws Exception {
+        given(authService.authenticate(any())).willReturn("some-service");
+        willThrow(new ForbiddenException("not allowed")).given(authService).assertIsAllowedService("some-service");
+
+        sendRequest()
+            .andExpect(status().isForbidden());
+
+        verifyZeroInteractions(transformer);
+    }
+
+    @Test
+    void should_return_400_if_exception_record_is_missing() throws Exception {
+        sendRequest("{\"case_id\":\"case-id\",\"existing_document_control_numbers\":[\"dcn1\"]}")
+            .andExpect(status().isBadRequest());
+
+        verifyZeroInteractions(transformer);
+    }
+
+    @Test
+    void should_return_400_if_case_id_is_blank() throws Exception {
+        sendRequest(
+            "{\"case_id\":\" \",\"existing_document_control_numbers\":[\"dcn1\"],"
+                + "\"exception_record\":{\"id\":\"er-id\",\"scanned_documents\":[]}}"
+        )
+            .andExpect(status().isBadRequest());
+
+        verifyZeroInteractions(transformer);
+    }
+
+    private ResultActions sendRequest() throws Exception {
+        return sendRequest(
+            "{\"case_id\":\"case-id\",\"existing_document_control_numbers\":[\"dcn1\"],"
+                + "\"exception_record\":{\"id\":\"er-id\",\"scanned_documents\":[]}}"
+        );
+    }
+
+    private ResultActions sendRequest(String body) throws Exception {
+        return mockMvc
+            .perform(
+                post("/attach-exception-record-to-case")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(body)
+            );
+    }
+}
@@ -0,0 +1,69 @@
+package uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.controllers;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.util.StreamUtils;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.common.auth.AuthService;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.common.auth.ForbiddenException;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.services.BulkTransformationService;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.verifyZeroInteractions;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.controllers.BulkTransformationController.NDJSON_VALUE;
+
+@WebMvcTest(BulkTransformationController.class)
+public class BulkTransformationControllerTest {
+
+    @Autowired private MockMvc mockMvc;
+
+    @MockBean private BulkTransformationService bulkTransformationService;
+    @MockBean private AuthService authService;
+
+    @Test
+    void should_stream_request_body_through_bulk_transformation() throws Exception {
+        given(bulkTransformationService.transform(any(), any())).willAnswer(invocation -> {
+            InputStream input = invocation.getArgument(0);
+            OutputStream output = invocation.getArgument(1);
+            String echo = "echo:" + StreamUtils.copyToString(input, StandardCharsets.UTF_8);
+            output.write(echo.getBytes(StandardCharsets.UTF_8));
+            return new BulkTransformationService.Summary(1, 0);
+        });
+
+        mockMvc
+            .perform(
+                post("/transform-exception-records")
+                    .contentType(NDJSON_VALUE)
+                    .content("{\"id\":\"er-1\"}\n")
+            )
+            .andExpect(status().isOk())
+            .andExpect(content().contentTypeCompatibleWith(NDJSON_VALUE))
+            .andExpect(content().string("echo:{\"id\":\"er-1\"}\n"));
+    }
+
+    @Test
+    void should_not_read_request_body_if_service_is_not_allowed() throws Exception {
+        willThrow(new ForbiddenException("not allowed")).given(authService).assertIsAllowedService(any());
+
+        mockMvc
+            .perform(
+                post("/transform-exception-records")
+                    .contentType(NDJSON_VALUE)
+                    .content("{\"id\":\"er-1\"}\n")
+            )
+            .andExpect(status().isForbidden());
+
+        verifyZeroInteractions(bulkTransformationService);
+    }
+}
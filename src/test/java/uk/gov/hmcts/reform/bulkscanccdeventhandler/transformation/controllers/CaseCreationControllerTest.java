@@ -0,0 +1,85 @@
+package uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.controllers;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.common.auth.AuthService;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.common.auth.UnauthenticatedException;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.model.out.CaseCreationResponse;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.services.CaseSubmissionException;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.services.CaseSubmissionService;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.services.TooManyCaseSubmissionsException;
+
+import static java.util.Collections.singletonList;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verifyZeroInteractions;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(CaseCreationController.class)
+@TestPropertySource(properties = "ccd-case-creation.enabled=true")
+public class CaseCreationControllerTest {
+
+    @Autowired private MockMvc mockMvc;
+
+    @MockBean private CaseSubmissionService service;
+    @MockBean private AuthService authService;
+
+    @Test
+    void should_return_id_of_created_case() throws Exception {
+        given(service.createCase(any(), eq("user-token"), eq("user-1")))
+            .willReturn(new CaseCreationResponse("1234", singletonList("warning-1")));
+
+        sendRequest()
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.case_id").value("1234"))
+            .andExpect(jsonPath("$.warnings[0]").value("warning-1"));
+    }
+
+    @Test
+    void should_return_502_when_ccd_call_failed() throws Exception {
+        given(service.createCase(any(), any(), any()))
+            .willThrow(new CaseSubmissionException("Failed to create case", null));
+
+        sendRequest()
+            .andExpect(status().isBadGateway());
+    }
+
+    @Test
+    void should_return_503_when_too_many_submissions_are_in_progress() throws Exception {
+        given(service.createCase(any(), any(), any()))
+            .willThrow(new TooManyCaseSubmissionsException("Too many case submissions in progress"));
+
+        sendRequest()
+            .andExpect(status().isServiceUnavailable());
+    }
+
+    @Test
+    void should_return_401_if_request_is_not_authenticated() throws Exception {
+        given(authService.authenticate(any())).willThrow(new UnauthenticatedException(null));
+
+        sendRequest()
+            .andExpect(status().isUnauthorized());
+
+        verifyZeroInteractions(service);
+    }
+
+    private ResultActions sendRequest() throws Exception {
+        return mockMvc
+            .perform(
+                post("/create-case-from-exception-record")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .header("Authorization", "user-token")
+                    .header("user-id", "user-1")
+                    .content("{}")
+            );
+    }
+}
@@ -0,0 +1,117 @@
+package uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.controllers;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.WebFluxTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.common.auth.ReactiveAuthService;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.common.auth.UnauthenticatedException;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.model.in.ResponseSection;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.model.out.SuccessfulTransformationResponse;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.services.ExceptionRecordToCaseTransformer;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.services.InvalidExceptionRecordException;
+
+import java.util.EnumSet;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.verifyZeroInteractions;
+
+@WebFluxTest(ReactiveTransformationController.class)
+class ReactiveTransformationControllerTest {
+
+    @Autowired private WebTestClient webClient;
+
+    @MockBean private ExceptionRecordToCaseTransformer transformer;
+    @MockBean private ReactiveAuthService authService;
+
+    @Test
+    void should_return_transformation_result_for_allowed_service() {
+        // given
+        given(authService.authenticateAllowedService("token")).willReturn(Mono.just("some_service"));
+        given(transformer.toCase(any(), any()))
+            .willReturn(new SuccessfulTransformationResponse(null, singletonList("warning-1")));
+
+        // when
+        sendRequest("token", "warnings")
+            // then
+            .expectStatus().isOk()
+            .expectBody().json("{\"warnings\":[\"warning-1\"]}");
+
+        // and
+        then(transformer).should().toCase(any(), eq(EnumSet.of(ResponseSection.WARNINGS)));
+    }
+
+    @Test
+    void should_return_401_and_not_transform_when_token_is_missing() {
+        // given
+        given(authService.authenticateAllowedService(null))
+            .willReturn(Mono.error(new UnauthenticatedException("Provided S2S token is missing or invalid")));
+
+        // when
+        sendRequest(null, null)
+            // then
+            .expectStatus().isUnauthorized();
+
+        // and
+        verifyZeroInteractions(transformer);
+    }
+
+    @Test
+    void should_return_422_with_errors_if_transformation_failed() {
+        // given
+        given(authService.authenticateAllowedService("token")).willReturn(Mono.just("some_service"));
+        given(transformer.toCase(any(), any()))
+            .willThrow(new InvalidExceptionRecordException(asList("error-1", "error-2")));
+
+        // when
+        sendRequest("token", null)
+            // then
+            .expectStatus().isEqualTo(422)
+            .expectBody()
+            .jsonPath("$.errors[0]").isEqualTo("error-1")
+            .jsonPath("$.errors[1]").isEqualTo("error-2");
+    }
+
+    @Test
+    void should_return_400_for_unknown_response_section() {
+        // when
+        sendRequest("token", "everything")
+            // then
+            .expectStatus().isBadRequest();
+    }
+
+    private WebTestClient.ResponseSpec sendRequest(String token, String sections) {
+        return webClient
+            .post()
+            .uri(sections == null ? "/transform-exception-record" : "/transform-exception-record?sections=" + sections)
+            .headers(headers -> {
+                if (token != null) {
+                    headers.set("ServiceAuthorization", token);
+                }
+            })
+            .contentType(MediaType.APPLICATION_JSON)
+            .syncBody("{}")
+            .exchange();
+    }
+
+    @TestConfiguration
+    static class SchedulerConfiguration {
+
+        @Bean
+        Scheduler transformationScheduler() {
+            return Schedulers.immediate();
+        }
+    }
+}
@@ -17,6 +17,7 @@ import uk.gov.hmcts.reform.authorisation.exceptions.InvalidTokenException;
 import uk.gov.hmcts.reform.bulkscanccdeventhandler.common.auth.AuthService;
 import uk.gov.hmcts.reform.bulkscanccdeventhandler.common.auth.ForbiddenException;
 import uk.gov.hmcts.reform.bulkscanccdeventhandler.common.auth.UnauthenticatedException;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.model.in.ResponseSection;
 import uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.model.out.Address;
 import uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.model.out.CaseCreationDetails;
 import uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.model.out.Item;
@@ -27,16 +28,20 @@ import uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.services.Excep
 import uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.services.InvalidExceptionRecordException;
 
 import java.time.LocalDateTime;
+import java.util.EnumSet;
 import java.util.stream.Stream;
 
 import static java.time.format.DateTimeFormatter.ISO_DATE_TIME;
 import static java.util.Arrays.asList;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
 import static org.springframework.http.HttpStatus.FORBIDDEN;
 import static org.springframework.http.HttpStatus.UNAUTHORIZED;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -124,7 +129,7 @@ public class TransformationControllerTest {
                 )
             );
 
-        given(transformer.toCase(any()))
+        given(transformer.toCase(any(), any()))
             .willReturn(transformationResult);
 
         sendRequest("{}")
@@ -166,7 +171,7 @@ public class TransformationControllerTest {
 
     @Test
     void should_return_422_with_errors_if_transformation_failed() throws Exception {
-        given(transformer.toCase(any()))
+        given(transformer.toCase(any(), any()))
             .willThrow(new InvalidExceptionRecordException(
                 asList(
                     "error-1",
@@ -181,6 +186,36 @@ public class TransformationControllerTest {
             .andExpect(jsonPath("$.errors[1]").value("error-2"));
     }
 
+    @Test
+    void should_transform_requested_sections_only() throws Exception {
+        given(transformer.toCase(any(), any()))
+            .willReturn(new SuccessfulTransformationResponse(null, asList("warning-1")));
+
+        mockMvc
+            .perform(
+                post("/transform-exception-record")
+                    .param("sections", "Warnings")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content("{}")
+            )
+            .andExpect(status().isOk())
+            .andExpect(content().json("{\"warnings\":[\"warning-1\"]}", true));
+
+        then(transformer).should().toCase(any(), eq(EnumSet.of(ResponseSection.WARNINGS)));
+    }
+
+    @Test
+    void should_return_400_for_unknown_response_section() throws Exception {
+        mockMvc
+            .perform(
+                post("/transform-exception-record")
+                    .param("sections", "case_data,everything")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content("{}")
+            )
+            .andExpect(status().isBadRequest());
+    }
+
     private ResultActions sendRequest(String body) throws Exception {
         return mockMvc
             .perform(
@@ -0,0 +1,94 @@
+package uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.controllers;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import uk.gov.hmcts.reform.authorisation.exceptions.InvalidTokenException;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.common.auth.AuthService;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.model.out.TransformationJobResponse;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.services.TransformationJobNotFoundException;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.services.TransformationJobService;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.services.TransformationQueueFullException;
+
+import static java.util.Arrays.asList;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.model.out.TransformationJobStatus.FAILED;
+import static uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.model.out.TransformationJobStatus.PENDING;
+
+@WebMvcTest(TransformationJobController.class)
+public class TransformationJobControllerTest {
+
+    @Autowired private MockMvc mockMvc;
+
+    @MockBean private TransformationJobService jobService;
+    @MockBean private AuthService authService;
+
+    @Test
+    void should_accept_exception_record_and_return_job_location() throws Exception {
+        given(jobService.submit(any())).willReturn(new TransformationJobResponse("job-1", PENDING, null, null));
+
+        mockMvc
+            .perform(
+                post("/transform-exception-record/jobs")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content("{}")
+            )
+            .andExpect(status().isAccepted())
+            .andExpect(header().string("Location", "http://localhost/transform-exception-record/jobs/job-1"))
+            .andExpect(jsonPath("$.job_id").value("job-1"))
+            .andExpect(jsonPath("$.status").value("PENDING"));
+    }
+
+    @Test
+    void should_return_503_when_queue_is_full() throws Exception {
+        given(jobService.submit(any())).willThrow(new TransformationQueueFullException("queue is full"));
+
+        mockMvc
+            .perform(
+                post("/transform-exception-record/jobs")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content("{}")
+            )
+            .andExpect(status().isServiceUnavailable());
+    }
+
+    @Test
+    void should_return_401_when_token_is_invalid() throws Exception {
+        given(authService.authenticate(any())).willThrow(new InvalidTokenException(null, null));
+
+        mockMvc
+            .perform(get("/transform-exception-record/jobs/job-1"))
+            .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void should_return_job_state() throws Exception {
+        given(jobService.getJob("job-1"))
+            .willReturn(new TransformationJobResponse("job-1", FAILED, null, asList("error-1", "error-2")));
+
+        mockMvc
+            .perform(get("/transform-exception-record/jobs/job-1"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.status").value("FAILED"))
+            .andExpect(jsonPath("$.errors[0]").value("error-1"))
+            .andExpect(jsonPath("$.errors[1]").value("error-2"));
+    }
+
+    @Test
+    void should_return_404_when_job_does_not_exist() throws Exception {
+        given(jobService.getJob("job-1")).willThrow(new TransformationJobNotFoundException("not found"));
+
+        mockMvc
+            .perform(get("/transform-exception-record/jobs/job-1"))
+            .andExpect(status().isNotFound());
+    }
+}
@@ -0,0 +1,92 @@
+package uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.controllers;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.common.auth.AuthService;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.common.auth.UnauthenticatedException;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.model.out.CaseCreationDetails;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.model.out.ValidateAndTransformResponse;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.services.InvalidExceptionRecordException;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.services.ValidateAndTransformService;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verifyZeroInteractions;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static uk.gov.hmcts.reform.bulkscanccdeventhandler.ocrvalidation.model.FormType.PERSONAL;
+import static uk.gov.hmcts.reform.bulkscanccdeventhandler.ocrvalidation.model.out.ValidationStatus.WARNINGS;
+
+@WebMvcTest(ValidateAndTransformController.class)
+public class ValidateAndTransformControllerTest {
+
+    @Autowired private MockMvc mockMvc;
+
+    @MockBean private ValidateAndTransformService service;
+    @MockBean private AuthService authService;
+
+    @Test
+    void should_return_validation_result_with_case_creation_details() throws Exception {
+        given(service.validateAndTransform(eq(PERSONAL), any()))
+            .willReturn(new ValidateAndTransformResponse(
+                WARNINGS,
+                singletonList("warning-1"),
+                emptyList(),
+                new CaseCreationDetails("case-type-id", "event-id", null)
+            ));
+
+        sendRequest("PERSONAL")
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.status").value("WARNINGS"))
+            .andExpect(jsonPath("$.warnings[0]").value("warning-1"))
+            .andExpect(jsonPath("$.errors").isEmpty())
+            .andExpect(jsonPath("$.case_creation_details.case_type_id").value("case-type-id"))
+            .andExpect(jsonPath("$.case_creation_details.event_id").value("event-id"));
+    }
+
+    @Test
+    void should_return_422_if_transformation_failed() throws Exception {
+        given(service.validateAndTransform(eq(PERSONAL), any()))
+            .willThrow(new InvalidExceptionRecordException(singletonList("error-1")));
+
+        sendRequest("PERSONAL")
+            .andExpect(status().isUnprocessableEntity())
+            .andExpect(jsonPath("$.errors[0]").value("error-1"));
+    }
+
+    @Test
+    void should_return_404_for_unknown_form_type() throws Exception {
+        sendRequest("UNKNOWN")
+            .andExpect(status().isNotFound());
+
+        verifyZeroInteractions(service);
+    }
+
+    @Test
+    void should_return_401_if_request_is_not_authenticated() throws Exception {
+        given(authService.authenticate(any())).willThrow(new UnauthenticatedException(null));
+
+        sendRequest("PERSONAL")
+            .andExpect(status().isUnauthorized());
+
+        verifyZeroInteractions(service);
+    }
+
+    private ResultActions sendRequest(String formType) throws Exception {
+        return mockMvc
+            .perform(
+                post("/forms/" + formType + "/validate-and-transform-exception-record")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content("{}")
+            );
+    }
+}
@@ -0,0 +1,36 @@
+package uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.model.in;
+
+import org.junit.jupiter.api.Test;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.common.validation.InvalidRequestException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.model.in.ResponseSection.CASE_DATA;
+import static uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.model.in.ResponseSection.SCANNED_DOCUMENTS;
+import static uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.model.in.ResponseSection.WARNINGS;
+
+public class ResponseSectionTest {
+
+    @Test
+    public void should_return_all_sections_when_none_are_given() {
+        assertThat(ResponseSection.parse(null)).containsExactly(CASE_DATA, SCANNED_DOCUMENTS, WARNINGS);
+        assertThat(ResponseSection.parse(" ")).containsExactly(CASE_DATA, SCANNED_DOCUMENTS, WARNINGS);
+    }
+
+    @Test
+    public void should_parse_case_insensitive_section_names() {
+        assertThat(ResponseSection.parse("Warnings, case_data")).containsExactly(CASE_DATA, WARNINGS);
+    }
+
+    @Test
+    public void should_include_case_data_when_scanned_documents_are_requested() {
+        assertThat(ResponseSection.parse("scanned_documents")).containsExactly(CASE_DATA, SCANNED_DOCUMENTS);
+    }
+
+    @Test
+    public void should_reject_unknown_section() {
+        assertThatThrownBy(() -> ResponseSection.parse("warnings,everything"))
+            .isInstanceOf(InvalidRequestException.class)
+            .hasMessage("Unknown response section 'everything'");
+    }
+}
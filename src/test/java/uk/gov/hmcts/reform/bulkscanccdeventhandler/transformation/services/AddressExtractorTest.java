@@ -1,9 +1,16 @@
 package uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.services;
 
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.common.validation.OcrValidationPipeline;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.common.validation.OcrValidationRules;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.common.validation.ValidatedOcrData;
 import uk.gov.hmcts.reform.bulkscanccdeventhandler.ocrvalidation.model.in.OcrDataField;
 import uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.model.out.Address;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.services.address.AddressParser;
 
+import java.io.IOException;
 import java.util.Collections;
 import java.util.List;
 
@@ -19,7 +26,23 @@ import static uk.gov.hmcts.reform.bulkscanccdeventhandler.common.OcrFieldNames.P
 
 public class AddressExtractorTest {
 
-    private final AddressExtractor service = new AddressExtractor();
+    private static final OcrValidationRules ADDRESS_FIELDS = OcrValidationRules
+        .builder()
+        .captureField(ADDRESS_LINE_1)
+        .captureField(ADDRESS_LINE_2)
+        .captureField(ADDRESS_LINE_3)
+        .captureField(POST_CODE)
+        .captureField(POST_TOWN)
+        .captureField(COUNTY)
+        .captureField(COUNTRY)
+        .build();
+
+    private AddressExtractor service;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        service = new AddressExtractor(new AddressParser(new ClassPathResource("gazetteer.txt")));
+    }
 
     @Test
     public void should_extract_address_model_from_exception_record_ocr_data() {
@@ -36,7 +59,7 @@ public class AddressExtractorTest {
             );
 
         // when
-        Address result = service.extractFrom(ocrData);
+        Address result = service.extractFrom(validate(ocrData));
 
         // then
         assertSoftly(softly -> {
@@ -61,7 +84,7 @@ public class AddressExtractorTest {
             );
 
         // when
-        Address result = service.extractFrom(ocrData);
+        Address result = service.extractFrom(validate(ocrData));
 
         // then
         assertSoftly(softly -> {
@@ -81,7 +104,7 @@ public class AddressExtractorTest {
         List<OcrDataField> ocrData = Collections.emptyList();
 
         // when
-        Address result = service.extractFrom(ocrData);
+        Address result = service.extractFrom(validate(ocrData));
 
         // then
 
@@ -95,4 +118,33 @@ public class AddressExtractorTest {
             softly.assertThat(result.country).isNull();
         });
     }
+
+    @Test
+    public void should_move_misplaced_address_components_to_matching_fields() {
+        // given
+        List<OcrDataField> ocrData =
+            asList(
+                new OcrDataField(ADDRESS_LINE_1, "1 High Street"),
+                new OcrDataField(ADDRESS_LINE_2, "Leeds LS1 4AP"),
+                new OcrDataField(ADDRESS_LINE_3, "England")
+            );
+
+        // when
+        Address result = service.extractFrom(validate(ocrData));
+
+        // then
+        assertSoftly(softly -> {
+            softly.assertThat(result.addressLine1).isEqualTo("1 High Street");
+            softly.assertThat(result.addressLine2).isNull();
+            softly.assertThat(result.addressLine3).isNull();
+            softly.assertThat(result.postCode).isEqualTo("LS1 4AP");
+            softly.assertThat(result.postTown).isEqualTo("Leeds");
+            softly.assertThat(result.county).isNull();
+            softly.assertThat(result.country).isEqualTo("England");
+        });
+    }
+
+    private static ValidatedOcrData validate(List<OcrDataField> ocrData) {
+        return new OcrValidationPipeline().validate(ocrData, ADDRESS_FIELDS);
+    }
 }
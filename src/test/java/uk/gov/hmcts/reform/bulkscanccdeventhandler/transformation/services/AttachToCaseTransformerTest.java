@@ -0,0 +1,138 @@
+package uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.services;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.Test;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.model.in.AttachToCaseRequest;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.model.in.ExceptionRecord;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.model.in.InputScannedDoc;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.model.in.JourneyClassification;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.model.out.AttachToCaseResponse;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.model.out.SampleCase;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.time.LocalDateTime.now;
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class AttachToCaseTransformerTest {
+
+    private final DocumentMapper documentMapper = new DocumentMapper();
+    private final AttachToCaseTransformer transformer = new AttachToCaseTransformer(documentMapper, "attach-event");
+
+    @Test
+    public void should_only_include_documents_not_in_the_case() {
+        // given
+        AttachToCaseRequest request = new AttachToCaseRequest(
+            "case-id",
+            asList("dcn1", "dcn3"),
+            exceptionRecord(asList(doc("dcn1"), doc("dcn2"), doc("dcn3"), doc("dcn4")))
+        );
+
+        // when
+        AttachToCaseResponse response = transformer.toCaseUpdate(request);
+
+        // then
+        assertThat(response.caseUpdateDetails.caseId).isEqualTo("case-id");
+        assertThat(response.caseUpdateDetails.eventId).isEqualTo("attach-event");
+        assertThat(controlNumbers(response)).containsExactly("dcn2", "dcn4");
+        assertThat(response.caseUpdateDetails.caseData.scannedDocuments.get(0).value.exceptionRecordReference)
+            .isEqualTo("er-id");
+        assertThat(response.warnings).isEmpty();
+    }
+
+    @Test
+    public void should_include_document_repeated_in_exception_record_once() {
+        // given
+        AttachToCaseRequest request = new AttachToCaseRequest(
+            "case-id",
+            null,
+            exceptionRecord(asList(doc("dcn1"), doc("dcn1"), doc("dcn2")))
+        );
+
+        // when
+        AttachToCaseResponse response = transformer.toCaseUpdate(request);
+
+        // then
+        assertThat(controlNumbers(response)).containsExactly("dcn1", "dcn2");
+    }
+
+    @Test
+    public void should_return_warning_when_case_has_all_documents() {
+        // given
+        AttachToCaseRequest request = new AttachToCaseRequest(
+            "case-id",
+            asList("dcn1", "dcn2"),
+            exceptionRecord(asList(doc("dcn1"), doc("dcn2")))
+        );
+
+        // when
+        AttachToCaseResponse response = transformer.toCaseUpdate(request);
+
+        // then
+        assertThat(response.caseUpdateDetails.caseData.scannedDocuments).isEmpty();
+        assertThat(response.warnings)
+            .containsExactly("All documents of exception record er-id are already in the case");
+    }
+
+    @Test
+    public void should_produce_much_smaller_payload_than_full_case_for_large_cases() throws Exception {
+        // given
+        ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+        List<String> existingDcns = new ArrayList<>();
+        List<InputScannedDoc> allDocs = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            existingDcns.add("dcn" + i);
+            allDocs.add(doc("dcn" + i));
+        }
+        allDocs.add(doc("new-dcn"));
+        ExceptionRecord er = exceptionRecord(allDocs);
+
+        SampleCase fullCase = new SampleCase(
+            null, null, null, null, null, null, null,
+            allDocs.stream().map(doc -> documentMapper.toCaseDoc(doc, er.id)).collect(toList())
+        );
+
+        // when
+        AttachToCaseResponse response = transformer.toCaseUpdate(new AttachToCaseRequest("case-id", existingDcns, er));
+
+        // then
+        int deltaSize = objectMapper.writeValueAsBytes(response).length;
+        int fullSize = objectMapper.writeValueAsBytes(fullCase).length;
+        assertThat(controlNumbers(response)).containsExactly("new-dcn");
+        assertThat(deltaSize * 100).isLessThan(fullSize);
+    }
+
+    private static List<String> controlNumbers(AttachToCaseResponse response) {
+        return response.caseUpdateDetails.caseData.scannedDocuments
+            .stream()
+            .map(item -> item.value.controlNumber)
+            .collect(toList());
+    }
+
+    private static ExceptionRecord exceptionRecord(List<InputScannedDoc> docs) {
+        return new ExceptionRecord(
+            "er-id",
+            "case-type",
+            "po-box",
+            "bulkscan",
+            JourneyClassification.SUPPLEMENTARY_EVIDENCE,
+            now(),
+            now(),
+            docs,
+            emptyList()
+        );
+    }
+
+    private static InputScannedDoc doc(String dcn) {
+        return new InputScannedDoc("Other", null, "http://dm-store/documents/" + dcn, dcn, dcn + ".pdf", now(), now());
+    }
+}
@@ -0,0 +1,189 @@
+package uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.services;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.model.in.ExceptionRecord;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.model.out.CaseCreationDetails;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.model.out.SuccessfulTransformationResponse;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+public class BulkTransformationServiceTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    @Mock private ExceptionRecordToCaseTransformer transformer;
+
+    private BulkTransformationService service;
+
+    @BeforeEach
+    public void setUp() {
+        service = new BulkTransformationService(transformer, objectMapper);
+    }
+
+    @Test
+    public void should_write_one_result_per_record_and_report_failures_inline() throws Exception {
+        // given
+        given(transformer.toCase(argThat(er -> er != null && "er-1".equals(er.id))))
+            .willReturn(new SuccessfulTransformationResponse(
+                new CaseCreationDetails("case-type", "event", null),
+                singletonList("warning")
+            ));
+        given(transformer.toCase(argThat(er -> er != null && "er-2".equals(er.id))))
+            .willThrow(new InvalidExceptionRecordException(singletonList("'last_name' is required")));
+
+        String input = "{\"id\":\"er-1\"}\n"
+            + "\n"
+            + "{not json\n"
+            + "{\"id\":\"er-2\"}\n";
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        // when
+        BulkTransformationService.Summary summary = service.transform(toStream(input), output);
+
+        // then
+        List<JsonNode> results = readLines(output);
+        assertThat(results).hasSize(3);
+
+        assertThat(results.get(0).get("line").asLong()).isEqualTo(1);
+        assertThat(results.get(0).get("exception_record_id").asText()).isEqualTo("er-1");
+        assertThat(results.get(0).get("status").asText()).isEqualTo("COMPLETED");
+        assertThat(results.get(0).at("/result/case_creation_details/case_type_id").asText()).isEqualTo("case-type");
+        assertThat(results.get(0).at("/result/warnings/0").asText()).isEqualTo("warning");
+
+        assertThat(results.get(1).get("line").asLong()).isEqualTo(3);
+        assertThat(results.get(1).get("status").asText()).isEqualTo("FAILED");
+        assertThat(results.get(1).at("/errors/0").asText()).startsWith("Invalid exception record JSON");
+
+        assertThat(results.get(2).get("line").asLong()).isEqualTo(4);
+        assertThat(results.get(2).get("exception_record_id").asText()).isEqualTo("er-2");
+        assertThat(results.get(2).get("status").asText()).isEqualTo("FAILED");
+        assertThat(results.get(2).at("/errors/0").asText()).isEqualTo("'last_name' is required");
+
+        assertThat(summary.recordCount).isEqualTo(3);
+        assertThat(summary.failureCount).isEqualTo(2);
+    }
+
+    @Test
+    public void should_report_unexpected_errors_without_aborting_the_stream() throws Exception {
+        // given
+        given(transformer.toCase(any())).willThrow(new IllegalStateException("boom"));
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        // when
+        service.transform(toStream("{\"id\":\"er-1\"}\n{\"id\":\"er-2\"}"), output);
+
+        // then
+        List<JsonNode> results = readLines(output);
+        assertThat(results).hasSize(2);
+        assertThat(results).allSatisfy(result -> {
+            assertThat(result.get("status").asText()).isEqualTo("FAILED");
+            assertThat(result.at("/errors/0").asText())
+                .isEqualTo("Unexpected error while transforming exception record");
+        });
+    }
+
+    @Test
+    public void should_report_null_record_as_invalid_json_without_aborting_the_stream() throws Exception {
+        // given
+        given(transformer.toCase(any()))
+            .willReturn(new SuccessfulTransformationResponse(null, singletonList("warning")));
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        // when
+        BulkTransformationService.Summary summary =
+            service.transform(toStream("{\"id\":\"er-1\"}\nnull\n{\"id\":\"er-2\"}\n"), output);
+
+        // then
+        List<JsonNode> results = readLines(output);
+        assertThat(results).hasSize(3);
+
+        assertThat(results.get(0).get("status").asText()).isEqualTo("COMPLETED");
+
+        assertThat(results.get(1).get("line").asLong()).isEqualTo(2);
+        assertThat(results.get(1).get("status").asText()).isEqualTo("FAILED");
+        assertThat(results.get(1).at("/errors/0").asText()).isEqualTo("Invalid exception record JSON");
+
+        assertThat(results.get(2).get("exception_record_id").asText()).isEqualTo("er-2");
+        assertThat(results.get(2).get("status").asText()).isEqualTo("COMPLETED");
+
+        assertThat(summary.recordCount).isEqualTo(3);
+        assertThat(summary.failureCount).isEqualTo(1);
+    }
+
+    @Test
+    public void should_write_result_before_reading_next_record() throws Exception {
+        // given
+        given(transformer.toCase(any()))
+            .willReturn(new SuccessfulTransformationResponse(null, singletonList("warning")));
+
+        List<String> events = new ArrayList<>();
+
+        byte[] content = "{\"id\":\"er-1\"}\n{\"id\":\"er-2\"}\n".getBytes(StandardCharsets.UTF_8);
+        InputStream input = new ByteArrayInputStream(content) {
+            @Override
+            public synchronized int available() {
+                // behave like a network stream with nothing buffered, so readers don't read ahead
+                return 0;
+            }
+
+            @Override
+            public synchronized int read(byte[] b, int off, int len) {
+                // hand out one byte at a time, so that reads can be observed between results
+                int result = super.read(b, off, Math.min(len, 1));
+                if (result == 1 && b[off] == '\n') {
+                    events.add("read line");
+                }
+                return result;
+            }
+        };
+        OutputStream output = new ByteArrayOutputStream() {
+            @Override
+            public void flush() throws IOException {
+                events.add("flush");
+                super.flush();
+            }
+        };
+
+        // when
+        service.transform(input, output);
+
+        // then
+        assertThat(events).containsExactly("read line", "flush", "read line", "flush");
+    }
+
+    private static InputStream toStream(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private List<JsonNode> readLines(ByteArrayOutputStream output) throws IOException {
+        List<JsonNode> results = new ArrayList<>();
+        for (String line : new String(output.toByteArray(), StandardCharsets.UTF_8).split("\n")) {
+            results.add(objectMapper.readTree(line));
+        }
+        return results;
+    }
+}
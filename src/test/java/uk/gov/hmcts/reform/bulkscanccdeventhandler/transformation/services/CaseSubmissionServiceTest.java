@@ -0,0 +1,269 @@
+package uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.services;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.util.StreamUtils;
+import org.springframework.web.reactive.function.client.WebClient;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.model.in.ExceptionRecord;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.model.out.CaseCreationDetails;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.model.out.CaseCreationResponse;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.model.out.SampleCase;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.model.out.SuccessfulTransformationResponse;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.time.LocalDateTime.now;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+public class CaseSubmissionServiceTest {
+
+    private static final String CASES_PATH = "/caseworkers/user-1/jurisdictions/BULKSCAN/case-types/Bulk_Scanned";
+
+    @Mock private ExceptionRecordToCaseTransformer transformer;
+
+    private HttpServer ccd;
+    private final List<String> requests = new CopyOnWriteArrayList<>();
+    private final CountDownLatch tokenRequested = new CountDownLatch(1);
+    private final CountDownLatch submitReceived = new CountDownLatch(1);
+    private volatile CountDownLatch submitRelease;
+    private volatile int submitStatus = 201;
+    private volatile String submitResponse = "{\"id\":1234567890123456}";
+
+    private final ExecutorService callers = Executors.newSingleThreadExecutor();
+
+    private CaseSubmissionService service;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        ccd = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        ccd.setExecutor(Executors.newCachedThreadPool());
+        ccd.createContext(CASES_PATH + "/event-triggers/createCase/token", exchange -> {
+            requests.add(describe(exchange));
+            tokenRequested.countDown();
+            respond(exchange, 200, "{\"token\":\"event-token\"}");
+        });
+        ccd.createContext(CASES_PATH + "/cases", exchange -> {
+            requests.add(describe(exchange) + " " + StreamUtils.copyToString(exchange.getRequestBody(), UTF_8));
+            submitReceived.countDown();
+            if (submitRelease != null) {
+                await(submitRelease);
+            }
+            respond(exchange, submitStatus, submitResponse);
+        });
+        ccd.start();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        callers.shutdownNow();
+        if (service != null) {
+            service.shutdown();
+        }
+        ccd.stop(0);
+    }
+
+    @Test
+    public void should_create_case_in_ccd() {
+        // given
+        service = service(10);
+        ExceptionRecord er = exceptionRecord();
+        given(transformer.toCase(er)).willReturn(transformed(singletonList("warning-1")));
+
+        // when
+        CaseCreationResponse response = service.createCase(er, "user-token", "user-1");
+
+        // then
+        assertThat(response.caseId).isEqualTo("1234567890123456");
+        assertThat(response.warnings).containsExactly("warning-1");
+        assertThat(requests).hasSize(2);
+        assertThat(requests.get(0))
+            .isEqualTo("GET " + CASES_PATH + "/event-triggers/createCase/token user-token s2s-token");
+        assertThat(requests.get(1))
+            .startsWith("POST " + CASES_PATH + "/cases?ignore-warning=true user-token s2s-token")
+            .contains("\"event\":{\"id\":\"createCase\",\"summary\":\"Case created from exception record er-id\"}")
+            .contains("\"event_token\":\"event-token\"")
+            .contains("\"firstName\":\"John\"");
+    }
+
+    @Test
+    public void should_fetch_event_token_while_exception_record_is_transformed() {
+        // given
+        service = service(10);
+        ExceptionRecord er = exceptionRecord();
+        given(transformer.toCase(er)).willAnswer(invocation -> {
+            // only returns once CCD has been asked for the token
+            assertThat(tokenRequested.await(5, TimeUnit.SECONDS)).isTrue();
+            return transformed(emptyList());
+        });
+
+        // when
+        CaseCreationResponse response = service.createCase(er, "user-token", "user-1");
+
+        // then
+        assertThat(response.caseId).isEqualTo("1234567890123456");
+    }
+
+    @Test
+    public void should_not_submit_case_when_transformation_fails() {
+        // given
+        service = service(10);
+        ExceptionRecord er = exceptionRecord();
+        given(transformer.toCase(er)).willThrow(new InvalidExceptionRecordException(singletonList("error")));
+
+        // when
+        Throwable exc = catchThrowable(() -> service.createCase(er, "user-token", "user-1"));
+
+        // then
+        assertThat(exc).isInstanceOf(InvalidExceptionRecordException.class);
+        assertThat(requests).noneMatch(request -> request.startsWith("POST"));
+    }
+
+    @Test
+    public void should_fail_when_ccd_rejects_case() {
+        // given
+        submitStatus = 422;
+        service = service(10);
+        ExceptionRecord er = exceptionRecord();
+        given(transformer.toCase(er)).willReturn(transformed(emptyList()));
+
+        // when
+        Throwable exc = catchThrowable(() -> service.createCase(er, "user-token", "user-1"));
+
+        // then
+        assertThat(exc)
+            .isInstanceOf(CaseSubmissionException.class)
+            .hasMessage("Failed to create case from exception record er-id");
+    }
+
+    @Test
+    public void should_fail_when_ccd_returns_no_case() {
+        // given
+        submitResponse = "";
+        service = service(10);
+        ExceptionRecord er = exceptionRecord();
+        given(transformer.toCase(er)).willReturn(transformed(emptyList()));
+
+        // when
+        Throwable exc = catchThrowable(() -> service.createCase(er, "user-token", "user-1"));
+
+        // then
+        assertThat(exc)
+            .isInstanceOf(CaseSubmissionException.class)
+            .hasMessage("Failed to create case from exception record er-id");
+        assertThat(exc.getCause()).hasMessage("CCD returned no case");
+    }
+
+    @Test
+    public void should_reject_submissions_over_the_limit() throws Exception {
+        // given
+        submitRelease = new CountDownLatch(1);
+        service = service(1);
+        ExceptionRecord er = exceptionRecord();
+        given(transformer.toCase(er)).willReturn(transformed(emptyList()));
+
+        Future<CaseCreationResponse> first = callers.submit(() -> service.createCase(er, "user-token", "user-1"));
+        await(submitReceived);
+
+        // when
+        Throwable exc = catchThrowable(() -> service.createCase(er, "user-token", "user-1"));
+        submitRelease.countDown();
+
+        // then
+        assertThat(first.get(5, TimeUnit.SECONDS).caseId).isEqualTo("1234567890123456");
+        assertThat(exc).isInstanceOf(TooManyCaseSubmissionsException.class);
+    }
+
+    private CaseSubmissionService service(int maxInFlightSubmissions) {
+        return new CaseSubmissionService(
+            transformerRegistry(),
+            transformer,
+            () -> "s2s-token",
+            WebClient.builder(),
+            "http://localhost:" + ccd.getAddress().getPort(),
+            5,
+            maxInFlightSubmissions,
+            5000
+        );
+    }
+
+    private static TransformerRegistry transformerRegistry() {
+        CaseTypeMappingProperties.Mapping mapping = new CaseTypeMappingProperties.Mapping();
+        mapping.setJurisdiction("bulkscan");
+        mapping.setTargetCaseTypeId("Bulk_Scanned");
+        mapping.setEventId("createCase");
+
+        CaseTypeMappingProperties properties = new CaseTypeMappingProperties();
+        properties.setMappings(singletonList(mapping));
+        return new TransformerRegistry(properties);
+    }
+
+    private static ExceptionRecord exceptionRecord() {
+        return new ExceptionRecord(
+            "er-id",
+            "case-type",
+            "po-box",
+            "BULKSCAN",
+            null,
+            now(),
+            now(),
+            emptyList(),
+            emptyList()
+        );
+    }
+
+    private static SuccessfulTransformationResponse transformed(List<String> warnings) {
+        return new SuccessfulTransformationResponse(
+            new CaseCreationDetails(
+                "Bulk_Scanned",
+                "createCase",
+                new SampleCase(null, "John", "Smith", null, null, null, null, emptyList())
+            ),
+            warnings
+        );
+    }
+
+    private static String describe(HttpExchange exchange) {
+        return exchange.getRequestMethod() + " " + exchange.getRequestURI()
+            + " " + exchange.getRequestHeaders().getFirst("Authorization")
+            + " " + exchange.getRequestHeaders().getFirst("ServiceAuthorization");
+    }
+
+    private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        // -1 stands for no body, 0 would make the response chunked
+        exchange.sendResponseHeaders(status, bytes.length == 0 ? -1 : bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException exc) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
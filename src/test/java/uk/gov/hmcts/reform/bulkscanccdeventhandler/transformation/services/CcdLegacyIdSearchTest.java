@@ -0,0 +1,68 @@
+package uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.services;
+
+import com.google.common.collect.ImmutableMap;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import uk.gov.hmcts.reform.authorisation.generators.AuthTokenGenerator;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.client.CcdSearchApi;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.client.model.CaseDetails;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.client.model.CaseSearchResult;
+
+import java.util.List;
+import java.util.Map;
+
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+public class CcdLegacyIdSearchTest {
+
+    @Mock private CcdSearchApi ccdSearchApi;
+    @Mock private SystemUserTokenProvider systemUserTokenProvider;
+    @Mock private AuthTokenGenerator authTokenGenerator;
+
+    @Test
+    public void should_search_all_legacy_ids_in_one_query() {
+        // given
+        List<String> legacyIds = asList("legacy-1", "legacy-2", "legacy-3");
+        given(systemUserTokenProvider.getUserToken()).willReturn("Bearer user-token");
+        given(authTokenGenerator.generate()).willReturn("s2s-token");
+        given(ccdSearchApi.searchCases(
+            "Bearer user-token",
+            "s2s-token",
+            "case-type",
+            CcdLegacyIdSearch.buildQuery(legacyIds)
+        ))
+            .willReturn(new CaseSearchResult(2, asList(
+                new CaseDetails(1111L, ImmutableMap.of("legacyId", "legacy-1")),
+                new CaseDetails(3333L, ImmutableMap.of("legacyId", "legacy-3"))
+            )));
+
+        // when
+        Map<String, String> cases = new CcdLegacyIdSearch(ccdSearchApi, systemUserTokenProvider, authTokenGenerator)
+            .findCases("case-type", legacyIds);
+
+        // then
+        assertThat(cases).containsOnly(
+            entry("legacy-1", "1111"),
+            entry("legacy-3", "3333")
+        );
+    }
+
+    @Test
+    public void should_build_terms_query_for_legacy_ids() {
+        // when
+        Map<String, Object> query = CcdLegacyIdSearch.buildQuery(asList("legacy-1", "legacy-2"));
+
+        // then
+        assertThat(query).containsEntry(
+            "query",
+            ImmutableMap.of("terms", ImmutableMap.of("data.legacyId", asList("legacy-1", "legacy-2")))
+        );
+        assertThat(query).containsEntry("size", 2);
+    }
+}
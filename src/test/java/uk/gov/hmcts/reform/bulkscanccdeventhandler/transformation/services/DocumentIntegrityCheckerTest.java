@@ -0,0 +1,97 @@
+package uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.services;
+
+import org.junit.jupiter.api.Test;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.model.in.InputScannedDoc;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class DocumentIntegrityCheckerTest {
+
+    private static final LocalDateTime DELIVERY_DATE = LocalDateTime.parse("2019-08-01T10:00:00");
+
+    private final DocumentIntegrityChecker checker = new DocumentIntegrityChecker();
+
+    @Test
+    public void should_accept_intact_documents() {
+        // when
+        DocumentIntegrityResult result = checker.check(asList(doc("dcn1", "url1"), doc("dcn2", "url2")));
+
+        // then
+        assertThat(result.errors).isEmpty();
+        assertThat(result.warnings).isEmpty();
+    }
+
+    @Test
+    public void should_report_missing_document() {
+        // when
+        DocumentIntegrityResult result = checker.check(asList(doc("dcn1", "url1"), null));
+
+        // then
+        assertThat(result.errors).containsExactly("Scanned document at index 1 is missing");
+    }
+
+    @Test
+    public void should_report_duplicate_control_numbers_and_urls() {
+        // when
+        DocumentIntegrityResult result = checker.check(asList(
+            doc("dcn1", "url1"),
+            doc("dcn1", "url2"),
+            doc("dcn3", "url2")
+        ));
+
+        // then
+        assertThat(result.errors).containsExactly(
+            "Duplicate document control number 'dcn1'",
+            "Duplicate document URL 'url2'"
+        );
+    }
+
+    @Test
+    public void should_warn_about_document_scanned_after_delivery() {
+        // given
+        InputScannedDoc doc =
+            new InputScannedDoc("Other", null, "url1", "dcn1", "dcn1.pdf", DELIVERY_DATE.plusSeconds(1), DELIVERY_DATE);
+
+        // when
+        DocumentIntegrityResult result = checker.check(asList(doc, doc("dcn2", "url2")));
+
+        // then
+        assertThat(result.errors).isEmpty();
+        assertThat(result.warnings).containsExactly("Document 'dcn1' was scanned after its delivery date");
+    }
+
+    @Test
+    public void should_check_large_envelopes() {
+        // given
+        List<InputScannedDoc> docs = new ArrayList<>();
+        for (int i = 0; i < 50_000; i++) {
+            docs.add(doc("dcn" + i, "http://dm-store/documents/" + i));
+        }
+        docs.add(doc("dcn123", "http://dm-store/documents/new"));
+
+        // when
+        DocumentIntegrityResult result = checker.check(docs);
+
+        // then
+        assertThat(result.errors).containsExactly("Duplicate document control number 'dcn123'");
+    }
+
+    @Test
+    public void should_accept_no_documents() {
+        // when
+        DocumentIntegrityResult result = checker.check(null);
+
+        // then
+        assertThat(result.errors).isEmpty();
+        assertThat(result.warnings).isEmpty();
+    }
+
+    private static InputScannedDoc doc(String dcn, String url) {
+        return new InputScannedDoc("Other", null, url, dcn, dcn + ".pdf", DELIVERY_DATE.minusHours(1), DELIVERY_DATE);
+    }
+}
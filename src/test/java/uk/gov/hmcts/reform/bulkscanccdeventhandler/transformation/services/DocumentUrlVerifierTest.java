@@ -0,0 +1,182 @@
+package uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.services;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.model.in.InputScannedDoc;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.time.LocalDateTime.now;
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class DocumentUrlVerifierTest {
+
+    private HttpServer documentStore;
+    private final CountDownLatch slowRequestRelease = new CountDownLatch(1);
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+
+    private DocumentUrlVerifier verifier;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        documentStore = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        documentStore.setExecutor(Executors.newCachedThreadPool());
+        documentStore.createContext("/documents/ok", exchange -> respond(exchange, 200, 100));
+        documentStore.createContext("/documents/missing", exchange -> respond(exchange, 404, 0));
+        documentStore.createContext("/documents/slow", exchange -> {
+            try {
+                slowRequestRelease.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException exc) {
+                Thread.currentThread().interrupt();
+            }
+            respond(exchange, 200, 0);
+        });
+        documentStore.start();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        slowRequestRelease.countDown();
+        if (verifier != null) {
+            verifier.shutdown();
+        }
+        documentStore.stop(0);
+    }
+
+    @Test
+    public void should_not_return_warnings_when_all_documents_exist() {
+        // given
+        verifier = new DocumentUrlVerifier(10, 2000);
+
+        // when
+        List<String> warnings = verifier.verify(asList(doc("dcn1", "ok"), doc("dcn2", "ok")));
+
+        // then
+        assertThat(warnings).isEmpty();
+    }
+
+    @Test
+    public void should_return_warning_for_each_missing_document() {
+        // given
+        verifier = new DocumentUrlVerifier(10, 2000);
+
+        // when
+        List<String> warnings = verifier.verify(asList(doc("dcn1", "ok"), doc("dcn2", "missing")));
+
+        // then
+        assertThat(warnings).containsExactly("Document 'dcn2' not found at " + url("missing"));
+    }
+
+    @Test
+    public void should_return_warning_when_document_store_is_unreachable() {
+        // given
+        verifier = new DocumentUrlVerifier(10, 2000);
+        InputScannedDoc doc =
+            new InputScannedDoc("type", "subtype", "http://localhost:1/doc", "dcn1", "dcn1.pdf", now(), now());
+
+        // when
+        List<String> warnings = verifier.verify(singletonList(doc));
+
+        // then
+        assertThat(warnings).containsExactly("Document 'dcn1' not found at http://localhost:1/doc");
+    }
+
+    @Test
+    public void should_return_warning_for_documents_not_verified_before_deadline() {
+        // given
+        verifier = new DocumentUrlVerifier(10, 300);
+
+        // when
+        long start = System.currentTimeMillis();
+        List<String> warnings = verifier.verify(asList(doc("dcn1", "ok"), doc("dcn2", "slow")));
+        long elapsed = System.currentTimeMillis() - start;
+
+        // then
+        assertThat(warnings).containsExactly("Document 'dcn2' could not be verified in time");
+        assertThat(elapsed).isLessThan(3000);
+    }
+
+    @Test
+    public void should_not_exceed_concurrency_cap() {
+        // given
+        verifier = new DocumentUrlVerifier(2, 5000);
+
+        // when
+        List<String> warnings = verifier.verify(asList(
+            doc("dcn1", "ok?1"),
+            doc("dcn2", "ok?2"),
+            doc("dcn3", "ok?3"),
+            doc("dcn4", "ok?4"),
+            doc("dcn5", "ok?5")
+        ));
+
+        // then
+        assertThat(warnings).isEmpty();
+        assertThat(maxInFlight.get()).isBetween(1, 2);
+    }
+
+    @Test
+    public void should_return_warning_for_documents_without_url() {
+        // given
+        verifier = new DocumentUrlVerifier(10, 2000);
+        InputScannedDoc withoutUrl = new InputScannedDoc("type", "subtype", null, "dcn2", "dcn2.pdf", now(), now());
+        InputScannedDoc blankUrl = new InputScannedDoc("type", "subtype", " ", "dcn3", "dcn3.pdf", now(), now());
+
+        // when
+        List<String> warnings = verifier.verify(asList(doc("dcn1", "missing"), withoutUrl, blankUrl));
+
+        // then
+        assertThat(warnings).containsExactly(
+            "Document 'dcn1' not found at " + url("missing"),
+            "Document 'dcn2' has no url",
+            "Document 'dcn3' has no url"
+        );
+    }
+
+    @Test
+    public void should_not_call_document_store_when_there_are_no_documents() {
+        // given
+        verifier = new DocumentUrlVerifier(10, 2000);
+
+        // when
+        List<String> warnings = verifier.verify(emptyList());
+
+        // then
+        assertThat(warnings).isEmpty();
+        assertThat(maxInFlight.get()).isZero();
+    }
+
+    private void respond(HttpExchange exchange, int status, long delayMillis) throws IOException {
+        maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+        try {
+            Thread.sleep(delayMillis);
+        } catch (InterruptedException exc) {
+            Thread.currentThread().interrupt();
+        } finally {
+            inFlight.decrementAndGet();
+        }
+        exchange.sendResponseHeaders(status, -1);
+        exchange.close();
+    }
+
+    private InputScannedDoc doc(String dcn, String path) {
+        return new InputScannedDoc("type", "subtype", url(path), dcn, dcn + ".pdf", now(), now());
+    }
+
+    private String url(String path) {
+        return "http://localhost:" + documentStore.getAddress().getPort() + "/documents/" + path;
+    }
+}
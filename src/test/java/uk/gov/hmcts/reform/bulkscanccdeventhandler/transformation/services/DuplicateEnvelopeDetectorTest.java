@@ -0,0 +1,141 @@
+package uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.services;
+
+import org.junit.jupiter.api.Test;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.ocrvalidation.model.in.OcrDataField;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.model.in.ExceptionRecord;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.model.in.JourneyClassification;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static java.time.LocalDateTime.now;
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class DuplicateEnvelopeDetectorTest {
+
+    private final AtomicLong clock = new AtomicLong(1_000_000L);
+
+    // 60 minute window split into 4 filters of 15 minutes each
+    private final DuplicateEnvelopeDetector detector =
+        new DuplicateEnvelopeDetector(60, 4, 1000, 0.001, 100, clock::get);
+
+    @Test
+    public void should_report_record_with_the_same_ocr_data() {
+        // given
+        detector.findDuplicateOf(exceptionRecord("er-1", field("first_name", "John"), field("last_name", "Smith")));
+
+        // when
+        Optional<String> duplicateOf =
+            detector.findDuplicateOf(exceptionRecord("er-2", field("first_name", "John"), field("last_name", "Smith")));
+
+        // then
+        assertThat(duplicateOf).contains("er-1");
+    }
+
+    @Test
+    public void should_ignore_field_order_case_and_whitespace() {
+        // given
+        detector.findDuplicateOf(exceptionRecord("er-1", field("first_name", "John"), field("last_name", "Smith")));
+
+        // when
+        Optional<String> duplicateOf = detector.findDuplicateOf(
+            exceptionRecord("er-2", field("LAST_NAME", "  smith "), field("first_name", "JOHN"), field("email", " "))
+        );
+
+        // then
+        assertThat(duplicateOf).contains("er-1");
+    }
+
+    @Test
+    public void should_not_report_record_with_different_ocr_data() {
+        // given
+        detector.findDuplicateOf(exceptionRecord("er-1", field("first_name", "John"), field("last_name", "Smith")));
+
+        // when
+        Optional<String> duplicateOf =
+            detector.findDuplicateOf(exceptionRecord("er-2", field("first_name", "Jane"), field("last_name", "Smith")));
+
+        // then
+        assertThat(duplicateOf).isEmpty();
+    }
+
+    @Test
+    public void should_not_report_the_same_record_sent_again() {
+        // given
+        detector.findDuplicateOf(exceptionRecord("er-1", field("first_name", "John")));
+
+        // when
+        Optional<String> duplicateOf = detector.findDuplicateOf(exceptionRecord("er-1", field("first_name", "John")));
+
+        // then
+        assertThat(duplicateOf).isEmpty();
+    }
+
+    @Test
+    public void should_not_report_records_without_ocr_data() {
+        // given
+        detector.findDuplicateOf(exceptionRecord("er-1"));
+
+        // when
+        Optional<String> duplicateOf = detector.findDuplicateOf(exceptionRecord("er-2"));
+
+        // then
+        assertThat(duplicateOf).isEmpty();
+    }
+
+    @Test
+    public void should_forget_records_once_the_window_has_passed() {
+        // given
+        detector.findDuplicateOf(exceptionRecord("er-1", field("first_name", "John")));
+        clock.addAndGet(TimeUnit.MINUTES.toMillis(50));
+        Optional<String> withinWindow = detector.findDuplicateOf(exceptionRecord("er-2", field("first_name", "John")));
+
+        // when
+        clock.addAndGet(TimeUnit.MINUTES.toMillis(61));
+        Optional<String> afterWindow = detector.findDuplicateOf(exceptionRecord("er-3", field("first_name", "John")));
+
+        // then
+        assertThat(withinWindow).contains("er-1");
+        assertThat(afterWindow).isEmpty();
+    }
+
+    @Test
+    public void should_not_report_bloom_filter_hit_missing_from_exact_cache() {
+        // given
+        DuplicateEnvelopeDetector detectorWithTinyCache =
+            new DuplicateEnvelopeDetector(60, 4, 1000, 0.001, 1, clock::get);
+        detectorWithTinyCache.findDuplicateOf(exceptionRecord("er-1", field("first_name", "John")));
+        // pushes the first fingerprint out of the cache
+        detectorWithTinyCache.findDuplicateOf(exceptionRecord("er-2", field("first_name", "Jane")));
+
+        // when
+        Optional<String> duplicateOf =
+            detectorWithTinyCache.findDuplicateOf(exceptionRecord("er-3", field("first_name", "John")));
+
+        // then
+        assertThat(duplicateOf).isEmpty();
+    }
+
+    private static ExceptionRecord exceptionRecord(String id, OcrDataField... fields) {
+        List<OcrDataField> ocrData = fields.length == 0 ? emptyList() : asList(fields);
+        return new ExceptionRecord(
+            id,
+            "case-type",
+            "po-box",
+            "bulkscan",
+            JourneyClassification.NEW_APPLICATION,
+            now(),
+            now(),
+            emptyList(),
+            ocrData
+        );
+    }
+
+    private static OcrDataField field(String name, String value) {
+        return new OcrDataField(name, value);
+    }
+}
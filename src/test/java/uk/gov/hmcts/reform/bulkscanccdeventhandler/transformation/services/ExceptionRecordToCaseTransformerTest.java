@@ -1,54 +1,71 @@
 package uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.services;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import uk.gov.hmcts.reform.bulkscanccdeventhandler.common.OcrFieldNames;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.common.validation.OcrValidationPipeline;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.common.validation.ValidatedOcrData;
 import uk.gov.hmcts.reform.bulkscanccdeventhandler.ocrvalidation.model.in.OcrDataField;
 import uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.model.in.ExceptionRecord;
 import uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.model.in.InputScannedDoc;
 import uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.model.in.JourneyClassification;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.model.in.ResponseSection;
 import uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.model.out.Address;
 import uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.model.out.Item;
 import uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.model.out.ScannedDocument;
 import uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.model.out.SuccessfulTransformationResponse;
 
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Optional;
+
 import static java.time.LocalDateTime.now;
 import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.catchThrowable;
 import static org.assertj.core.api.SoftAssertions.assertSoftly;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
-import static org.mockito.Mockito.doThrow;
-import static org.mockito.Mockito.mock;
-import static uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.services.ExceptionRecordToCaseTransformer.CASE_TYPE_ID;
-import static uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.services.ExceptionRecordToCaseTransformer.EVENT_ID;
+import static org.mockito.Mockito.verifyZeroInteractions;
+import static uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.services.ExceptionRecordToCaseTransformer.TIMER_NAME;
 
 @ExtendWith(MockitoExtension.class)
 public class ExceptionRecordToCaseTransformerTest {
 
     @Mock private DocumentMapper documentMapper;
     @Mock private AddressExtractor addressExtractor;
-    @Mock private ExceptionRecordValidator exceptionRecordValidator;
-    @Mock private CaseValidator caseValidator;
+    @Mock private DocumentUrlVerifier documentUrlVerifier;
+    @Mock private LegacyIdLookupService legacyIdLookupService;
+    @Mock private DuplicateEnvelopeDetector duplicateEnvelopeDetector;
 
     @Mock private Item<ScannedDocument> doc1;
     @Mock private Item<ScannedDocument> doc2;
     @Mock private Address address;
 
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
     private ExceptionRecordToCaseTransformer service;
 
     @BeforeEach
     public void setUp() {
         this.service =
             new ExceptionRecordToCaseTransformer(
+                transformerRegistry(),
                 documentMapper,
                 addressExtractor,
-                exceptionRecordValidator,
-                caseValidator
+                new PersonGroupExtractor(10),
+                new ExceptionRecordValidator(new OcrValidationPipeline()),
+                new DocumentIntegrityChecker(),
+                Optional.empty(),
+                Optional.empty(),
+                Optional.empty(),
+                meterRegistry
             );
     }
 
@@ -74,20 +91,19 @@ public class ExceptionRecordToCaseTransformerTest {
         );
 
         // and
-        given(addressExtractor.extractFrom(er.ocrDataFields)).willReturn(address);
+        given(addressExtractor.extractFrom(any(ValidatedOcrData.class))).willReturn(address);
         given(documentMapper.toCaseDoc(er.scannedDocuments.get(0), er.id)).willReturn(doc1);
         given(documentMapper.toCaseDoc(er.scannedDocuments.get(1), er.id)).willReturn(doc2);
-        given(caseValidator.getWarnings(any())).willReturn(asList("w1", "w2"));
         // when
         SuccessfulTransformationResponse result = service.toCase(er);
 
         // then
 
         assertSoftly(softly -> {
-            softly.assertThat(result.warnings).containsExactly("w1", "w2");
+            softly.assertThat(result.warnings).containsExactly("'email' is empty");
 
-            softly.assertThat(result.caseCreationDetails.caseTypeId).isEqualTo(CASE_TYPE_ID);
-            softly.assertThat(result.caseCreationDetails.eventId).isEqualTo(EVENT_ID);
+            softly.assertThat(result.caseCreationDetails.caseTypeId).isEqualTo("case-type");
+            softly.assertThat(result.caseCreationDetails.eventId).isEqualTo("event");
 
             softly.assertThat(result.caseCreationDetails.caseData.firstName).isEqualTo("John");
             softly.assertThat(result.caseCreationDetails.caseData.lastName).isEqualTo("Smith");
@@ -105,18 +121,505 @@ public class ExceptionRecordToCaseTransformerTest {
     @Test
     public void should_validate_exception_record() {
         // given
-        doThrow(new InvalidExceptionRecordException(asList("error1", "error2")))
-            .when(exceptionRecordValidator).assertIsValid(any());
+        ExceptionRecord er = new ExceptionRecord(
+            "er-id",
+            "er-case-type",
+            "er-pobox",
+            "er-jurisdiction",
+            JourneyClassification.NEW_APPLICATION,
+            now(),
+            now(),
+            emptyList(),
+            asList(
+                new OcrDataField(OcrFieldNames.EMAIL, "invalid-email")
+            )
+        );
+
+        // when
+        Throwable exc = catchThrowable(() -> service.toCase(er));
+
+        // then
+        assertThat(exc)
+            .isInstanceOf(InvalidExceptionRecordException.class)
+            .hasMessageContaining("'first_name' is required")
+            .hasMessageContaining("'last_name' is required")
+            .hasMessageContaining("Invalid email address");
+    }
+
+    @Test
+    public void should_only_map_documents_of_supplementary_evidence() {
+        // given
+        ExceptionRecord er = exceptionRecord(
+            JourneyClassification.SUPPLEMENTARY_EVIDENCE,
+            asList(
+                new OcrDataField(OcrFieldNames.EMAIL, "invalid-email")
+            )
+        );
+
+        // and
+        given(documentMapper.toCaseDoc(er.scannedDocuments.get(0), er.id)).willReturn(doc1);
 
         // when
-        Throwable exc = catchThrowable(
-            () -> service.toCase(mock(ExceptionRecord.class))
+        SuccessfulTransformationResponse result = service.toCase(er);
+
+        // then
+        assertThat(result.warnings).isEmpty();
+        assertThat(result.caseCreationDetails.caseData.scannedDocuments).containsExactly(doc1);
+        assertThat(result.caseCreationDetails.caseData.firstName).isNull();
+        assertThat(result.caseCreationDetails.caseData.email).isNull();
+        assertThat(result.caseCreationDetails.caseData.address).isNull();
+        verifyZeroInteractions(addressExtractor);
+    }
+
+    @Test
+    public void should_report_validation_errors_of_exception_journey_as_warnings() {
+        // given
+        ExceptionRecord er = exceptionRecord(
+            JourneyClassification.EXCEPTION,
+            asList(
+                new OcrDataField(OcrFieldNames.FIRST_NAME, "John"),
+                new OcrDataField(OcrFieldNames.CONTACT_NUMBER, "555")
+            )
+        );
+
+        // and
+        given(addressExtractor.extractFrom(any(ValidatedOcrData.class))).willReturn(address);
+        given(documentMapper.toCaseDoc(er.scannedDocuments.get(0), er.id)).willReturn(doc1);
+
+        // when
+        SuccessfulTransformationResponse result = service.toCase(er);
+
+        // then
+        assertThat(result.warnings)
+            .containsExactly("'last_name' is required", "Invalid phone number", "'email' is empty");
+        assertThat(result.caseCreationDetails.caseData.firstName).isEqualTo("John");
+        assertThat(result.caseCreationDetails.caseData.contactNumber).isEqualTo("555");
+    }
+
+    @Test
+    public void should_map_repeating_groups_to_applicants_and_children() {
+        // given
+        ExceptionRecord er = exceptionRecord(
+            JourneyClassification.EXCEPTION,
+            asList(
+                new OcrDataField(OcrFieldNames.FIRST_NAME, "John"),
+                new OcrDataField(OcrFieldNames.LAST_NAME, "Smith"),
+                new OcrDataField(OcrFieldNames.EMAIL, "john@example.com"),
+                new OcrDataField("applicant_1_first_name", "John"),
+                new OcrDataField("applicant_2_first_name", "Jane"),
+                new OcrDataField("child_1_date_of_birth", "01/02/2015"),
+                new OcrDataField("child_11_first_name", "Jack")
+            )
+        );
+
+        // and
+        given(addressExtractor.extractFrom(any(ValidatedOcrData.class))).willReturn(address);
+        given(documentMapper.toCaseDoc(er.scannedDocuments.get(0), er.id)).willReturn(doc1);
+
+        // when
+        SuccessfulTransformationResponse result = service.toCase(er);
+
+        // then
+        assertThat(result.caseCreationDetails.caseData.applicants)
+            .extracting(applicant -> applicant.value.firstName)
+            .containsExactly("John", "Jane");
+        assertThat(result.caseCreationDetails.caseData.children)
+            .extracting(child -> child.value.dateOfBirth)
+            .containsExactly("01/02/2015");
+        assertThat(result.warnings).containsExactly("1 OCR fields of groups numbered above 10 were ignored");
+    }
+
+    @Test
+    public void should_reject_new_application_with_duplicate_documents() {
+        // given
+        ExceptionRecord er = new ExceptionRecord(
+            "er-id",
+            "er-case-type",
+            "er-pobox",
+            "er-jurisdiction",
+            JourneyClassification.NEW_APPLICATION,
+            now(),
+            now(),
+            asList(
+                new InputScannedDoc("type1", "subtype1", "url1", "dcn1", "filename1", now(), now()),
+                new InputScannedDoc("type2", "subtype2", "url2", "dcn1", "filename2", now(), now())
+            ),
+            asList(
+                new OcrDataField(OcrFieldNames.FIRST_NAME, "John"),
+                new OcrDataField(OcrFieldNames.LAST_NAME, "Smith")
+            )
         );
 
+        // when
+        Throwable exc = catchThrowable(() -> service.toCase(er));
+
         // then
         assertThat(exc)
             .isInstanceOf(InvalidExceptionRecordException.class)
-            .hasMessageContaining("error1")
-            .hasMessageContaining("error2");
+            .hasMessageContaining("Duplicate document control number 'dcn1'");
+        verifyZeroInteractions(documentMapper);
+    }
+
+    @Test
+    public void should_report_missing_documents_of_exception_journey_as_warnings() {
+        // given
+        ExceptionRecord er = new ExceptionRecord(
+            "er-id",
+            "er-case-type",
+            "er-pobox",
+            "er-jurisdiction",
+            JourneyClassification.EXCEPTION,
+            now(),
+            now(),
+            asList(
+                new InputScannedDoc("type1", "subtype1", "url1", "dcn1", "filename1", now(), now()),
+                null
+            ),
+            asList(
+                new OcrDataField(OcrFieldNames.FIRST_NAME, "John"),
+                new OcrDataField(OcrFieldNames.LAST_NAME, "Smith"),
+                new OcrDataField(OcrFieldNames.EMAIL, "john@example.com")
+            )
+        );
+
+        // and
+        given(documentMapper.toCaseDoc(er.scannedDocuments.get(0), er.id)).willReturn(doc1);
+
+        // when
+        SuccessfulTransformationResponse result = service.toCase(er);
+
+        // then
+        assertThat(result.warnings).containsExactly("Scanned document at index 1 is missing");
+        assertThat(result.caseCreationDetails.caseData.scannedDocuments).containsExactly(doc1);
+    }
+
+    @Test
+    public void should_record_transformation_time_per_journey() {
+        // given
+        given(documentMapper.toCaseDoc(any(), any())).willReturn(doc1);
+
+        // when
+        service.toCase(exceptionRecord(JourneyClassification.SUPPLEMENTARY_EVIDENCE, emptyList()));
+        service.toCase(exceptionRecord(JourneyClassification.SUPPLEMENTARY_EVIDENCE, emptyList()));
+        // new applications without OCR data are rejected, but still timed
+        catchThrowable(() -> service.toCase(exceptionRecord(null, emptyList())));
+        catchThrowable(() -> service.toCase(exceptionRecord(JourneyClassification.NEW_APPLICATION, emptyList())));
+
+        // then
+        assertThat(meterRegistry.get(TIMER_NAME).tag("journey", "SUPPLEMENTARY_EVIDENCE").timer().count())
+            .isEqualTo(2);
+        assertThat(meterRegistry.get(TIMER_NAME).tag("journey", "NEW_APPLICATION").timer().count())
+            .isEqualTo(2);
+        assertThat(meterRegistry.get(TIMER_NAME).tag("journey", "EXCEPTION").timer().count())
+            .isEqualTo(0);
+    }
+
+    @Test
+    public void should_add_warnings_for_documents_missing_from_document_store() {
+        // given
+        ExceptionRecordToCaseTransformer verifyingService =
+            new ExceptionRecordToCaseTransformer(
+                transformerRegistry(),
+                documentMapper,
+                addressExtractor,
+                new PersonGroupExtractor(10),
+                new ExceptionRecordValidator(new OcrValidationPipeline()),
+                new DocumentIntegrityChecker(),
+                Optional.of(documentUrlVerifier),
+                Optional.empty(),
+                Optional.empty(),
+                meterRegistry
+            );
+        ExceptionRecord er = exceptionRecord(JourneyClassification.SUPPLEMENTARY_EVIDENCE, emptyList());
+
+        // and
+        given(documentMapper.toCaseDoc(er.scannedDocuments.get(0), er.id)).willReturn(doc1);
+        given(documentUrlVerifier.verify(er.scannedDocuments))
+            .willReturn(singletonList("Document 'dcn1' not found at url1"));
+
+        // when
+        SuccessfulTransformationResponse result = verifyingService.toCase(er);
+
+        // then
+        assertThat(result.warnings).containsExactly("Document 'dcn1' not found at url1");
+        assertThat(result.caseCreationDetails.caseData.scannedDocuments).containsExactly(doc1);
+    }
+
+    @Test
+    public void should_only_verify_documents_present_in_exception_record() {
+        // given
+        ExceptionRecordToCaseTransformer verifyingService =
+            new ExceptionRecordToCaseTransformer(
+                transformerRegistry(),
+                documentMapper,
+                addressExtractor,
+                new PersonGroupExtractor(10),
+                new ExceptionRecordValidator(new OcrValidationPipeline()),
+                new DocumentIntegrityChecker(),
+                Optional.of(documentUrlVerifier),
+                Optional.empty(),
+                Optional.empty(),
+                meterRegistry
+            );
+        InputScannedDoc doc = new InputScannedDoc("type1", "subtype1", "url1", "dcn1", "filename1", now(), now());
+        ExceptionRecord er = new ExceptionRecord(
+            "er-id",
+            "er-case-type",
+            "er-pobox",
+            "er-jurisdiction",
+            JourneyClassification.EXCEPTION,
+            now(),
+            now(),
+            asList(doc, null),
+            asList(
+                new OcrDataField(OcrFieldNames.FIRST_NAME, "John"),
+                new OcrDataField(OcrFieldNames.LAST_NAME, "Smith"),
+                new OcrDataField(OcrFieldNames.EMAIL, "john@example.com")
+            )
+        );
+
+        // and
+        given(addressExtractor.extractFrom(any(ValidatedOcrData.class))).willReturn(address);
+        given(documentMapper.toCaseDoc(doc, er.id)).willReturn(doc1);
+        given(documentUrlVerifier.verify(singletonList(doc)))
+            .willReturn(singletonList("Document 'dcn1' not found at url1"));
+
+        // when
+        SuccessfulTransformationResponse result = verifyingService.toCase(er);
+
+        // then
+        assertThat(result.warnings).containsExactly(
+            "Scanned document at index 1 is missing",
+            "Document 'dcn1' not found at url1"
+        );
+        assertThat(result.caseCreationDetails.caseData.scannedDocuments).containsExactly(doc1);
+    }
+
+    @Test
+    public void should_add_warning_when_case_with_legacy_id_already_exists() {
+        // given
+        ExceptionRecordToCaseTransformer lookingUpService = serviceWithLegacyIdLookup();
+        ExceptionRecord er = exceptionRecord(
+            JourneyClassification.EXCEPTION,
+            asList(
+                new OcrDataField(OcrFieldNames.LEGACY_ID, "legacy-1"),
+                new OcrDataField(OcrFieldNames.FIRST_NAME, "John"),
+                new OcrDataField(OcrFieldNames.LAST_NAME, "Smith"),
+                new OcrDataField(OcrFieldNames.EMAIL, "john@example.com")
+            )
+        );
+
+        // and
+        given(legacyIdLookupService.findExistingCase("case-type", "legacy-1")).willReturn(Optional.of("1234"));
+
+        // when
+        SuccessfulTransformationResponse result = lookingUpService.toCase(er);
+
+        // then
+        assertThat(result.warnings).containsExactly("Case 1234 with legacy id 'legacy-1' already exists");
+        assertThat(result.caseCreationDetails.caseData.legacyId).isEqualTo("legacy-1");
+    }
+
+    @Test
+    public void should_add_warning_when_legacy_id_lookup_fails() {
+        // given
+        ExceptionRecordToCaseTransformer lookingUpService = serviceWithLegacyIdLookup();
+        ExceptionRecord er = exceptionRecord(
+            JourneyClassification.EXCEPTION,
+            asList(
+                new OcrDataField(OcrFieldNames.LEGACY_ID, "legacy-1"),
+                new OcrDataField(OcrFieldNames.FIRST_NAME, "John"),
+                new OcrDataField(OcrFieldNames.LAST_NAME, "Smith"),
+                new OcrDataField(OcrFieldNames.EMAIL, "john@example.com")
+            )
+        );
+
+        // and
+        given(legacyIdLookupService.findExistingCase("case-type", "legacy-1"))
+            .willThrow(new LegacyIdLookupException("timeout", null));
+
+        // when
+        SuccessfulTransformationResponse result = lookingUpService.toCase(er);
+
+        // then
+        assertThat(result.warnings)
+            .containsExactly("Could not check whether case with legacy id 'legacy-1' already exists");
+    }
+
+    @Test
+    public void should_not_look_up_blank_legacy_id() {
+        // given
+        ExceptionRecordToCaseTransformer lookingUpService = serviceWithLegacyIdLookup();
+
+        // when
+        lookingUpService.toCase(exceptionRecord(JourneyClassification.SUPPLEMENTARY_EVIDENCE, emptyList()));
+
+        // then
+        verifyZeroInteractions(legacyIdLookupService);
+    }
+
+    @Test
+    public void should_add_warning_when_exception_record_repeats_earlier_one() {
+        // given
+        ExceptionRecordToCaseTransformer detectingService =
+            new ExceptionRecordToCaseTransformer(
+                transformerRegistry(),
+                documentMapper,
+                addressExtractor,
+                new PersonGroupExtractor(10),
+                new ExceptionRecordValidator(new OcrValidationPipeline()),
+                new DocumentIntegrityChecker(),
+                Optional.empty(),
+                Optional.empty(),
+                Optional.of(duplicateEnvelopeDetector),
+                meterRegistry
+            );
+        ExceptionRecord er = exceptionRecord(JourneyClassification.SUPPLEMENTARY_EVIDENCE, emptyList());
+
+        // and
+        given(duplicateEnvelopeDetector.findDuplicateOf(er)).willReturn(Optional.of("earlier-er-id"));
+
+        // when
+        SuccessfulTransformationResponse result = detectingService.toCase(er);
+
+        // then
+        assertThat(result.warnings)
+            .containsExactly("Exception record may be a duplicate of exception record earlier-er-id");
+    }
+
+    @Test
+    public void should_only_validate_when_warnings_alone_are_requested() {
+        // given
+        ExceptionRecordToCaseTransformer lookingUpService = serviceWithLegacyIdLookup();
+        ExceptionRecord er = exceptionRecord(
+            JourneyClassification.NEW_APPLICATION,
+            asList(
+                new OcrDataField(OcrFieldNames.LEGACY_ID, "legacy-1"),
+                new OcrDataField(OcrFieldNames.FIRST_NAME, "John"),
+                new OcrDataField(OcrFieldNames.LAST_NAME, "Smith")
+            )
+        );
+
+        // and
+        given(legacyIdLookupService.findExistingCase("case-type", "legacy-1")).willReturn(Optional.of("1234"));
+
+        // when
+        SuccessfulTransformationResponse result = lookingUpService.toCase(er, EnumSet.of(ResponseSection.WARNINGS));
+
+        // then
+        assertThat(result.caseCreationDetails).isNull();
+        assertThat(result.warnings)
+            .containsExactly("'email' is empty", "Case 1234 with legacy id 'legacy-1' already exists");
+        verifyZeroInteractions(addressExtractor, documentMapper);
+    }
+
+    @Test
+    public void should_leave_out_scanned_documents_and_warnings_when_not_requested() {
+        // given
+        ExceptionRecordToCaseTransformer lookingUpService = serviceWithLegacyIdLookup();
+        ExceptionRecord er = exceptionRecord(
+            JourneyClassification.EXCEPTION,
+            asList(
+                new OcrDataField(OcrFieldNames.LEGACY_ID, "legacy-1"),
+                new OcrDataField(OcrFieldNames.FIRST_NAME, "John")
+            )
+        );
+
+        // and
+        given(addressExtractor.extractFrom(any(ValidatedOcrData.class))).willReturn(address);
+
+        // when
+        SuccessfulTransformationResponse result = lookingUpService.toCase(er, EnumSet.of(ResponseSection.CASE_DATA));
+
+        // then
+        assertThat(result.warnings).isNull();
+        assertThat(result.caseCreationDetails.caseData.firstName).isEqualTo("John");
+        assertThat(result.caseCreationDetails.caseData.address).isEqualTo(address);
+        assertThat(result.caseCreationDetails.caseData.scannedDocuments).isNull();
+        verifyZeroInteractions(documentMapper, legacyIdLookupService);
+    }
+
+    @Test
+    public void should_still_reject_invalid_exception_record_when_case_data_is_not_requested() {
+        // given
+        ExceptionRecord er = exceptionRecord(
+            JourneyClassification.NEW_APPLICATION,
+            singletonList(new OcrDataField(OcrFieldNames.EMAIL, "invalid-email"))
+        );
+
+        // when
+        Throwable exc = catchThrowable(() -> service.toCase(er, EnumSet.of(ResponseSection.WARNINGS)));
+
+        // then
+        assertThat(exc).isInstanceOf(InvalidExceptionRecordException.class);
+    }
+
+    @Test
+    public void should_reject_exception_record_without_registered_transformer() {
+        // given
+        ExceptionRecord er = new ExceptionRecord(
+            "er-id",
+            "er-case-type",
+            "er-pobox",
+            "other-jurisdiction",
+            JourneyClassification.SUPPLEMENTARY_EVIDENCE,
+            now(),
+            now(),
+            emptyList(),
+            emptyList()
+        );
+
+        // when
+        Throwable exc = catchThrowable(() -> service.toCase(er));
+
+        // then
+        assertThat(exc)
+            .isInstanceOf(InvalidExceptionRecordException.class)
+            .hasMessageContaining("other-jurisdiction");
+        verifyZeroInteractions(documentMapper);
+    }
+
+    private ExceptionRecordToCaseTransformer serviceWithLegacyIdLookup() {
+        return new ExceptionRecordToCaseTransformer(
+            transformerRegistry(),
+            documentMapper,
+            addressExtractor,
+            new PersonGroupExtractor(10),
+            new ExceptionRecordValidator(new OcrValidationPipeline()),
+            new DocumentIntegrityChecker(),
+            Optional.empty(),
+            Optional.of(legacyIdLookupService),
+            Optional.empty(),
+            meterRegistry
+        );
+    }
+
+    private ExceptionRecord exceptionRecord(JourneyClassification journey, List<OcrDataField> ocrData) {
+        return new ExceptionRecord(
+            "er-id",
+            "er-case-type",
+            "er-pobox",
+            "er-jurisdiction",
+            journey,
+            now(),
+            now(),
+            asList(
+                new InputScannedDoc("type1", "subtype1", "url1", "dcn1", "filename1", now(), now())
+            ),
+            ocrData
+        );
+    }
+
+    private static TransformerRegistry transformerRegistry() {
+        CaseTypeMappingProperties.Mapping mapping = new CaseTypeMappingProperties.Mapping();
+        mapping.setJurisdiction("er-jurisdiction");
+        mapping.setPoBox(TransformerRegistry.ANY);
+        mapping.setCaseTypeId(TransformerRegistry.ANY);
+        mapping.setTargetCaseTypeId("case-type");
+        mapping.setEventId("event");
+
+        CaseTypeMappingProperties properties = new CaseTypeMappingProperties();
+        properties.setMappings(singletonList(mapping));
+        return new TransformerRegistry(properties);
     }
 }
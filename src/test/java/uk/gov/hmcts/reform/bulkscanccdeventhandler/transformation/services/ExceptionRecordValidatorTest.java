@@ -1,6 +1,8 @@
 package uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.services;
 
 import org.junit.jupiter.api.Test;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.common.validation.OcrValidationPipeline;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.common.validation.ValidatedOcrData;
 import uk.gov.hmcts.reform.bulkscanccdeventhandler.ocrvalidation.model.in.OcrDataField;
 import uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.model.in.ExceptionRecord;
 import uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.model.in.JourneyClassification;
@@ -13,15 +15,19 @@ import static java.util.Collections.emptyList;
 import static java.util.stream.Collectors.toList;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+import static uk.gov.hmcts.reform.bulkscanccdeventhandler.common.OcrFieldNames.ADDRESS_LINE_1;
 import static uk.gov.hmcts.reform.bulkscanccdeventhandler.common.OcrFieldNames.CONTACT_NUMBER;
+import static uk.gov.hmcts.reform.bulkscanccdeventhandler.common.OcrFieldNames.COUNTRY;
 import static uk.gov.hmcts.reform.bulkscanccdeventhandler.common.OcrFieldNames.EMAIL;
 import static uk.gov.hmcts.reform.bulkscanccdeventhandler.common.OcrFieldNames.FIRST_NAME;
 import static uk.gov.hmcts.reform.bulkscanccdeventhandler.common.OcrFieldNames.LAST_NAME;
+import static uk.gov.hmcts.reform.bulkscanccdeventhandler.common.OcrFieldNames.POST_CODE;
 import static uk.gov.hmcts.reform.bulkscanccdeventhandler.common.OcrFieldNames.getRequiredFields;
 
 public class ExceptionRecordValidatorTest {
 
-    private final ExceptionRecordValidator validator = new ExceptionRecordValidator();
+    private final ExceptionRecordValidator validator = new ExceptionRecordValidator(new OcrValidationPipeline());
 
     @Test
     public void should_throw_exception_if_required_ocr_fields_are_missing() {
@@ -29,37 +35,94 @@ public class ExceptionRecordValidatorTest {
         ExceptionRecord er =
             exceptionRecordWithOcr(
                 asList(
-                    new OcrDataField(CONTACT_NUMBER, "555-555-555"),
+                    new OcrDataField(CONTACT_NUMBER, "5555555555"),
                     new OcrDataField(EMAIL, "test@example.com")
                 )
             );
 
         // when
-        Throwable exc = catchThrowable(() -> validator.assertIsValid(er));
+        Throwable exc = catchThrowable(() -> validator.validate(er));
 
         // then
-        assertThat(exc)
-            .isInstanceOf(InvalidExceptionRecordException.class)
-            .hasMessageContaining(FIRST_NAME)
-            .hasMessageContaining(LAST_NAME);
+        assertThat(exc).isInstanceOf(InvalidExceptionRecordException.class);
+        assertThat(((InvalidExceptionRecordException) exc).getErrors())
+            .containsExactly("'first_name' is required", "'last_name' is required");
     }
 
     @Test
     public void should_not_throw_exception_if_exception_record_is_valid() {
         // given
-        ExceptionRecord er =
-            exceptionRecordWithOcr(
-                getRequiredFields()
-                    .stream()
-                    .map(req -> new OcrDataField(req, "value"))
-                    .collect(toList())
-            );
+        List<OcrDataField> ocrData = getRequiredFields()
+            .stream()
+            .map(req -> new OcrDataField(req, "value"))
+            .collect(toList());
+        ocrData.add(new OcrDataField(EMAIL, "hello@test.com"));
+
+        // when
+        ValidatedOcrData result = validator.validate(exceptionRecordWithOcr(ocrData));
+
+        // then
+        assertThat(result.warnings).isEmpty();
+        assertThat(result.getValue(FIRST_NAME)).isEqualTo("value");
+        assertThat(result.getValue(LAST_NAME)).isEqualTo("value");
+        assertThat(result.getValue(EMAIL)).isEqualTo("hello@test.com");
+    }
+
+    @Test
+    public void should_return_warning_when_email_is_not_provided() {
+        assertSoftly(softly -> {
+            softly.assertThat(validator.validate(exceptionRecordWithEmail("")).warnings)
+                .containsExactly("'email' is empty");
+            softly.assertThat(validator.validate(exceptionRecordWithEmail(null)).warnings)
+                .containsExactly("'email' is empty");
+            softly.assertThat(validator.validate(exceptionRecordWithOcr(requiredFields())).warnings)
+                .containsExactly("'email' is empty");
+        });
+    }
+
+    @Test
+    public void should_throw_exception_if_email_or_phone_number_is_invalid() {
+        // given
+        List<OcrDataField> ocrData = requiredFields();
+        ocrData.add(new OcrDataField(EMAIL, "invalid-email"));
+        ocrData.add(new OcrDataField(CONTACT_NUMBER, "555-555-555"));
 
         // when
-        Throwable exc = catchThrowable(() -> validator.assertIsValid(er));
+        Throwable exc = catchThrowable(() -> validator.validate(exceptionRecordWithOcr(ocrData)));
 
         // then
-        assertThat(exc).isNull();
+        assertThat(exc).isInstanceOf(InvalidExceptionRecordException.class);
+        assertThat(((InvalidExceptionRecordException) exc).getErrors())
+            .containsExactly("Invalid email address", "Invalid phone number");
+    }
+
+    @Test
+    public void should_capture_address_fields() {
+        // given
+        List<OcrDataField> ocrData = requiredFields();
+        ocrData.add(new OcrDataField(ADDRESS_LINE_1, "1 High Street"));
+        ocrData.add(new OcrDataField(POST_CODE, "LS1 4AP"));
+
+        // when
+        ValidatedOcrData result = validator.validate(exceptionRecordWithOcr(ocrData));
+
+        // then
+        assertThat(result.getValue(ADDRESS_LINE_1)).isEqualTo("1 High Street");
+        assertThat(result.getValue(POST_CODE)).isEqualTo("LS1 4AP");
+        assertThat(result.getValue(COUNTRY)).isNull();
+    }
+
+    private ExceptionRecord exceptionRecordWithEmail(String email) {
+        List<OcrDataField> ocrData = requiredFields();
+        ocrData.add(new OcrDataField(EMAIL, email));
+        return exceptionRecordWithOcr(ocrData);
+    }
+
+    private List<OcrDataField> requiredFields() {
+        return getRequiredFields()
+            .stream()
+            .map(req -> new OcrDataField(req, "value"))
+            .collect(toList());
     }
 
     private ExceptionRecord exceptionRecordWithOcr(List<OcrDataField> ocrData) {
@@ -0,0 +1,216 @@
+package uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.services;
+
+import com.google.common.collect.ImmutableMap;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+public class LegacyIdLookupServiceTest {
+
+    private final StubLegacyIdSearch search = new StubLegacyIdSearch(ImmutableMap.of("legacy-1", "1111"));
+    private final ExecutorService callers = Executors.newFixedThreadPool(8);
+
+    private LegacyIdLookupService service;
+
+    @AfterEach
+    public void tearDown() {
+        callers.shutdownNow();
+        if (service != null) {
+            service.shutdown();
+        }
+    }
+
+    @Test
+    public void should_return_reference_of_existing_case() {
+        // given
+        service = new LegacyIdLookupService(search, 10, 10, 2000, 100, 60, 4, 100);
+
+        // when
+        Optional<String> existing = service.findExistingCase("case-type", "legacy-1");
+        Optional<String> missing = service.findExistingCase("case-type", "legacy-2");
+
+        // then
+        assertThat(existing).contains("1111");
+        assertThat(missing).isEmpty();
+    }
+
+    @Test
+    public void should_coalesce_concurrent_lookups_into_one_search() throws Exception {
+        // given
+        service = new LegacyIdLookupService(search, 100, 200, 5000, 100, 60, 4, 100);
+
+        // when
+        List<Future<Optional<String>>> results = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            String legacyId = "legacy-" + (i % 3);
+            results.add(callers.submit(() -> service.findExistingCase("case-type", legacyId)));
+        }
+
+        // then
+        assertThat(results.get(1).get(5, TimeUnit.SECONDS)).contains("1111");
+        assertThat(results.get(4).get(5, TimeUnit.SECONDS)).contains("1111");
+        assertThat(results.get(0).get(5, TimeUnit.SECONDS)).isEmpty();
+        assertThat(search.calls).hasSize(1);
+        assertThat(search.calls.get(0)).containsExactlyInAnyOrder("legacy-0", "legacy-1", "legacy-2");
+    }
+
+    @Test
+    public void should_search_as_soon_as_batch_is_full() {
+        // given
+        service = new LegacyIdLookupService(search, 1, 60_000, 2000, 100, 60, 4, 100);
+
+        // when
+        Optional<String> existing = service.findExistingCase("case-type", "legacy-1");
+
+        // then
+        assertThat(existing).contains("1111");
+    }
+
+    @Test
+    public void should_search_each_case_type_separately() throws Exception {
+        // given
+        service = new LegacyIdLookupService(search, 100, 200, 5000, 100, 60, 4, 100);
+
+        // when
+        Future<Optional<String>> first = callers.submit(() -> service.findExistingCase("case-type-1", "legacy-1"));
+        Future<Optional<String>> second = callers.submit(() -> service.findExistingCase("case-type-2", "legacy-1"));
+        first.get(5, TimeUnit.SECONDS);
+        second.get(5, TimeUnit.SECONDS);
+
+        // then
+        assertThat(search.caseTypes).containsExactlyInAnyOrder("case-type-1", "case-type-2");
+    }
+
+    @Test
+    public void should_serve_repeated_lookups_from_cache() {
+        // given
+        service = new LegacyIdLookupService(search, 10, 10, 2000, 100, 60, 4, 100);
+
+        // when
+        service.findExistingCase("case-type", "legacy-1");
+        service.findExistingCase("case-type", "legacy-2");
+        Optional<String> existing = service.findExistingCase("case-type", "legacy-1");
+        Optional<String> missing = service.findExistingCase("case-type", "legacy-2");
+
+        // then
+        assertThat(existing).contains("1111");
+        assertThat(missing).isEmpty();
+        assertThat(search.calls).hasSize(2);
+    }
+
+    @Test
+    public void should_not_cache_failed_searches() {
+        // given
+        search.failuresLeft = 1;
+        service = new LegacyIdLookupService(search, 10, 10, 2000, 100, 60, 4, 100);
+
+        // when
+        Throwable exc = catchThrowable(() -> service.findExistingCase("case-type", "legacy-1"));
+        Optional<String> retried = service.findExistingCase("case-type", "legacy-1");
+
+        // then
+        assertThat(exc)
+            .isInstanceOf(LegacyIdLookupException.class)
+            .hasMessage("Failed to look up legacy id legacy-1");
+        assertThat(retried).contains("1111");
+    }
+
+    @Test
+    public void should_fail_when_search_does_not_finish_in_time() {
+        // given
+        search.release = new CountDownLatch(1);
+        service = new LegacyIdLookupService(search, 10, 10, 100, 100, 60, 4, 100);
+
+        // when
+        Throwable exc = catchThrowable(() -> service.findExistingCase("case-type", "legacy-1"));
+        search.release.countDown();
+
+        // then
+        assertThat(exc)
+            .isInstanceOf(LegacyIdLookupException.class)
+            .hasMessage("Timed out looking up legacy id legacy-1");
+    }
+
+    @Test
+    public void should_fail_lookup_when_search_queue_is_full() throws Exception {
+        // given
+        search.release = new CountDownLatch(1);
+        service = new LegacyIdLookupService(search, 100, 200, 5000, 100, 60, 1, 1);
+
+        // when
+        // one search per case type: one runs, one waits in the queue and one finds no room
+        List<Future<Optional<String>>> lookups = new ArrayList<>();
+        for (int i = 1; i <= 3; i++) {
+            String caseTypeId = "case-type-" + i;
+            lookups.add(callers.submit(() -> service.findExistingCase(caseTypeId, "legacy-1")));
+        }
+        Thread.sleep(1000);
+        search.release.countDown();
+
+        // then
+        List<Throwable> failures = new ArrayList<>();
+        for (Future<Optional<String>> lookup : lookups) {
+            Throwable exc = catchThrowable(() -> assertThat(lookup.get(5, TimeUnit.SECONDS)).contains("1111"));
+            if (exc != null) {
+                failures.add(exc);
+            }
+        }
+
+        assertThat(failures).hasSize(1);
+        assertThat(failures.get(0)).hasCauseInstanceOf(LegacyIdLookupException.class);
+        assertThat(search.calls).hasSize(2);
+    }
+
+    /**
+     * Local stand-in for CCD search.
+     */
+    private static class StubLegacyIdSearch implements LegacyIdSearch {
+
+        final Map<String, String> cases;
+        final List<List<String>> calls = new CopyOnWriteArrayList<>();
+        final List<String> caseTypes = new CopyOnWriteArrayList<>();
+        volatile int failuresLeft;
+        volatile CountDownLatch release;
+
+        StubLegacyIdSearch(Map<String, String> cases) {
+            this.cases = cases;
+        }
+
+        @Override
+        public Map<String, String> findCases(String caseTypeId, Collection<String> legacyIds) {
+            calls.add(new ArrayList<>(legacyIds));
+            caseTypes.add(caseTypeId);
+
+            if (release != null) {
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException exc) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            if (failuresLeft > 0) {
+                failuresLeft--;
+                throw new IllegalStateException("CCD unavailable");
+            }
+
+            Map<String, String> found = new HashMap<>();
+            legacyIds.stream().filter(cases::containsKey).forEach(id -> found.put(id, cases.get(id)));
+            return found;
+        }
+    }
+}
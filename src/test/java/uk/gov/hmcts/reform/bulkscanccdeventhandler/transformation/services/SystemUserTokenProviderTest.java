@@ -0,0 +1,52 @@
+package uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.services;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.util.MultiValueMap;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.client.IdamApi;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.client.model.IdamTokenResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+public class SystemUserTokenProviderTest {
+
+    @Mock private IdamApi idamApi;
+
+    @Test
+    public void should_request_token_of_system_user_once_within_its_lifetime() {
+        // given
+        given(idamApi.generateOpenIdToken(any())).willReturn(new IdamTokenResponse("access-token"));
+        SystemUserTokenProvider provider = new SystemUserTokenProvider(
+            idamApi,
+            "system@example.com",
+            "password",
+            "client-id",
+            "client-secret",
+            "http://localhost/receiver",
+            3600
+        );
+
+        // when
+        String first = provider.getUserToken();
+        String second = provider.getUserToken();
+
+        // then
+        assertThat(first).isEqualTo("Bearer access-token");
+        assertThat(second).isEqualTo(first);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<MultiValueMap<String, String>> form = ArgumentCaptor.forClass(MultiValueMap.class);
+        verify(idamApi, times(1)).generateOpenIdToken(form.capture());
+        assertThat(form.getValue().getFirst("grant_type")).isEqualTo("password");
+        assertThat(form.getValue().getFirst("username")).isEqualTo("system@example.com");
+        assertThat(form.getValue().getFirst("client_id")).isEqualTo("client-id");
+    }
+}
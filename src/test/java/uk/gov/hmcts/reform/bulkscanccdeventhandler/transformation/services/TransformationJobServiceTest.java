@@ -0,0 +1,142 @@
+package uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.services;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.model.in.ExceptionRecord;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.model.out.SuccessfulTransformationResponse;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.model.out.TransformationJobResponse;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.model.out.TransformationJobStatus.COMPLETED;
+import static uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.model.out.TransformationJobStatus.FAILED;
+import static uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.model.out.TransformationJobStatus.PENDING;
+
+@ExtendWith(MockitoExtension.class)
+public class TransformationJobServiceTest {
+
+    @Mock private ExceptionRecordToCaseTransformer transformer;
+
+    private TransformationJobService service;
+
+    @AfterEach
+    public void tearDown() {
+        service.shutdown();
+    }
+
+    @Test
+    public void should_complete_job_with_transformation_result() throws Exception {
+        // given
+        service = new TransformationJobService(transformer, new SimpleMeterRegistry(), 1, 10, 60);
+        SuccessfulTransformationResponse transformationResult = new SuccessfulTransformationResponse(null, emptyList());
+        given(transformer.toCase(any())).willReturn(transformationResult);
+
+        // when
+        TransformationJobResponse submitted = service.submit(mock(ExceptionRecord.class));
+        TransformationJobResponse finished = waitForJob(submitted.jobId);
+
+        // then
+        assertThat(submitted.status).isEqualTo(PENDING);
+        assertThat(finished.status).isEqualTo(COMPLETED);
+        assertThat(finished.result).isSameAs(transformationResult);
+        assertThat(finished.errors).isNull();
+    }
+
+    @Test
+    public void should_fail_job_with_validation_errors() throws Exception {
+        // given
+        service = new TransformationJobService(transformer, new SimpleMeterRegistry(), 1, 10, 60);
+        given(transformer.toCase(any())).willThrow(new InvalidExceptionRecordException(asList("error1", "error2")));
+
+        // when
+        TransformationJobResponse finished = waitForJob(service.submit(mock(ExceptionRecord.class)).jobId);
+
+        // then
+        assertThat(finished.status).isEqualTo(FAILED);
+        assertThat(finished.result).isNull();
+        assertThat(finished.errors).containsExactly("error1", "error2");
+    }
+
+    @Test
+    public void should_reject_job_when_queue_is_full() throws Exception {
+        // given
+        service = new TransformationJobService(transformer, new SimpleMeterRegistry(), 1, 1, 60);
+        CountDownLatch workerBlocked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        given(transformer.toCase(any())).will(invocation -> {
+            workerBlocked.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return null;
+        });
+
+        service.submit(mock(ExceptionRecord.class)); // taken by the only worker
+        workerBlocked.await(5, TimeUnit.SECONDS);
+        service.submit(mock(ExceptionRecord.class)); // waits in the queue
+
+        // when
+        Throwable exc = catchThrowable(() -> service.submit(mock(ExceptionRecord.class)));
+
+        // then
+        assertThat(exc).isInstanceOf(TransformationQueueFullException.class);
+        assertThat(service.getQueueDepth()).isEqualTo(1);
+
+        release.countDown();
+    }
+
+    @Test
+    public void should_not_return_job_after_its_result_expired() throws Exception {
+        // given
+        service = new TransformationJobService(transformer, new SimpleMeterRegistry(), 1, 10, 0);
+        CountDownLatch done = new CountDownLatch(1);
+        given(transformer.toCase(any())).will(invocation -> {
+            done.countDown();
+            return null;
+        });
+
+        String jobId = service.submit(mock(ExceptionRecord.class)).jobId;
+        done.await(5, TimeUnit.SECONDS);
+        Thread.sleep(100);
+
+        // when
+        Throwable exc = catchThrowable(() -> service.getJob(jobId));
+
+        // then
+        assertThat(exc).isInstanceOf(TransformationJobNotFoundException.class);
+    }
+
+    @Test
+    public void should_throw_exception_for_unknown_job() {
+        // given
+        service = new TransformationJobService(transformer, new SimpleMeterRegistry(), 1, 10, 60);
+
+        // when
+        Throwable exc = catchThrowable(() -> service.getJob("unknown"));
+
+        // then
+        assertThat(exc)
+            .isInstanceOf(TransformationJobNotFoundException.class)
+            .hasMessageContaining("unknown");
+    }
+
+    private TransformationJobResponse waitForJob(String jobId) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        TransformationJobResponse job = service.getJob(jobId);
+        while (job.status == PENDING && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+            job = service.getJob(jobId);
+        }
+        return job;
+    }
+}
@@ -0,0 +1,118 @@
+package uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.services;
+
+import org.junit.jupiter.api.Test;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.model.in.ExceptionRecord;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.model.in.JourneyClassification;
+
+import static java.time.LocalDateTime.now;
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+public class TransformerRegistryTest {
+
+    private final TransformerRegistry registry = registry(
+        mapping("bulkscan", "*", "*", "Bulk_Scanned", "createCase"),
+        mapping("bulkscan", "12345", "*", "PoBox_Case", "createPoBoxCase"),
+        mapping("bulkscan", "*", "special", "Special_Case", "createSpecialCase"),
+        mapping("bulkscan", "12345", "special", "Most_Specific_Case", "createMostSpecificCase"),
+        mapping("other", "999", "*", "Other_Case", "createOtherCase")
+    );
+
+    @Test
+    public void should_select_the_most_specific_registration() {
+        assertThat(registry.getTransformer(exceptionRecord("bulkscan", "12345", "special")).caseTypeId)
+            .isEqualTo("Most_Specific_Case");
+        assertThat(registry.getTransformer(exceptionRecord("bulkscan", "12345", "regular")).caseTypeId)
+            .isEqualTo("PoBox_Case");
+        assertThat(registry.getTransformer(exceptionRecord("bulkscan", "54321", "special")).caseTypeId)
+            .isEqualTo("Special_Case");
+        assertThat(registry.getTransformer(exceptionRecord("bulkscan", "54321", "regular")).caseTypeId)
+            .isEqualTo("Bulk_Scanned");
+    }
+
+    @Test
+    public void should_match_jurisdiction_regardless_of_case() {
+        // when
+        CaseTransformer transformer = registry.getTransformer(exceptionRecord("BULKSCAN", null, null));
+
+        // then
+        assertThat(transformer.caseTypeId).isEqualTo("Bulk_Scanned");
+        assertThat(transformer.eventId).isEqualTo("createCase");
+    }
+
+    @Test
+    public void should_fail_when_no_transformer_is_registered() {
+        // when
+        Throwable unknownJurisdiction = catchThrowable(
+            () -> registry.getTransformer(exceptionRecord("unknown", "12345", "special"))
+        );
+        Throwable unknownPoBox = catchThrowable(() -> registry.getTransformer(exceptionRecord("other", "1", "x")));
+        Throwable noJurisdiction = catchThrowable(() -> registry.getTransformer(exceptionRecord(null, "1", "x")));
+
+        // then
+        assertThat(unknownJurisdiction)
+            .isInstanceOf(InvalidExceptionRecordException.class)
+            .hasMessageContaining("No transformer registered for jurisdiction 'unknown', PO box '12345'");
+        assertThat(unknownPoBox).isInstanceOf(InvalidExceptionRecordException.class);
+        assertThat(noJurisdiction).isInstanceOf(InvalidExceptionRecordException.class);
+    }
+
+    @Test
+    public void should_reject_duplicate_registrations() {
+        // when
+        Throwable exc = catchThrowable(() -> registry(
+            mapping("bulkscan", "*", "*", "Case_1", "event"),
+            mapping("BulkScan", "*", "*", "Case_2", "event")
+        ));
+
+        // then
+        assertThat(exc).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void should_reject_incomplete_registrations() {
+        // when
+        Throwable exc = catchThrowable(() -> registry(mapping("bulkscan", "*", "*", "Case", null)));
+
+        // then
+        assertThat(exc).isInstanceOf(IllegalStateException.class);
+    }
+
+    private static TransformerRegistry registry(CaseTypeMappingProperties.Mapping... mappings) {
+        CaseTypeMappingProperties properties = new CaseTypeMappingProperties();
+        properties.setMappings(asList(mappings));
+        return new TransformerRegistry(properties);
+    }
+
+    private static CaseTypeMappingProperties.Mapping mapping(
+        String jurisdiction,
+        String poBox,
+        String caseTypeId,
+        String targetCaseTypeId,
+        String eventId
+    ) {
+        CaseTypeMappingProperties.Mapping mapping = new CaseTypeMappingProperties.Mapping();
+        mapping.setJurisdiction(jurisdiction);
+        mapping.setPoBox(poBox);
+        mapping.setCaseTypeId(caseTypeId);
+        mapping.setTargetCaseTypeId(targetCaseTypeId);
+        mapping.setEventId(eventId);
+        return mapping;
+    }
+
+    private static ExceptionRecord exceptionRecord(String jurisdiction, String poBox, String caseTypeId) {
+        return new ExceptionRecord(
+            "er-id",
+            caseTypeId,
+            poBox,
+            jurisdiction,
+            JourneyClassification.NEW_APPLICATION,
+            now(),
+            now(),
+            emptyList(),
+            emptyList()
+        );
+    }
+}
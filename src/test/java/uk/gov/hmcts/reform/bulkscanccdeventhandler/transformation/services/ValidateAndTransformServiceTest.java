@@ -0,0 +1,105 @@
+package uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.services;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.ocrvalidation.services.OcrDataValidator;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.ocrvalidation.services.OcrValidationResult;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.model.in.ExceptionRecord;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.model.in.JourneyClassification;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.model.out.CaseCreationDetails;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.model.out.SuccessfulTransformationResponse;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.model.out.ValidateAndTransformResponse;
+
+import static java.time.LocalDateTime.now;
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verifyZeroInteractions;
+import static uk.gov.hmcts.reform.bulkscanccdeventhandler.ocrvalidation.model.FormType.PERSONAL;
+import static uk.gov.hmcts.reform.bulkscanccdeventhandler.ocrvalidation.model.out.ValidationStatus.ERRORS;
+import static uk.gov.hmcts.reform.bulkscanccdeventhandler.ocrvalidation.model.out.ValidationStatus.SUCCESS;
+import static uk.gov.hmcts.reform.bulkscanccdeventhandler.ocrvalidation.model.out.ValidationStatus.WARNINGS;
+
+@ExtendWith(MockitoExtension.class)
+public class ValidateAndTransformServiceTest {
+
+    @Mock private OcrDataValidator ocrDataValidator;
+    @Mock private ExceptionRecordToCaseTransformer transformer;
+    @Mock private CaseCreationDetails caseCreationDetails;
+
+    private ValidateAndTransformService service;
+
+    private final ExceptionRecord exceptionRecord = new ExceptionRecord(
+        "er-id",
+        "er-case-type",
+        "er-pobox",
+        "er-jurisdiction",
+        JourneyClassification.NEW_APPLICATION,
+        now(),
+        now(),
+        emptyList(),
+        emptyList()
+    );
+
+    @BeforeEach
+    public void setUp() {
+        service = new ValidateAndTransformService(ocrDataValidator, transformer);
+    }
+
+    @Test
+    public void should_not_transform_exception_record_with_invalid_ocr_data() {
+        // given
+        given(ocrDataValidator.validate(PERSONAL, exceptionRecord.ocrDataFields))
+            .willReturn(new OcrValidationResult(singletonList("warning"), singletonList("error"), ERRORS));
+
+        // when
+        ValidateAndTransformResponse result = service.validateAndTransform(PERSONAL, exceptionRecord);
+
+        // then
+        assertThat(result.status).isEqualTo(ERRORS);
+        assertThat(result.errors).containsExactly("error");
+        assertThat(result.warnings).containsExactly("warning");
+        assertThat(result.caseCreationDetails).isNull();
+        verifyZeroInteractions(transformer);
+    }
+
+    @Test
+    public void should_combine_warnings_of_validation_and_transformation() {
+        // given
+        given(ocrDataValidator.validate(PERSONAL, exceptionRecord.ocrDataFields))
+            .willReturn(new OcrValidationResult(asList("w1", "w2"), emptyList(), WARNINGS));
+        given(transformer.toCase(exceptionRecord))
+            .willReturn(new SuccessfulTransformationResponse(caseCreationDetails, asList("w2", "w3")));
+
+        // when
+        ValidateAndTransformResponse result = service.validateAndTransform(PERSONAL, exceptionRecord);
+
+        // then
+        assertThat(result.status).isEqualTo(WARNINGS);
+        assertThat(result.errors).isEmpty();
+        assertThat(result.warnings).containsExactly("w1", "w2", "w3");
+        assertThat(result.caseCreationDetails).isSameAs(caseCreationDetails);
+    }
+
+    @Test
+    public void should_return_success_when_there_are_no_warnings() {
+        // given
+        given(ocrDataValidator.validate(PERSONAL, exceptionRecord.ocrDataFields))
+            .willReturn(new OcrValidationResult(emptyList(), emptyList(), SUCCESS));
+        given(transformer.toCase(exceptionRecord))
+            .willReturn(new SuccessfulTransformationResponse(caseCreationDetails, emptyList()));
+
+        // when
+        ValidateAndTransformResponse result = service.validateAndTransform(PERSONAL, exceptionRecord);
+
+        // then
+        assertThat(result.status).isEqualTo(SUCCESS);
+        assertThat(result.warnings).isEmpty();
+        assertThat(result.caseCreationDetails).isSameAs(caseCreationDetails);
+    }
+}
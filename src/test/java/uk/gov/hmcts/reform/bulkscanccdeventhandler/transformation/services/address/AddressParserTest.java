@@ -0,0 +1,124 @@
+package uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.services.address;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ByteArrayResource;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.model.out.Address;
+
+import java.io.IOException;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class AddressParserTest {
+
+    private static final String GAZETTEER =
+        "COUNTRY|England\n"
+            + "COUNTRY|Wales\n"
+            + "COUNTY|Kent\n"
+            + "COUNTY|Durham\n"
+            + "TOWN|Durham\n"
+            + "TOWN|Leeds\n"
+            + "TOWN|Canterbury\n";
+
+    private AddressParser parser;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        parser = new AddressParser(new ByteArrayResource(GAZETTEER.getBytes(UTF_8)));
+    }
+
+    @Test
+    public void should_leave_well_formed_address_unchanged() {
+        // given
+        Address address = new Address("1 High St", "Village", null, "CT1 2AB", "Canterbury", "Kent", "England");
+
+        // when
+        Address result = parser.parse(address);
+
+        // then
+        assertThat(result).isEqualToComparingFieldByField(address);
+    }
+
+    @Test
+    public void should_move_places_from_address_lines_to_empty_fields() {
+        // given
+        Address address = new Address("1 High St", "Canterbury", "Kent", null, null, null, null);
+
+        // when
+        Address result = parser.parse(address);
+
+        // then
+        assertThat(result).isEqualToComparingFieldByField(
+            new Address("1 High St", null, null, null, "Canterbury", "Kent", null)
+        );
+    }
+
+    @Test
+    public void should_move_lines_up_only_in_place_of_removed_lines() {
+        // given
+        Address address = new Address("1 High St", "Leeds", "Chapel Allerton", null, null, null, null);
+
+        // when
+        Address result = parser.parse(address);
+
+        // then
+        assertThat(result).isEqualToComparingFieldByField(
+            new Address("1 High St", "Chapel Allerton", null, null, "Leeds", null, null)
+        );
+    }
+
+    @Test
+    public void should_extract_postcode_from_end_of_address_line() {
+        // given
+        Address address = new Address("1 High St", "Leeds, LS1 4AP", null, null, null, null, null);
+
+        // when
+        Address result = parser.parse(address);
+
+        // then
+        assertThat(result).isEqualToComparingFieldByField(
+            new Address("1 High St", null, null, "LS1 4AP", "Leeds", null, null)
+        );
+    }
+
+    @Test
+    public void should_move_misplaced_place_and_postcode_between_fields() {
+        // given
+        Address address = new Address("1 High St", null, null, null, "Kent", "CT1 2AB", null);
+
+        // when
+        Address result = parser.parse(address);
+
+        // then
+        assertThat(result).isEqualToComparingFieldByField(
+            new Address("1 High St", null, null, "CT1 2AB", null, "Kent", null)
+        );
+    }
+
+    @Test
+    public void should_not_overwrite_filled_fields() {
+        // given
+        Address address = new Address("1 High St", "Leeds", null, "LS1 4AP", "Canterbury", null, "Wales");
+
+        // when
+        Address result = parser.parse(address);
+
+        // then
+        assertThat(result).isEqualToComparingFieldByField(address);
+    }
+
+    @Test
+    public void should_put_place_of_several_types_into_first_empty_matching_field() {
+        // given
+        Address address = new Address("1 High St", "Durham", null, null, "Leeds", null, null);
+
+        // when
+        Address result = parser.parse(address);
+
+        // then
+        assertThat(result).isEqualToComparingFieldByField(
+            new Address("1 High St", null, null, null, "Leeds", "Durham", null)
+        );
+    }
+}
@@ -0,0 +1,102 @@
+package uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.services.address;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class GazetteerTrieTest {
+
+    @Test
+    public void should_find_place_ignoring_case_punctuation_and_spacing() {
+        // given
+        GazetteerTrie trie = new GazetteerTrie();
+        trie.add("Stoke-on-Trent", PlaceType.TOWN);
+        trie.add("King's Lynn", PlaceType.TOWN);
+
+        // when
+        int stoke = trie.lookup("  stoke on  TRENT ");
+        int kingsLynn = trie.lookup("Kings Lynn.");
+
+        // then
+        assertThat(PlaceType.TOWN.in(stoke)).isTrue();
+        assertThat(PlaceType.TOWN.in(kingsLynn)).isTrue();
+    }
+
+    @Test
+    public void should_return_all_types_of_place() {
+        // given
+        GazetteerTrie trie = new GazetteerTrie();
+        trie.add("Durham", PlaceType.TOWN);
+        trie.add("Durham", PlaceType.COUNTY);
+
+        // when
+        int types = trie.lookup("Durham");
+
+        // then
+        assertThat(PlaceType.TOWN.in(types)).isTrue();
+        assertThat(PlaceType.COUNTY.in(types)).isTrue();
+        assertThat(PlaceType.COUNTRY.in(types)).isFalse();
+    }
+
+    @Test
+    public void should_not_match_prefix_or_extension_of_place_name() {
+        // given
+        GazetteerTrie trie = new GazetteerTrie();
+        trie.add("London", PlaceType.TOWN);
+
+        // when
+        // then
+        assertThat(trie.lookup("Lond")).isZero();
+        assertThat(trie.lookup("London Road")).isZero();
+        assertThat(trie.lookup("")).isZero();
+        assertThat(trie.lookup(null)).isZero();
+    }
+
+    @Test
+    public void should_share_nodes_between_names_with_common_prefix() {
+        // given
+        GazetteerTrie trie = new GazetteerTrie();
+
+        // when
+        trie.add("London", PlaceType.TOWN);
+        trie.add("Londonderry", PlaceType.TOWN);
+
+        // then
+        assertThat(trie.nodeCount()).isEqualTo(1 + "Londonderry".length());
+    }
+
+    @Test
+    public void should_load_entries_skipping_comments_and_blank_lines() throws Exception {
+        // given
+        InputStream gazetteer = stream("# comment\n\nCOUNTRY|Wales\nCOUNTY|Kent\n");
+
+        // when
+        GazetteerTrie trie = GazetteerTrie.load(gazetteer);
+
+        // then
+        assertThat(PlaceType.COUNTRY.in(trie.lookup("wales"))).isTrue();
+        assertThat(PlaceType.COUNTY.in(trie.lookup("KENT"))).isTrue();
+        assertThat(trie.lookup("comment")).isZero();
+    }
+
+    @Test
+    public void should_reject_entry_without_type() {
+        // given
+        InputStream gazetteer = stream("COUNTRY|Wales\nKent\n");
+
+        // when
+        // then
+        assertThatThrownBy(() -> GazetteerTrie.load(gazetteer))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("line 2");
+    }
+
+    private static InputStream stream(String content) {
+        return new ByteArrayInputStream(content.getBytes(UTF_8));
+    }
+}
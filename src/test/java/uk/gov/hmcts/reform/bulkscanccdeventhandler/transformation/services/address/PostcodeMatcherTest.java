@@ -0,0 +1,42 @@
+package uk.gov.hmcts.reform.bulkscanccdeventhandler.transformation.services.address;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class PostcodeMatcherTest {
+
+    @Test
+    public void should_recognise_all_postcode_formats() {
+        // when
+        // then
+        assertThat(PostcodeMatcher.isPostcode("M1 1AE")).isTrue();
+        assertThat(PostcodeMatcher.isPostcode("B33 8TH")).isTrue();
+        assertThat(PostcodeMatcher.isPostcode("CR2 6XH")).isTrue();
+        assertThat(PostcodeMatcher.isPostcode("DN55 1PT")).isTrue();
+        assertThat(PostcodeMatcher.isPostcode("W1A 1HQ")).isTrue();
+        assertThat(PostcodeMatcher.isPostcode("EC1A 1BB")).isTrue();
+        assertThat(PostcodeMatcher.isPostcode("ec1a1bb")).isTrue();
+    }
+
+    @Test
+    public void should_not_recognise_other_text_as_postcode() {
+        // when
+        // then
+        assertThat(PostcodeMatcher.isPostcode("London")).isFalse();
+        assertThat(PostcodeMatcher.isPostcode("12 3AB")).isFalse();
+        assertThat(PostcodeMatcher.isPostcode("ABCDE 1AB")).isFalse();
+        assertThat(PostcodeMatcher.isPostcode("")).isFalse();
+        assertThat(PostcodeMatcher.isPostcode(null)).isFalse();
+    }
+
+    @Test
+    public void should_find_postcode_at_end_of_line() {
+        // when
+        // then
+        assertThat(PostcodeMatcher.findAtEnd("Leeds LS1 4AP")).isEqualTo(6);
+        assertThat(PostcodeMatcher.findAtEnd("Leeds, LS1 4AP.")).isEqualTo(7);
+        assertThat(PostcodeMatcher.findAtEnd("Flat 2A, 10 High Street")).isEqualTo(-1);
+        assertThat(PostcodeMatcher.findAtEnd("XLS1 4AP1")).isEqualTo(-1);
+    }
+}
@@ -0,0 +1,49 @@
+package uk.gov.hmcts.reform.bulkscanccdeventhandler.validators;
+
+import org.junit.jupiter.api.Test;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.common.validation.InvalidRequestException;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.ocrvalidation.model.in.OcrDataField;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.ocrvalidation.model.in.OcrDataValidationRequest;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.ocrvalidation.model.in.OcrDataValidationRequestValidator;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class OcrDataValidationRequestValidatorTest {
+
+    @Test
+    public void should_accept_request_with_ocr_data_fields() {
+        // given
+        OcrDataValidationRequest request =
+            new OcrDataValidationRequest(singletonList(new OcrDataField("first_name", "John")));
+
+        // when
+        // then
+        assertThatCode(() -> OcrDataValidationRequestValidator.validate(request)).doesNotThrowAnyException();
+    }
+
+    @Test
+    public void should_reject_request_without_ocr_data_fields() {
+        // given
+        OcrDataValidationRequest request = new OcrDataValidationRequest(null);
+
+        // when
+        // then
+        assertThatThrownBy(() -> OcrDataValidationRequestValidator.validate(request))
+            .isInstanceOf(InvalidRequestException.class)
+            .hasMessage("ocr_data_fields must not be empty");
+    }
+
+    @Test
+    public void should_reject_request_with_empty_ocr_data_fields() {
+        // given
+        OcrDataValidationRequest request = new OcrDataValidationRequest(emptyList());
+
+        // when
+        // then
+        assertThatThrownBy(() -> OcrDataValidationRequestValidator.validate(request))
+            .isInstanceOf(InvalidRequestException.class);
+    }
+}
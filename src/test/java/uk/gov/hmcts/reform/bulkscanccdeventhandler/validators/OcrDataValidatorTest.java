@@ -1,6 +1,7 @@
 package uk.gov.hmcts.reform.bulkscanccdeventhandler.validators;
 
 import org.junit.jupiter.api.Test;
+import uk.gov.hmcts.reform.bulkscanccdeventhandler.common.validation.OcrValidationPipeline;
 import uk.gov.hmcts.reform.bulkscanccdeventhandler.ocrvalidation.model.in.OcrDataField;
 import uk.gov.hmcts.reform.bulkscanccdeventhandler.ocrvalidation.model.out.ValidationStatus;
 import uk.gov.hmcts.reform.bulkscanccdeventhandler.ocrvalidation.services.OcrDataValidator;
@@ -27,10 +28,11 @@ import static uk.gov.hmcts.reform.bulkscanccdeventhandler.common.OcrFieldNames.P
 import static uk.gov.hmcts.reform.bulkscanccdeventhandler.ocrvalidation.model.FormType.PERSONAL;
 import static uk.gov.hmcts.reform.bulkscanccdeventhandler.ocrvalidation.model.out.ValidationStatus.ERRORS;
 import static uk.gov.hmcts.reform.bulkscanccdeventhandler.ocrvalidation.model.out.ValidationStatus.SUCCESS;
+import static uk.gov.hmcts.reform.bulkscanccdeventhandler.ocrvalidation.model.out.ValidationStatus.WARNINGS;
 
 class OcrDataValidatorTest {
 
-    private final OcrDataValidator validator = new OcrDataValidator();
+    private final OcrDataValidator validator = new OcrDataValidator(new OcrValidationPipeline());
 
     @Test
     void should_return_errors_and_warnings_when_mandatory_and_optional_fields_are_missing() {
@@ -56,7 +58,8 @@ class OcrDataValidatorTest {
                     "contact_number is missing",
                     "post_code is missing",
                     "email is missing",
-                    "date_of_birth is missing"
+                    "date_of_birth is missing",
+                    "at least one of email or contact_number should be provided"
                 ),
                 ValidationStatus.ERRORS
             );
@@ -89,7 +92,8 @@ class OcrDataValidatorTest {
                     "country is missing",
                     "contact_number is missing",
                     "post_code is missing",
-                    "email is missing"
+                    "email is missing",
+                    "at least one of email or contact_number should be provided"
                 ),
                 ValidationStatus.ERRORS
             );
@@ -241,4 +245,93 @@ class OcrDataValidatorTest {
                 ERRORS
             );
     }
+
+    @Test
+    void should_require_post_code_for_uk_address() {
+        // given
+        List<OcrDataField> ocrDataFields = asList(
+            new OcrDataField(FIRST_NAME, "test"),
+            new OcrDataField(LAST_NAME, "name"),
+            new OcrDataField(DATE_OF_BIRTH, "01-01-1990"),
+            new OcrDataField(ADDRESS_LINE_1, "1 Street"),
+            new OcrDataField(ADDRESS_LINE_2, "Victoria Street"),
+            new OcrDataField(ADDRESS_LINE_3, "London"),
+            new OcrDataField(POST_TOWN, "LONDON"),
+            new OcrDataField(POST_CODE, " "),
+            new OcrDataField(COUNTY, "county"),
+            new OcrDataField(COUNTRY, "United Kingdom"),
+            new OcrDataField(EMAIL, "xyz@something.com"),
+            new OcrDataField(CONTACT_NUMBER, "0123456789")
+        );
+
+        // when
+        OcrValidationResult result = validator.validate(PERSONAL, ocrDataFields);
+
+        // then
+        assertThat(result)
+            .extracting("errors", "warnings", "status")
+            .containsExactly(singletonList("post_code is required for UK addresses"), emptyList(), ERRORS);
+    }
+
+    @Test
+    void should_warn_when_neither_email_nor_contact_number_is_provided() {
+        // given
+        List<OcrDataField> ocrDataFields = asList(
+            new OcrDataField(FIRST_NAME, "test"),
+            new OcrDataField(LAST_NAME, "name"),
+            new OcrDataField(DATE_OF_BIRTH, "01-01-1990"),
+            new OcrDataField(ADDRESS_LINE_1, "1 Street"),
+            new OcrDataField(ADDRESS_LINE_2, "Victoria Street"),
+            new OcrDataField(ADDRESS_LINE_3, "London"),
+            new OcrDataField(POST_TOWN, "LONDON"),
+            new OcrDataField(POST_CODE, "SW1 1ER"),
+            new OcrDataField(COUNTY, "county"),
+            new OcrDataField(COUNTRY, "UK"),
+            new OcrDataField(EMAIL, ""),
+            new OcrDataField(CONTACT_NUMBER, " ")
+        );
+
+        // when
+        OcrValidationResult result = validator.validate(PERSONAL, ocrDataFields);
+
+        // then
+        assertThat(result)
+            .extracting("errors", "warnings", "status")
+            .containsExactly(
+                emptyList(),
+                singletonList("at least one of email or contact_number should be provided"),
+                WARNINGS
+            );
+    }
+
+    @Test
+    void should_reject_date_of_birth_giving_implausible_age() {
+        // given
+        List<OcrDataField> ocrDataFields = asList(
+            new OcrDataField(FIRST_NAME, "test"),
+            new OcrDataField(LAST_NAME, "name"),
+            new OcrDataField(DATE_OF_BIRTH, "1850-01-01"),
+            new OcrDataField(ADDRESS_LINE_1, "1 Street"),
+            new OcrDataField(ADDRESS_LINE_2, "Victoria Street"),
+            new OcrDataField(ADDRESS_LINE_3, "London"),
+            new OcrDataField(POST_TOWN, "LONDON"),
+            new OcrDataField(POST_CODE, "SW1 1ER"),
+            new OcrDataField(COUNTY, "county"),
+            new OcrDataField(COUNTRY, "UK"),
+            new OcrDataField(EMAIL, "xyz@something.com"),
+            new OcrDataField(CONTACT_NUMBER, "0123456789")
+        );
+
+        // when
+        OcrValidationResult result = validator.validate(PERSONAL, ocrDataFields);
+
+        // then
+        assertThat(result)
+            .extracting("errors", "warnings", "status")
+            .containsExactly(
+                singletonList("date_of_birth gives an age outside of 0 to 120 years"),
+                emptyList(),
+                ERRORS
+            );
+    }
 }